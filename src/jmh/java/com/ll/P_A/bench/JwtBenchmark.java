@@ -0,0 +1,75 @@
+package com.ll.P_A.bench;
+
+import com.ll.P_A.security.User;
+import com.ll.P_A.security.jwt.CustomUserDetails;
+import com.ll.P_A.security.jwt.CustomUserDetailsService;
+import com.ll.P_A.security.jwt.JwtAuthenticationFilter;
+import com.ll.P_A.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증과 인증 필터 1회 처리 비용 (DB 조회는 고정 사용자로 대체)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "ThisIsALongEnoughJwtSecretForBenchmarks_AtLeast32Chars!!";
+
+    private JwtTokenProvider provider;
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, "", "", "", 900_000, 1_209_600_000, new SimpleMeterRegistry());
+        accessToken = provider.generateAccessToken("bench-user");
+
+        UserDetails user = new CustomUserDetails(User.builder()
+                .id(1L).username("bench-user").password("x").nickname("bench").email("bench@example.com")
+                .enabled(true).build());
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(null) {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+                return user;
+            }
+        };
+        filter = new JwtAuthenticationFilter(provider, userDetailsService);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateAccessToken("bench-user");
+    }
+
+    // 필터가 토큰마다 수행하는 검증 + 타입/subject 조회
+    @Benchmark
+    public void parseAccessToken(Blackhole bh) {
+        bh.consume(provider.validateToken(accessToken));
+        bh.consume(provider.getTokenType(accessToken));
+        bh.consume(provider.getUsernameFromToken(accessToken));
+    }
+
+    @Benchmark
+    public Object filterWithValidToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/pay/orders/history");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
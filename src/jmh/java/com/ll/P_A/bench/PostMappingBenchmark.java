@@ -0,0 +1,60 @@
+package com.ll.P_A.bench;
+
+import com.ll.P_A.post.PostEntity;
+import com.ll.P_A.post.PostResponseDto;
+import com.ll.P_A.security.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지(20건) → PostResponseDto 변환 (likedByMe 판단 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PostMappingBenchmark {
+
+    @Param({"0", "50", "1000"})
+    public int likesPerPost;
+
+    private List<PostEntity> page;
+    private User loginUser;
+
+    @Setup
+    public void setUp() {
+        User author = user(1L);
+        loginUser = user(2L);
+        page = new ArrayList<>(20);
+        for (long i = 0; i < 20; i++) {
+            Set<User> liked = new HashSet<>();
+            for (long u = 0; u < likesPerPost; u++) {
+                liked.add(user(1000 + u));
+            }
+            page.add(PostEntity.builder()
+                    .id(i).title("제목 " + i).content("본문 ".repeat(50)).author(author)
+                    .likedUsers(liked).likeCount(liked.size())
+                    .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    private static User user(long id) {
+        return User.builder().id(id).username("user" + id).password("x").nickname("n" + id)
+                .email("user" + id + "@example.com").build();
+    }
+
+    @Benchmark
+    public List<PostResponseDto> mapPage() {
+        List<PostResponseDto> result = new ArrayList<>(page.size());
+        for (PostEntity post : page) {
+            result.add(new PostResponseDto(post, loginUser));
+        }
+        return result;
+    }
+}
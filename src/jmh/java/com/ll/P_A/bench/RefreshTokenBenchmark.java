@@ -0,0 +1,64 @@
+package com.ll.P_A.bench;
+
+import com.ll.P_A.security.RefreshTokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RefreshTokenService 메모리 모드(Redis 미주입) 저장/조회/폐기
+ * - 반복(iteration)마다 새 서비스로 시작해 저장소 크기가 계속 커지지 않게 함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RefreshTokenBenchmark {
+
+    private static final int PRELOADED = 10_000;
+
+    private RefreshTokenService service;
+    private String[] tokens;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        DefaultListableBeanFactory emptyFactory = new DefaultListableBeanFactory();
+        service = new RefreshTokenService(emptyFactory.getBeanProvider(
+                ResolvableType.forClassWithGenerics(RedisTemplate.class, String.class, Object.class)));
+
+        Instant expiresAt = Instant.now().plus(14, ChronoUnit.DAYS);
+        tokens = new String[PRELOADED];
+        for (int i = 0; i < PRELOADED; i++) {
+            tokens[i] = "preloaded-refresh-token-" + i;
+            service.storeActiveToken(tokens[i], (long) (i % 1000), UUID.randomUUID().toString(),
+                    "device", "family-" + i, expiresAt);
+        }
+    }
+
+    @Benchmark
+    public void store() {
+        long n = sequence++;
+        service.storeActiveToken("refresh-token-" + n, n % 1000, "jti-" + n, "device", "family-" + n,
+                Instant.now().plus(14, ChronoUnit.DAYS));
+    }
+
+    @Benchmark
+    public RefreshTokenService.RefreshRecord find() {
+        return service.findByToken(tokens[(int) (sequence++ % PRELOADED)]);
+    }
+
+    @Benchmark
+    public void storeThenRevoke() {
+        long n = sequence++;
+        String token = "revoked-token-" + n;
+        service.storeActiveToken(token, n % 1000, "jti-" + n, "device", "family-r" + n,
+                Instant.now().plus(14, ChronoUnit.DAYS));
+        service.revokeByToken(token);
+    }
+}
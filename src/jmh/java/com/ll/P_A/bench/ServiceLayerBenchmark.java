@@ -0,0 +1,91 @@
+package com.ll.P_A.bench;
+
+import com.ll.P_A.PAApplication;
+import com.ll.P_A.payment.order.Order;
+import com.ll.P_A.payment.order.OrderService;
+import com.ll.P_A.post.PostRequestDto;
+import com.ll.P_A.post.PostResponseDto;
+import com.ll.P_A.post.PostService;
+import com.ll.P_A.security.User;
+import com.ll.P_A.security.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임베디드 H2 위에서 서비스 계층 전체 경로 (트랜잭션/JPA/아웃박스 포함)
+ * - 컨텍스트는 벤치마크(trial)당 한 번 기동, 스케줄 잡은 실행 중 끼어들지 않도록 지연
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ServiceLayerBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private OrderService orderService;
+    private User author;
+    private Long postId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PAApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                        "trade.order-expiry.initial-delay-ms=86400000",
+                        "toss.recovery.initial-delay-ms=86400000"
+                )
+                .run();
+
+        postService = context.getBean(PostService.class);
+        orderService = context.getBean(OrderService.class);
+        author = context.getBean(UserRepository.class).save(User.builder()
+                .username("bench-author").password("x").nickname("bench").email("bench@example.com")
+                .enabled(true).build());
+
+        for (int i = 0; i < 200; i++) {
+            postId = postService.create(new PostRequestDto("제목 " + i, "본문 " + i, null), author);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createPost() {
+        return postService.create(new PostRequestDto("벤치 제목", "벤치 본문", null), author);
+    }
+
+    @Benchmark
+    public Page<PostResponseDto> listPosts() {
+        return postService.getAll(author, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id")), null);
+    }
+
+    @Benchmark
+    public PostResponseDto getPost() {
+        return postService.getById(postId, author);
+    }
+
+    // 주문 생성 → 결제 완료 → 배송 → 구매 확정 (전이마다 트랜잭션 + 아웃박스 기록)
+    @Benchmark
+    public Long orderLifecycle() {
+        Order order = orderService.createOrder(author.getId(), 1L, 10_000L, null);
+        orderService.markOrderPaid(order.getId());
+        orderService.markOrderShipped(order.getId());
+        orderService.markOrderCompleted(order.getId());
+        return order.getId();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ll.P_A.bench;
+
+import com.ll.P_A.security.SecurityPaths;
+import com.ll.P_A.security.jwt.SkipPathMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 필터 shouldNotFilter 경로 판정 비용 (모든 요청에서 실행)
+ * - antLoop: 이전 방식 (AntPathMatcher 로 패턴 ~25개 순회)
+ * - compiled: SkipPathMatcher (정확/접두사/확장자 조회)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SkipPathBenchmark {
+
+    @Param({"/api/pay/orders/history", "/api/auth/login", "/swagger-ui/index.html", "/images/logo.png"})
+    public String path;
+
+    private final AntPathMatcher antMatcher = new AntPathMatcher();
+    private String[] antPatterns;
+    private SkipPathMatcher compiled;
+
+    @Setup
+    public void setUp() {
+        List<String> patterns = new ArrayList<>();
+        for (String[] group : List.of(SecurityPaths.PUBLIC, SecurityPaths.AUTH_PUBLIC, SecurityPaths.SWAGGER, SecurityPaths.H2)) {
+            patterns.addAll(List.of(group));
+        }
+        for (String ext : SecurityPaths.STATIC_EXTENSIONS) {
+            patterns.add("**/*." + ext);
+        }
+        antPatterns = patterns.toArray(String[]::new);
+        compiled = new SkipPathMatcher(
+                List.of(SecurityPaths.PUBLIC, SecurityPaths.AUTH_PUBLIC, SecurityPaths.SWAGGER, SecurityPaths.H2),
+                SecurityPaths.STATIC_EXTENSIONS);
+    }
+
+    @Benchmark
+    public boolean antLoop() {
+        for (String pattern : antPatterns) {
+            if (antMatcher.match(pattern, path)) return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiled.matches(path);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ll.P_A.bench;
+
+import com.ll.P_A.payment.order.Order;
+import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.payment.Payment;
+import com.ll.P_A.payment.payment.PaymentStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문/결제 도메인 상태 전이 (영속성 없이 엔티티 메서드만)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class StateTransitionBenchmark {
+
+    @Benchmark
+    public Order orderLifecycle() {
+        Order order = Order.builder().id(1L).amount(10_000L).status(OrderStatus.PENDING).build();
+        order.markPaid();
+        order.markShipped();
+        order.markCompleted();
+        return order;
+    }
+
+    // 승인 → 부분 환불 → 잔액 환불
+    @Benchmark
+    public Payment paymentConfirmAndRefunds() {
+        Payment payment = Payment.builder().id(1L).amount(10_000L).status(PaymentStatus.INITIATED).build();
+        payment.beginConfirm("pk");
+        payment.markSucceeded("pk");
+        payment.beginRefund(3_000);
+        payment.applyRefund(3_000);
+        payment.beginRefund(payment.getRefundableAmount());
+        payment.applyRefund(payment.getRefundableAmount());
+        return payment;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ll.P_A.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 결제 복구 등 주기 작업 활성화 (실행기 스레드 수는 spring.task.scheduling.pool.size)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,25 @@
+package com.ll.P_A.global.datasource;
+
+/**
+ * 현재 스레드(요청)의 primary 강제 여부
+ * - 쓰기 요청 처리 중이거나 방금 쓰기를 한 사용자의 요청, 결제 패키지 호출 중이면 읽기 전용 트랜잭션도 primary 로 보냄
+ */
+public final class DataSourceRouteContext {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouteContext() {
+    }
+
+    public static void forcePrimary() {
+        FORCE_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(FORCE_PRIMARY.get());
+    }
+
+    public static void clear() {
+        FORCE_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,33 @@
+package com.ll.P_A.global.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 결제 패키지(com.ll.P_A.payment..) 빈 호출 동안 primary 강제
+ * - jakarta @Transactional 에는 readOnly 가 없지만, SUPPORTS/트랜잭션 없는 메서드 안의 Spring Data 호출은
+ *   리포지토리 자체의 readOnly 트랜잭션으로 열려 복제본으로 갈 수 있음 → 복구 잡/상태 전이가 지연된 상태를 보고 동작
+ * - 이미 강제 중이면(쓰기 요청/sticky) 그대로 두고, 여기서 설정한 경우에만 해제
+ * - 트랜잭션 인터셉터보다 바깥에서 실행 (커넥션은 첫 쿼리 시점에 얻으므로 순서와 무관하게 적용되지만 명시)
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PaymentPrimaryPinningAspect {
+
+    @Around("within(com.ll.P_A.payment..*) && "
+            + "(@within(org.springframework.stereotype.Service) || @within(org.springframework.stereotype.Component))")
+    public Object pinToPrimary(ProceedingJoinPoint pjp) throws Throwable {
+        if (DataSourceRouteContext.isPrimaryForced()) {
+            return pjp.proceed();
+        }
+        DataSourceRouteContext.forcePrimary();
+        try {
+            return pjp.proceed();
+        } finally {
+            DataSourceRouteContext.clear();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ll.P_A.global.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 primary 강제 설정
+ * - POST/PUT/PATCH/DELETE: 요청 전체를 primary 로 (쓰기 직후 같은 요청 안의 재조회 포함)
+ * - 최근 쓰기를 한 사용자의 GET: primary 로
+ * - 쓰기 요청이 성공(4xx/5xx 아님)하면 그 사용자를 sticky 로 기록
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        boolean write = isWrite(request.getMethod());
+        String user = currentUser();
+        if (write || (user != null && tracker.isSticky(user))) {
+            DataSourceRouteContext.forcePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRouteContext.clear();
+            if (write && user != null && response.getStatus() < 400) {
+                tracker.markWrite(user);
+            }
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
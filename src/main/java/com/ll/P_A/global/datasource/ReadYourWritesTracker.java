@@ -0,0 +1,37 @@
+package com.ll.P_A.global.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각 기록 (read-your-writes)
+ * - 쓰기 후 stickyMillis 동안 그 사용자의 읽기는 primary 로 → 복제 지연 중 자기 글이 안 보이는 문제 방지
+ * - 인스턴스 메모리 기준: 같은 사용자의 후속 요청이 다른 인스턴스로 가면 그 인스턴스에서는 적용되지 않음
+ *   (lag 허용치를 stickiness 보다 작게 두면 영향 최소화)
+ */
+public class ReadYourWritesTracker {
+
+    private final ConcurrentHashMap<String, Long> lastWriteMillis = new ConcurrentHashMap<>();
+    private final long stickyMillis;
+
+    public ReadYourWritesTracker(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    public void markWrite(String user) {
+        lastWriteMillis.put(user, System.currentTimeMillis());
+    }
+
+    public boolean isSticky(String user) {
+        Long at = lastWriteMillis.get(user);
+        return at != null && System.currentTimeMillis() - at < stickyMillis;
+    }
+
+    // 만료된 기록 정리 (맵이 사용자 수만큼 계속 커지지 않도록)
+    @Scheduled(fixedDelayString = "${trade.datasource.routing.sticky-sweep-ms:60000}")
+    public void sweepExpired() {
+        long cutoff = System.currentTimeMillis() - stickyMillis;
+        lastWriteMillis.values().removeIf(at -> at < cutoff);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ll.P_A.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제본별 복제 지연을 주기적으로 확인해 라우팅 가능 여부를 결정
+ * - SHOW REPLICA STATUS 의 Seconds_Behind_Source(구버전: Seconds_Behind_Master) 사용
+ * - 지연이 maxLagSeconds 초과, 복제 중단(null), 조회 실패 → 제외 (해당 읽기는 primary 로)
+ * - 첫 확인 전에는 제외 상태로 시작
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final long UNKNOWN = -1;
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final Set<String> available = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+        for (String name : replicas.keySet()) {
+            lagSeconds.put(name, UNKNOWN);
+            Gauge.builder("app.datasource.replica.lag", lagSeconds, m -> m.getOrDefault(name, UNKNOWN))
+                    .description("복제본 지연(초), -1 = 알 수 없음/중단")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("app.datasource.replica.available", available, s -> s.contains(name) ? 1 : 0)
+                    .description("읽기 라우팅 대상 여부")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    public Map<String, DataSource> replicaDataSources() {
+        return replicas;
+    }
+
+    public boolean isAvailable(String replica) {
+        return available.contains(replica);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${trade.datasource.routing.lag-check-ms:5000}",
+            initialDelayString = "${trade.datasource.routing.lag-check-initial-delay-ms:0}"
+    )
+    public void check() {
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            Long lag;
+            try {
+                lag = queryLag(replica.getValue());
+            } catch (SQLException e) {
+                log.warn("[ReplicaLag] {} 지연 조회 실패: {}", replica.getKey(), e.getMessage());
+                lag = null;
+            }
+            recordLag(replica.getKey(), lag);
+        }
+    }
+
+    /** @param lag 지연(초), null 이면 복제 중단/조회 실패 */
+    public void recordLag(String replica, Long lag) {
+        lagSeconds.put(replica, lag != null ? lag : UNKNOWN);
+        boolean ok = lag != null && lag <= maxLagSeconds;
+        boolean changed = ok ? available.add(replica) : available.remove(replica);
+        if (changed) {
+            log.info("[ReplicaLag] {} 라우팅 {} (lag={}s, max={}s)", replica, ok ? "포함" : "제외", lag, maxLagSeconds);
+        }
+    }
+
+    private static Long queryLag(DataSource dataSource) throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return 0L; // 복제 설정 없음 (primary 를 가리키는 개발용 설정 등)
+            }
+            String column = hasColumn(rs.getMetaData(), "Seconds_Behind_Source")
+                    ? "Seconds_Behind_Source" : "Seconds_Behind_Master";
+            long lag = rs.getLong(column);
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    private static boolean hasColumn(ResultSetMetaData meta, String name) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (name.equalsIgnoreCase(meta.getColumnLabel(i))) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ll.P_A.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 readOnly 여부로 primary/복제본을 고르는 DataSource
+ * - readOnly 트랜잭션만 복제본, 요청 sticky/결제 패키지 호출 중에는 readOnly 여도 primary (DataSourceRouteContext)
+ * - 사용 가능한 복제본 사이 라운드로빈, 모두 지연/장애면 primary 로 대체
+ * - 커넥션 획득 시점에 readOnly 가 결정돼 있도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // route 태그: primary/복제본 이름, reason 태그: write / read / sticky(강제, 결제 고정 포함) / fallback
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public ReplicaRoutingDataSource(List<String> replicas, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.lagMonitor = lagMonitor;
+        for (String reason : List.of("write", "sticky", "fallback")) {
+            counters.put(PRIMARY + ":" + reason, counter(meterRegistry, PRIMARY, reason));
+        }
+        for (String replica : this.replicas) {
+            counters.put(replica + ":read", counter(meterRegistry, replica, "read"));
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String route, String reason) {
+        return Counter.builder("app.datasource.route")
+                .description("DataSource 라우팅 결정 수")
+                .tag("route", route)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return route(PRIMARY, "write");
+        }
+        if (DataSourceRouteContext.isPrimaryForced()) {
+            return route(PRIMARY, "sticky");
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String replica = replicas.get((start + i) % size);
+            if (lagMonitor.isAvailable(replica)) {
+                return route(replica, "read");
+            }
+        }
+        return route(PRIMARY, "fallback");
+    }
+
+    private String route(String target, String reason) {
+        counters.get(target + ":" + reason).increment();
+        return target;
+    }
+}
@@ -0,0 +1,132 @@
+package com.ll.P_A.global.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 (trade.datasource.routing.enabled=true 일 때만, 기본은 단일 DataSource)
+ * - primary: spring.datasource.* / spring.datasource.hikari.* 그대로 사용
+ * - 복제본: replica-urls 의 각 URL 로 primary 와 같은 풀 설정(크기만 별도)의 읽기 전용 풀 생성
+ * - 풀 지표는 각 풀에 hikaricp.* (pool 태그 = 풀 이름) 로 등록
+ * - 결제 패키지는 읽기도 항상 primary (PaymentPrimaryPinningAspect)
+ */
+@Configuration
+@ConditionalOnProperty(name = "trade.datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${trade.datasource.routing.sticky-ms:5000}") long stickyMillis
+    ) {
+        return new ReadYourWritesTracker(stickyMillis);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${trade.datasource.routing.replica-urls}") String replicaUrls,
+            @Value("${trade.datasource.routing.replica-pool-size:0}") int replicaPoolSize,
+            @Value("${trade.datasource.routing.max-lag-seconds:3}") long maxLagSeconds
+    ) {
+        HikariConfig base = primaryConfig(properties, environment);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("trade.datasource.routing.replica-urls 가 비어 있습니다.");
+        }
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + i;
+            HikariConfig config = new HikariConfig();
+            base.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i));
+            config.setPoolName(base.getPoolName() + "-" + name);
+            config.setReadOnly(true);
+            if (replicaPoolSize > 0) {
+                config.setMaximumPoolSize(replicaPoolSize);
+                config.setMinimumIdle(replicaPoolSize);
+            }
+            replicas.put(name, pool(config, meterRegistry));
+        }
+        return new ReplicaLagMonitor(replicas, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            ReplicaLagMonitor lagMonitor
+    ) {
+        Map<Object, Object> targets = new HashMap<>(lagMonitor.replicaDataSources());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, pool(primaryConfig(properties, environment), meterRegistry));
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                new ArrayList<>(lagMonitor.replicaDataSources().keySet()), lagMonitor, meterRegistry);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(ReplicaRoutingDataSource.PRIMARY));
+        routing.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 얻어야 readOnly 플래그로 라우팅 가능
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public PaymentPrimaryPinningAspect paymentPrimaryPinningAspect() {
+        return new PaymentPrimaryPinningAspect();
+    }
+
+    // 인증 정보를 써야 하므로 시큐리티 필터 다음 순서
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilterRegistration(ReadYourWritesTracker tracker) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(tracker));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    private static HikariConfig primaryConfig(DataSourceProperties properties, Environment environment) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        if (config.getPoolName() == null) {
+            config.setPoolName("trade-hikari");
+        }
+        return config;
+    }
+
+    private static HikariDataSource pool(HikariConfig config, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        config.copyStateTo(dataSource);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
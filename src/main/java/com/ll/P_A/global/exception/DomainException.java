@@ -0,0 +1,37 @@
+package com.ll.P_A.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 비즈니스 규칙 위반(조회 실패/상태 전이 불가/인증 실패 등)을 나타내는 예외
+ * - 예상된 거절이라 스택 트레이스를 채우지 않음 (던지는 비용 ≒ 객체 할당 1회)
+ * - 응답은 ErrorCode 단위로 고정, 상세 값은 getMessage() 에서만 지연 포맷
+ */
+@Getter
+public class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+    private final Object[] details;
+
+    protected DomainException(ErrorCode errorCode, Object[] details) {
+        super(null, null, false, false);
+        this.errorCode = errorCode;
+        this.details = details;
+    }
+
+    static DomainException create(ErrorCode errorCode, Object[] details) {
+        return switch (errorCode.getStatus()) {
+            case NOT_FOUND -> new NotFoundException(errorCode, details);
+            case CONFLICT -> new InvalidStateException(errorCode, details);
+            default -> new DomainException(errorCode, details);
+        };
+    }
+
+    @Override
+    public String getMessage() {
+        if (details == null || details.length == 0 || errorCode.getDetailFormat() == null) {
+            return errorCode.getMessage();
+        }
+        return errorCode.getMessage() + ": " + errorCode.getDetailFormat().formatted(details);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ll.P_A.global.exception;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 비즈니스 거절 사유별 고정 에러 코드
+ * - 응답 본문(status/code/message)은 코드마다 고정 → GlobalExceptionHandler 가 미리 직렬화해 재사용
+ * - detailFormat 은 로그/내부 처리용 상세(getMessage)에만 쓰이고 응답에는 나가지 않음
+ * - 404 → NotFoundException, 409 → InvalidStateException, 그 외 → DomainException
+ */
+@Getter
+public enum ErrorCode {
+
+    /* ---------- 회원/인증 ---------- */
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다."),
+    EMAIL_NOT_VERIFIED(HttpStatus.FORBIDDEN, "이메일 인증을 완료해주세요."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않는 접근 방식입니다."),
+    REAUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "세션이 만료되었거나 보안상 재로그인이 필요합니다."),
+    MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 사용자를 찾을 수 없습니다."),
+    DUPLICATE_USERNAME(HttpStatus.CONFLICT, "이미 사용 중인 아이디입니다."),
+    DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
+    INVALID_VERIFICATION_TOKEN(HttpStatus.BAD_REQUEST, "유효하지 않은 접근 방식입니다."),
+    VERIFICATION_TOKEN_EXPIRED(HttpStatus.BAD_REQUEST, "인증 링크가 만료되었습니다. 인증 메일을 다시 요청해 주세요."),
+    PASSWORD_MISMATCH(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
+    NOT_AUTHOR(HttpStatus.FORBIDDEN, "작성자만 접근할 수 있습니다."),
+
+    /* ---------- 게시글/댓글 ---------- */
+    POST_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 게시글입니다."),
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글이 존재하지 않습니다."),
+    SELF_LIKE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "본인 게시글에는 좋아요를 누를 수 없습니다."),
+
+    /* ---------- 주문/결제 ---------- */
+    ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다.", "orderId=%s"),
+    PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "결제를 찾을 수 없습니다.", "paymentId=%s"),
+    LEDGER_NOT_FOUND(HttpStatus.NOT_FOUND, "결제 내역이 없는 주문입니다.", "orderId=%s"),
+    ORDER_NOT_PAYABLE(HttpStatus.CONFLICT, "결제 가능한 주문 상태가 아님", "현재=%s"),
+    ORDER_NOT_REFUNDABLE(HttpStatus.CONFLICT, "환불할 수 없는 주문 상태", "현재=%s"),
+    ORDER_TRANSITION_NOT_ALLOWED(HttpStatus.CONFLICT, "주문 상태 전이 불가", "현재=%s, 기대=%s"),
+    PAYMENT_TRANSITION_NOT_ALLOWED(HttpStatus.CONFLICT, "결제 상태 전이 불가", "현재=%s, 기대=%s"),
+    PAYMENT_ALREADY_SUCCEEDED(HttpStatus.CONFLICT, "이미 성공한 결제는 실패로 변경할 수 없습니다."),
+    PAYMENT_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 처리된 결제", "현재=%s"),
+    PAYMENT_NOT_REFUNDABLE(HttpStatus.CONFLICT, "성공한 결제만 환불할 수 있습니다."),
+    DUPLICATE_PAYMENT_REQUEST(HttpStatus.CONFLICT, "이미 처리된 결제 요청(Idempotency-Key 중복)", "key=%s"),
+    PAYMENT_KEY_CONFLICT(HttpStatus.CONFLICT, "다른 주문에 사용된 paymentKey", "기존 orderId=%s, 요청 orderId=%s"),
+    AMOUNT_MISMATCH(HttpStatus.BAD_REQUEST, "금액 불일치", "expected=%s request=%s"),
+    INVALID_REFUND_AMOUNT(HttpStatus.BAD_REQUEST, "환불 금액은 0보다 커야 합니다."),
+    REFUND_EXCEEDS_BALANCE(HttpStatus.CONFLICT, "환불 가능 금액 초과", "요청=%s, 가능=%s"),
+    REFUND_AMOUNT_CONFLICT(HttpStatus.CONFLICT, "진행 중인 환불과 금액이 다릅니다.", "진행중=%s, 요청=%s");
+
+    private final HttpStatus status;
+    private final String message;
+    private final String detailFormat;
+
+    // 고정 메시지 거절용 공유 인스턴스 (스택 트레이스/cause/suppressed 가 없어 재사용해도 안전)
+    @Getter(AccessLevel.NONE)
+    private final DomainException shared;
+
+    ErrorCode(HttpStatus status, String message) {
+        this(status, message, null);
+    }
+
+    ErrorCode(HttpStatus status, String message, String detailFormat) {
+        this.status = status;
+        this.message = message;
+        this.detailFormat = detailFormat;
+        this.shared = DomainException.create(this, null);
+    }
+
+    // 상세 없이 던질 때: 미리 만들어 둔 인스턴스 재사용 (할당 없음)
+    public DomainException exception() {
+        return shared;
+    }
+
+    // 상세 값과 함께 던질 때: 메시지 문자열은 getMessage() 호출 시에만 만듦
+    public DomainException exception(Object... details) {
+        return DomainException.create(this, details);
+    }
+}
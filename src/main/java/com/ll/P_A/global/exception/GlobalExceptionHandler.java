@@ -1,9 +1,17 @@
 package com.ll.P_A.global.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.P_A.payment.toss.TossUnavailableException;
+import com.ll.P_A.security.login.LoginThrottledException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -15,13 +23,40 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Hidden
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // ErrorCode 별로 미리 직렬화한 응답 (요청마다 Map 생성/JSON 직렬화 없음)
+    private final Map<ErrorCode, ResponseEntity<byte[]>> domainErrorResponses;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper) {
+        this.domainErrorResponses = precompute(objectMapper);
+    }
+
+    private static Map<ErrorCode, ResponseEntity<byte[]>> precompute(ObjectMapper objectMapper) {
+        Map<ErrorCode, ResponseEntity<byte[]>> responses = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode code : ErrorCode.values()) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("status", code.getStatus().value());
+            body.put("code", code.name());
+            body.put("message", code.getMessage());
+            try {
+                responses.put(code, ResponseEntity.status(code.getStatus())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(objectMapper.writeValueAsBytes(body)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 직렬화 실패: " + code, e);
+            }
+        }
+        return responses;
+    }
+
     /* ---------- 공통 에러 응답 빌더 ---------- */
     private ResponseEntity<Map<String, Object>> error(HttpStatus status, String code, String message) {
         return error(status, code, message, null);
@@ -71,6 +106,25 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "접근 권한이 없습니다.");
     }
 
+    // 로그인 시도 한도 초과: 429 + Retry-After
+    @Hidden
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<Map<String, Object>> handleLoginThrottled(LoginThrottledException ex) {
+        ResponseEntity<Map<String, Object>> base = error(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_ATTEMPTS", ex.getMessage());
+        return ResponseEntity.status(base.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(base.getBody());
+    }
+
+    /* ---------- 도메인 규칙 위반 ---------- */
+
+    // 조회 실패(404)/상태 충돌(409)/인증 실패(401) 등: 고정 본문 재사용 (timestamp 는 Date 헤더로 대신함)
+    @Hidden
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<byte[]> handleDomain(DomainException ex) {
+        return domainErrorResponses.get(ex.getErrorCode());
+    }
+
     /* ---------- 요청/검증 오류 ---------- */
 
     // @Valid 본문 바인딩 오류: 400 + 필드 상세
@@ -115,6 +169,22 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.BAD_REQUEST, "INVALID_STATE", ex.getMessage());
     }
 
+    // 동시 수정(@Version 충돌)이 재시도 후에도 해소되지 않음: 409 (클라이언트 재시도 가능)
+    @Hidden
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<Map<String, Object>> handleOptimisticLock(Exception ex) {
+        return error(HttpStatus.CONFLICT, "CONCURRENT_MODIFICATION", "다른 요청과 동시에 처리되었습니다. 다시 시도해주세요.");
+    }
+
+    /* ---------- 외부 연동(PG) ---------- */
+
+    // PG 타임아웃/장애/서킷 오픈: 결과 불명 → 503 (재시도 가능)
+    @Hidden
+    @ExceptionHandler(TossUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handlePgUnavailable(TossUnavailableException ex) {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, "PG_UNAVAILABLE", "결제사 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+
     /* ---------- 그 외(서버 오류) ---------- */
 
     @Hidden
@@ -0,0 +1,11 @@
+package com.ll.P_A.global.exception;
+
+/**
+ * 현재 상태와 충돌하는 요청 (409): 상태 전이 불가, 중복 요청, 환불 한도 초과 등
+ */
+public class InvalidStateException extends DomainException {
+
+    InvalidStateException(ErrorCode errorCode, Object[] details) {
+        super(errorCode, details);
+    }
+}
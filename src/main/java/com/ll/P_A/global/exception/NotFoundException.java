@@ -0,0 +1,11 @@
+package com.ll.P_A.global.exception;
+
+/**
+ * 대상 리소스 없음 (404)
+ */
+public class NotFoundException extends DomainException {
+
+    NotFoundException(ErrorCode errorCode, Object[] details) {
+        super(errorCode, details);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ll.P_A.global.metrics;
+
+import com.ll.P_A.global.ratelimit.LocalRateLimiter;
+import com.ll.P_A.payment.precheckout.InMemoryPrecheckoutRegistry;
+import com.ll.P_A.security.RefreshTokenService;
+import com.ll.P_A.security.login.StripedLoginAttemptStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 메모리 저장소 크기 게이지: app.cache.size{cache}
+ * - memory 모드로 떠 있는 저장소만 등록 (redis 모드면 빈이 없어 건너뜀)
+ */
+@Component
+@RequiredArgsConstructor
+public class InMemoryStoreMetrics implements MeterBinder {
+
+    private final ObjectProvider<InMemoryPrecheckoutRegistry> precheckoutRegistry;
+    private final ObjectProvider<LocalRateLimiter> rateLimiter;
+    private final ObjectProvider<StripedLoginAttemptStore> loginAttemptStore;
+    private final ObjectProvider<RefreshTokenService> refreshTokenService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        precheckoutRegistry.ifAvailable(r -> gauge(registry, "precheckout", r::size));
+        rateLimiter.ifAvailable(r -> gauge(registry, "rate-limit-buckets", r::size));
+        loginAttemptStore.ifAvailable(s -> gauge(registry, "login-attempts", s::size));
+        refreshTokenService.ifAvailable(s -> {
+            if (!s.isRedisBacked()) gauge(registry, "refresh-tokens", s::memorySize);
+        });
+    }
+
+    private static void gauge(MeterRegistry registry, String cache, Supplier<Number> size) {
+        Gauge.builder("app.cache.size", size)
+                .description("메모리 저장소 항목 수")
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
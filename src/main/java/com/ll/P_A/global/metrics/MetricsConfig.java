@@ -0,0 +1,34 @@
+package com.ll.P_A.global.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메트릭 공통 설정
+ * - @Timed/@Counted 처리는 management.observations.annotations.enabled 로 활성화 (application.yml)
+ * - 히스토그램/백분위 버킷은 management.metrics.distribution.* 에서 설정
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterFilter commonApplicationTag(@Value("${spring.application.name:P_A}") String application) {
+        return MeterFilter.commonTags(List.of(Tag.of("application", application)));
+    }
+
+    @Bean
+    public MeterFilter tagCardinalityLimiter(
+            @Value("${app.metrics.max-tag-values:100}") int maxTagValues,
+            @Value("${app.metrics.max-tag-keys:2000}") int maxTagKeys
+    ) {
+        return new TagCardinalityLimiter(
+                Set.of("userId", "username", "email", "orderId", "paymentKey", "token", "jti"),
+                maxTagValues, maxTagKeys);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ll.P_A.global.metrics;
+
+import com.ll.P_A.mail.OutboundMailRepository;
+import com.ll.P_A.mail.OutboundMailStatus;
+import com.ll.P_A.payment.outbox.OutboxEventRepository;
+import com.ll.P_A.payment.outbox.OutboxEventStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 깊이 게이지: app.queue.depth{queue=mail|outbox}
+ * - 스크레이프마다 COUNT 쿼리를 날리지 않도록 주기적으로 갱신한 값을 노출
+ */
+@Slf4j
+@Component
+public class QueueDepthMetrics {
+
+    private final OutboundMailRepository mailRepository;
+    private final OutboxEventRepository outboxRepository;
+
+    private final AtomicLong mailPending = new AtomicLong();
+    private final AtomicLong outboxUnpublished = new AtomicLong();
+
+    public QueueDepthMetrics(
+            OutboundMailRepository mailRepository,
+            OutboxEventRepository outboxRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.mailRepository = mailRepository;
+        this.outboxRepository = outboxRepository;
+
+        Gauge.builder("app.queue.depth", mailPending, AtomicLong::get)
+                .description("발송 대기 메일 수")
+                .tag("queue", "mail")
+                .register(meterRegistry);
+        Gauge.builder("app.queue.depth", outboxUnpublished, AtomicLong::get)
+                .description("미발행 아웃박스 이벤트 수")
+                .tag("queue", "outbox")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.metrics.queue-depth-refresh-ms:30000}")
+    public void refresh() {
+        try {
+            mailPending.set(mailRepository.countByStatus(OutboundMailStatus.PENDING));
+            outboxUnpublished.set(outboxRepository.countByStatus(OutboxEventStatus.PENDING));
+        } catch (RuntimeException e) {
+            log.warn("대기열 깊이 갱신 실패: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ll.P_A.global.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 태그 카디널리티 제한 (app.* / http.server.requests 메트릭)
+ * - 식별자성 태그(userId, orderId 등)는 제거
+ * - (메트릭, 태그 키)별 값 종류가 maxValues 를 넘으면 이후 새 값은 "OTHER" 로 합침
+ *   → 실수로 높은 카디널리티 값을 태그로 넣어도 시계열 수가 폭증하지 않음
+ * - 추적하는 (메트릭, 태그 키) 조합도 maxKeys 로 제한 → 넘으면 새 조합의 값은 기록 없이 "OTHER"
+ *   (동적으로 만든 메트릭 이름/태그 키가 있어도 seen 이 무한히 커지지 않음)
+ * - map 은 미터 등록 시점에만 호출되므로 잠금 비용은 무시 가능
+ *   (가상 스레드 모드에서도 캐리어 스레드를 붙잡지 않도록 ReentrantLock 사용)
+ */
+public class TagCardinalityLimiter implements MeterFilter {
+
+    static final String OVERFLOW = "OTHER";
+
+    private final Set<String> forbiddenKeys;
+    private final int maxValues;
+    private final int maxKeys;
+    private final Map<String, Set<String>> seen = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TagCardinalityLimiter(Set<String> forbiddenKeys, int maxValues, int maxKeys) {
+        this.forbiddenKeys = Set.copyOf(forbiddenKeys);
+        this.maxValues = maxValues;
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public Meter.Id map(Meter.Id id) {
+        if (!applies(id.getName())) return id;
+
+        List<Tag> tags = new ArrayList<>();
+        boolean changed = false;
+        for (Tag tag : id.getTagsAsIterable()) {
+            if (forbiddenKeys.contains(tag.getKey())) {
+                changed = true;
+                continue;
+            }
+            String value = limit(id.getName() + "|" + tag.getKey(), tag.getValue());
+            if (!value.equals(tag.getValue())) changed = true;
+            tags.add(Tag.of(tag.getKey(), value));
+        }
+        return changed ? id.replaceTags(tags) : id;
+    }
+
+    private String limit(String key, String value) {
+        lock.lock();
+        try {
+            Set<String> values = seen.get(key);
+            if (values == null) {
+                if (seen.size() >= maxKeys) return OVERFLOW;
+                values = new HashSet<>();
+                seen.put(key, values);
+            }
+            if (values.contains(value)) return value;
+            if (values.size() >= maxValues) return OVERFLOW;
+            values.add(value);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean applies(String name) {
+        return name.startsWith("app.") || name.startsWith("http.server.requests");
+    }
+}
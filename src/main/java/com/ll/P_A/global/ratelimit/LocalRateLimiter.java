@@ -0,0 +1,85 @@
+package com.ll.P_A.global.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 단일 인스턴스용 토큰 버킷 (락 없이 CAS 로 갱신)
+ * - 버킷 수가 maxBuckets 에 도달하면 새 키는 정책별 공용 overflow 버킷을 함께 사용 (메모리 상한 유지)
+ * - 가득 찰 만큼 유휴 상태였던 버킷은 주기적으로 제거 (다시 만들어도 상태가 같음)
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+
+    public LocalRateLimiter(@Value("${app.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String bucketKey, RateLimitPolicy policy) {
+        TokenBucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            String key = buckets.size() < maxBuckets ? bucketKey : policy.name() + ":overflow";
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(policy, System.nanoTime()));
+        }
+        return bucket.tryConsume(System.nanoTime());
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-delay-ms:60000}")
+    public void sweepIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(b -> b.isFullAt(now));
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    static final class TokenBucket {
+
+        private record State(double tokens, long refilledAtNanos) { }
+
+        private final long capacity;
+        private final double refillPerNano;
+        private final AtomicReference<State> state;
+
+        TokenBucket(RateLimitPolicy policy, long nowNanos) {
+            this.capacity = policy.capacity();
+            this.refillPerNano = policy.refillPerNano();
+            this.state = new AtomicReference<>(new State(capacity, nowNanos));
+        }
+
+        RateLimitDecision tryConsume(long nowNanos) {
+            while (true) {
+                State current = state.get();
+                double tokens = tokensAt(current, nowNanos);
+                if (tokens < 1) {
+                    long waitNanos = (long) Math.ceil((1 - tokens) / refillPerNano);
+                    return RateLimitDecision.reject((waitNanos + 999_999_999L) / 1_000_000_000L);
+                }
+                State next = new State(tokens - 1, Math.max(nowNanos, current.refilledAtNanos()));
+                if (state.compareAndSet(current, next)) {
+                    return RateLimitDecision.allow((long) next.tokens());
+                }
+            }
+        }
+
+        boolean isFullAt(long nowNanos) {
+            return tokensAt(state.get(), nowNanos) >= capacity;
+        }
+
+        private double tokensAt(State s, long nowNanos) {
+            long elapsed = Math.max(0, nowNanos - s.refilledAtNanos());
+            return Math.min(capacity, s.tokens() + elapsed * refillPerNano);
+        }
+    }
+}
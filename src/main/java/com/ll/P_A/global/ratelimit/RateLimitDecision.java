@@ -0,0 +1,16 @@
+package com.ll.P_A.global.ratelimit;
+
+/**
+ * @param remaining         허용 후 남은 토큰 수
+ * @param retryAfterSeconds 거부 시 토큰 1개가 채워질 때까지 남은 초
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterSeconds) {
+
+    public static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    public static RateLimitDecision reject(long retryAfterSeconds) {
+        return new RateLimitDecision(false, 0, Math.max(1, retryAfterSeconds));
+    }
+}
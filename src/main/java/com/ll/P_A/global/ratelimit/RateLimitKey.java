@@ -0,0 +1,6 @@
+package com.ll.P_A.global.ratelimit;
+
+public enum RateLimitKey {
+    IP,         // 클라이언트 IP 별 버킷
+    PRINCIPAL   // JWT 사용자 별 버킷 (토큰이 없으면 IP 로 대체)
+}
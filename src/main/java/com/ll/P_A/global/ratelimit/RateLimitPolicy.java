@@ -0,0 +1,39 @@
+package com.ll.P_A.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 경로 패턴별 토큰 버킷 정책 (app.rate-limit.policies 에서 바인딩)
+ * @param method       null 이면 모든 메서드
+ * @param capacity     버킷 최대 토큰 수 (순간 허용량)
+ * @param refillTokens refillPeriod 마다 채워지는 토큰 수 (지속 허용량)
+ */
+public record RateLimitPolicy(
+        String name,
+        String pattern,
+        String method,
+        RateLimitKey key,
+        long capacity,
+        long refillTokens,
+        Duration refillPeriod
+) {
+
+    public RateLimitPolicy {
+        if (name == null || pattern == null || key == null || refillPeriod == null) {
+            throw new IllegalArgumentException("rate-limit 정책 설정 누락: " + name);
+        }
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriod.isZero() || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException("rate-limit 정책 값은 0보다 커야 합니다: " + name);
+        }
+    }
+
+    // 나노초당 충전 토큰 수
+    public double refillPerNano() {
+        return (double) refillTokens / refillPeriod.toNanos();
+    }
+
+    // 빈 버킷이 가득 차는 데 걸리는 시간 (유휴 버킷 정리/Redis 키 만료 기준)
+    public long millisToFull() {
+        return (long) Math.ceil(capacity / refillPerNano() / 1_000_000d);
+    }
+}
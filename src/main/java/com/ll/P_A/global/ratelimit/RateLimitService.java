@@ -0,0 +1,114 @@
+package com.ll.P_A.global.ratelimit;
+
+import com.ll.P_A.security.jwt.JwtTokenProvider;
+import com.ll.P_A.security.jwt.VerifiedJwt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청에 맞는 정책을 찾아 버킷 키를 정하고 토큰을 소비
+ * - 매칭되는 정책은 모두 적용 (예: 경로별 정책 + 전체 IP 정책), 하나라도 거부하면 거부
+ * - IP 정책을 먼저 판정: IP 한도를 넘은 요청은 PRINCIPAL 버킷을 만들지 못함
+ * - PRINCIPAL 키는 서명이 검증된 토큰의 sub 만 사용 (사용자 조회 없이 서명/만료만 확인)
+ *   → 임의 sub 를 찍어 버킷 상한을 채우고 정상 사용자를 overflow 버킷으로 몰아내는 공격 차단
+ *   → 검증 실패/토큰 없음은 IP 키로 판정
+ *   → 검증 결과는 요청 속성(VerifiedJwt)에 남겨 뒤의 JwtAuthenticationFilter 가 다시 파싱하지 않음
+ */
+@Service
+public class RateLimitService {
+
+    private record CompiledPolicy(RateLimitPolicy policy, PathPattern pattern) { }
+
+    private final List<CompiledPolicy> policies;
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RateLimitService(
+            RateLimiter rateLimiter,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            JwtTokenProvider jwtTokenProvider
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = environment.getProperty("app.rate-limit.enabled", Boolean.class, true);
+
+        List<RateLimitPolicy> configured = Binder.get(environment)
+                .bind("app.rate-limit.policies", Bindable.listOf(RateLimitPolicy.class))
+                .orElse(List.of());
+        List<CompiledPolicy> compiled = new ArrayList<>();
+        for (RateLimitPolicy p : configured) {
+            compiled.add(new CompiledPolicy(p, PathPatternParser.defaultInstance.parse(p.pattern())));
+        }
+        // IP 정책 먼저 (설정 순서는 키 종류 안에서 유지)
+        compiled.sort(Comparator.comparing(cp -> cp.policy().key() != RateLimitKey.IP));
+        this.policies = List.copyOf(compiled);
+    }
+
+    /**
+     * @return 거부된 경우 해당 결정, 모두 허용이면 null
+     */
+    public RateLimitDecision check(HttpServletRequest request) {
+        if (!enabled || policies.isEmpty()) return null;
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        String method = request.getMethod();
+        String principal = null;
+        boolean principalResolved = false;
+
+        for (CompiledPolicy cp : policies) {
+            RateLimitPolicy policy = cp.policy();
+            if (policy.method() != null && !policy.method().equalsIgnoreCase(method)) continue;
+            if (!cp.pattern().matches(path)) continue;
+
+            String subject = "ip:" + request.getRemoteAddr();
+            if (policy.key() == RateLimitKey.PRINCIPAL) {
+                if (!principalResolved) {
+                    principal = verifiedSubject(request);
+                    principalResolved = true;
+                }
+                if (principal != null) subject = "user:" + principal;
+            }
+
+            RateLimitDecision decision = rateLimiter.tryConsume(policy.name() + ":" + subject, policy);
+            counter(policy.name(), decision.allowed() ? "allowed" : "rejected").increment();
+            if (!decision.allowed()) return decision;
+        }
+        return null;
+    }
+
+    private Counter counter(String policy, String outcome) {
+        return counters.computeIfAbsent(policy + "|" + outcome, k -> Counter.builder("app.ratelimit.requests")
+                .tag("policy", policy)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    // Authorization: Bearer <jwt> 의 sub (서명/만료 검증 통과 시에만, 실패면 null → IP 키)
+    private String verifiedSubject(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (!StringUtils.hasText(header) || !header.regionMatches(true, 0, "Bearer ", 0, 7)) return null;
+
+        VerifiedJwt jwt = VerifiedJwt.resolve(request, jwtTokenProvider, header.substring(7).trim());
+        return jwt != null && StringUtils.hasText(jwt.subject()) ? jwt.subject() : null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.ll.P_A.global.ratelimit;
+
+/**
+ * 토큰 버킷 저장소
+ * - memory: 인스턴스별 버킷 (기본) / redis: 인스턴스 간 공유 버킷
+ */
+public interface RateLimiter {
+
+    // bucketKey 버킷에서 토큰 1개 소비 시도
+    RateLimitDecision tryConsume(String bucketKey, RateLimitPolicy policy);
+}
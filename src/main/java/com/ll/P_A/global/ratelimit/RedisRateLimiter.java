@@ -0,0 +1,70 @@
+package com.ll.P_A.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 여러 인스턴스 공유용 토큰 버킷 (HASH tokens/ts 를 Lua 로 원자적으로 갱신)
+ * - 시각은 Redis TIME 기준 → 인스턴스 간 시계 차이 영향 없음
+ * - Redis 오류 시 허용 (가용성 우선, 로그인 등은 자체 제한이 따로 있음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "redis")
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // KEYS = [bucket], ARGV = [capacity, refillPerMs, ttlMs] → {허용 1/0, 남은 토큰, 대기 ms}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local s = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(s[1]) or capacity
+            local ts = tonumber(s[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            if tokens < 1 then
+              return {0, 0, math.ceil((1 - tokens) / rate)}
+            end
+            tokens = tokens - 1
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return {1, math.floor(tokens), 0}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RateLimitDecision tryConsume(String bucketKey, RateLimitPolicy policy) {
+        try {
+            List<Long> result = redisTemplate.execute(CONSUME,
+                    List.of(KEY_PREFIX + bucketKey),
+                    Long.toString(policy.capacity()),
+                    Double.toString(policy.refillPerNano() * 1_000_000d),
+                    Long.toString(policy.millisToFull() + 1000));
+            if (result == null || result.size() < 3) {
+                return RateLimitDecision.allow(policy.capacity());
+            }
+            return result.get(0) == 1L
+                    ? RateLimitDecision.allow(result.get(1))
+                    : RateLimitDecision.reject((result.get(2) + 999) / 1000);
+        } catch (RuntimeException e) {
+            log.warn("rate-limit 확인 실패: key={}, {}", bucketKey, e.toString());
+            return RateLimitDecision.allow(policy.capacity());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ll.P_A.global.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @RetryOnConflict 처리
+ * - 트랜잭션 인터셉터(LOWEST_PRECEDENCE)보다 바깥에서 실행 → 충돌 시 커밋 실패까지 잡아 새 트랜잭션으로 재시도
+ * - 메트릭: app.optimistic.conflicts{transition, outcome=retried|exhausted}
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class OptimisticRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retry)")
+    public Object retryOnConflict(ProceedingJoinPoint pjp, RetryOnConflict retry) throws Throwable {
+        // 바깥 트랜잭션 안이면 여기서 다시 실행해도 같은 스냅샷 → 그대로 위임
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return pjp.proceed();
+        }
+
+        String transition = retry.value().isEmpty() ? pjp.getSignature().getName() : retry.value();
+        int maxAttempts = Math.max(1, retry.maxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return pjp.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    conflicts(transition, "exhausted").increment();
+                    log.warn("낙관적 락 충돌 재시도 소진: transition={}, attempts={}", transition, attempt);
+                    throw e;
+                }
+                conflicts(transition, "retried").increment();
+                backoff(retry.backoffMs(), attempt);
+            }
+        }
+    }
+
+    private Counter conflicts(String transition, String outcome) {
+        return Counter.builder("app.optimistic.conflicts")
+                .description("@Version 충돌 횟수 (전이별)")
+                .tag("transition", transition)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // full jitter: [0, base * 2^(attempt-1)] 구간에서 무작위 → 동시에 충돌한 요청들이 다시 겹치지 않도록
+    private void backoff(long baseMs, int attempt) {
+        long cap = baseMs * (1L << Math.min(attempt - 1, 10));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        }
+    }
+}
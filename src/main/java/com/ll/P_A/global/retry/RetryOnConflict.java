@@ -0,0 +1,24 @@
+package com.ll.P_A.global.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 트랜잭션을 통째로 다시 실행
+ * - 트랜잭션 바깥에서 감싸므로 매 시도마다 최신 상태를 다시 읽음
+ * - 이미 진행 중인 트랜잭션 안에서 호출되면 재시도하지 않음 (바깥 트랜잭션이 처리)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /** 메트릭 태그용 전이 이름 (비우면 메서드 이름) */
+    String value() default "";
+
+    int maxAttempts() default 3;
+
+    /** 첫 재시도 기준 대기 시간 (시도마다 2배, full jitter) */
+    long backoffMs() default 20;
+}
@@ -0,0 +1,45 @@
+package com.ll.P_A.mail;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 수신 도메인별 토큰 버킷 (분당 permitsPerMinute 건, 최대 permitsPerMinute 건까지 몰아서 허용)
+ * - 대형 메일 서비스의 발신 속도 제한(4xx 일시 거부/스팸 판정) 회피용
+ * - 인스턴스별 한도: 인스턴스가 N 개면 실제 한도는 N 배
+ */
+public class DomainRateLimiter {
+
+    private static final class Bucket {
+        double tokens;
+        long refilledAtNanos;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAtNanos = now;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final double permitsPerNano;
+
+    public DomainRateLimiter(int permitsPerMinute) {
+        this.capacity = permitsPerMinute;
+        this.permitsPerNano = permitsPerMinute / 60_000_000_000d;
+    }
+
+    /** @return 실제로 허용된 건수 (0 ~ requested) */
+    public int acquireUpTo(String domain, int requested) {
+        long now = System.nanoTime();
+        int[] granted = new int[1];
+        buckets.compute(domain, (d, bucket) -> {
+            Bucket b = (bucket != null) ? bucket : new Bucket(capacity, now);
+            b.tokens = Math.min(capacity, b.tokens + (now - b.refilledAtNanos) * permitsPerNano);
+            b.refilledAtNanos = now;
+            granted[0] = (int) Math.min(requested, Math.floor(b.tokens));
+            b.tokens -= granted[0];
+            return b;
+        });
+        return granted[0];
+    }
+}
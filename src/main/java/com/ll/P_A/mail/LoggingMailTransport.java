@@ -0,0 +1,25 @@
+package com.ll.P_A.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMTP 미설정 환경(로컬/테스트)용: 발송 대신 로그만 남기고 성공 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "trade.mail.transport", havingValue = "log", matchIfMissing = true)
+public class LoggingMailTransport implements MailTransport {
+
+    @Override
+    public Map<Long, Exception> sendBatch(List<OutboundMail> mails) {
+        for (OutboundMail mail : mails) {
+            log.info("[MAIL] id={}, to={}, subject={}", mail.getId(), mail.getRecipient(), mail.getSubject());
+        }
+        return Map.of();
+    }
+}
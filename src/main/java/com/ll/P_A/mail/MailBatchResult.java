@@ -0,0 +1,35 @@
+package com.ll.P_A.mail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 번의 디스패치에서 나온 메일별 결과 (여러 워커가 채우므로 merge 로 합침)
+ * - deferred: 도메인 속도 제한으로 이번에 보내지 않음 (시도 횟수 미차감)
+ * - permanent: failed 중 재시도하지 않을 id
+ */
+public record MailBatchResult(
+        List<Long> sent,
+        Map<Long, Exception> failed,
+        Set<Long> permanent,
+        List<Long> deferred
+) {
+    public static MailBatchResult empty() {
+        return new MailBatchResult(new ArrayList<>(), new HashMap<>(), new HashSet<>(), new ArrayList<>());
+    }
+
+    public void merge(MailBatchResult other) {
+        sent.addAll(other.sent);
+        failed.putAll(other.failed);
+        permanent.addAll(other.permanent);
+        deferred.addAll(other.deferred);
+    }
+
+    public boolean isEmpty() {
+        return sent.isEmpty() && failed.isEmpty() && deferred.isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ll.P_A.mail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 발송 큐의 짧은 트랜잭션 단위 작업 (가져오기 / 결과 기록)
+ */
+@Service
+public class MailDispatchService {
+
+    private final OutboundMailRepository mailRepository;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration deferDelay;
+
+    public MailDispatchService(
+            OutboundMailRepository mailRepository,
+            @Value("${trade.mail.lease-seconds:120}") long leaseSeconds,
+            @Value("${trade.mail.max-attempts:8}") int maxAttempts,
+            @Value("${trade.mail.backoff-base-ms:30000}") long baseBackoffMs,
+            @Value("${trade.mail.backoff-max-ms:3600000}") long maxBackoffMs,
+            @Value("${trade.mail.defer-delay-ms:10000}") long deferDelayMs
+    ) {
+        this.mailRepository = mailRepository;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.deferDelay = Duration.ofMillis(deferDelayMs);
+    }
+
+    // 발송 대상 가져오기: 잠근 행의 nextAttemptAt 을 임대 시간만큼 미뤄 커밋 (SMTP 통신 동안 잠금 유지 X)
+    @Transactional
+    public List<OutboundMail> claim(int batchSize) {
+        Instant now = Instant.now();
+        List<OutboundMail> due = mailRepository.findDueForUpdate(OutboundMailStatus.PENDING, now, Limit.of(batchSize));
+        Instant leaseUntil = now.plus(lease);
+        for (OutboundMail mail : due) {
+            mail.claim(leaseUntil);
+        }
+        return due;
+    }
+
+    @Transactional
+    public void record(MailBatchResult result) {
+        Instant now = Instant.now();
+        for (OutboundMail mail : mailRepository.findAllById(result.sent())) {
+            mail.markSent(now);
+        }
+        for (OutboundMail mail : mailRepository.findAllById(result.deferred())) {
+            mail.release(now.plus(deferDelay));
+        }
+        for (OutboundMail mail : mailRepository.findAllById(result.failed().keySet())) {
+            Exception cause = result.failed().get(mail.getId());
+            String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            if (result.permanent().contains(mail.getId()) || mail.getAttempts() >= maxAttempts) {
+                mail.markFailed(error);
+            } else {
+                mail.markRetry(error, now.plus(backoff(mail.getAttempts())));
+            }
+        }
+    }
+
+    @Transactional
+    public int purgeSentBefore(Instant before) {
+        return mailRepository.deleteSentBefore(OutboundMailStatus.SENT, before);
+    }
+
+    // 지수 백오프 + 지터: base/2 + [0, min(max, base * 2^(attempts-1)))
+    Duration backoff(int attempts) {
+        long exp = baseBackoff.toMillis() << Math.min(20, Math.max(0, attempts - 1));
+        long cap = Math.max(1, Math.min(maxBackoff.toMillis(), exp));
+        return Duration.ofMillis(baseBackoff.toMillis() / 2 + ThreadLocalRandom.current().nextLong(cap));
+    }
+}
@@ -0,0 +1,159 @@
+package com.ll.P_A.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 발송 큐 드레인
+ * - 가져온 메일을 수신 도메인별로 묶고, 도메인 한도 안에서 워커 풀에 분배
+ * - 워커 하나가 묶음(per-connection 건)을 SMTP 연결 하나로 발송
+ * - 결과는 한 트랜잭션으로 기록 (성공/재시도 예약/영구 실패/한도 초과 보류)
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final MailDispatchService dispatchService;
+    private final MailTransport transport;
+    private final DomainRateLimiter rateLimiter;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final int perConnection;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter deferredCounter;
+
+    public MailDispatcher(
+            MailDispatchService dispatchService,
+            MailTransport transport,
+            MeterRegistry meterRegistry,
+            @Value("${trade.mail.workers:4}") int workerCount,
+            @Value("${trade.mail.batch-size:200}") int batchSize,
+            @Value("${trade.mail.per-connection:50}") int perConnection,
+            @Value("${trade.mail.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${trade.mail.per-domain-per-minute:120}") int perDomainPerMinute,
+            @Value("${trade.mail.retention-days:7}") long retentionDays
+    ) {
+        this.dispatchService = dispatchService;
+        this.transport = transport;
+        this.rateLimiter = new DomainRateLimiter(perDomainPerMinute);
+        this.workers = Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("mail-worker-", 0).factory());
+        this.batchSize = batchSize;
+        this.perConnection = perConnection;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = Duration.ofDays(retentionDays);
+        this.sentCounter = Counter.builder("app.mail.sent").description("발송 완료 메일 수").register(meterRegistry);
+        this.failedCounter = Counter.builder("app.mail.failed").description("발송 실패(재시도/영구 포함) 메일 수")
+                .register(meterRegistry);
+        this.deferredCounter = Counter.builder("app.mail.deferred").description("도메인 한도로 보류된 메일 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${trade.mail.fixed-delay-ms:2000}")
+    public void drain() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int claimed = dispatchOnce();
+            if (claimed < batchSize) break;
+        }
+    }
+
+    /** @return 이번에 가져온 메일 수 */
+    public int dispatchOnce() {
+        List<OutboundMail> claimed = dispatchService.claim(batchSize);
+        if (claimed.isEmpty()) return 0;
+
+        Map<String, List<OutboundMail>> byDomain = new LinkedHashMap<>();
+        for (OutboundMail mail : claimed) {
+            byDomain.computeIfAbsent(mail.getDomain(), d -> new ArrayList<>()).add(mail);
+        }
+
+        MailBatchResult result = MailBatchResult.empty();
+        List<Future<MailBatchResult>> futures = new ArrayList<>();
+        for (Map.Entry<String, List<OutboundMail>> entry : byDomain.entrySet()) {
+            List<OutboundMail> mails = entry.getValue();
+            int allowed = rateLimiter.acquireUpTo(entry.getKey(), mails.size());
+            for (OutboundMail deferred : mails.subList(allowed, mails.size())) {
+                result.deferred().add(deferred.getId());
+            }
+            for (int from = 0; from < allowed; from += perConnection) {
+                List<OutboundMail> chunk = mails.subList(from, Math.min(from + perConnection, allowed));
+                futures.add(workers.submit(() -> send(chunk)));
+            }
+        }
+
+        for (Future<MailBatchResult> future : futures) {
+            try {
+                result.merge(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break; // 기록하지 못한 메일은 임대 만료 후 다시 발송
+            } catch (ExecutionException e) {
+                log.error("[Mail] 워커 오류", e.getCause());
+            }
+        }
+
+        if (!result.isEmpty()) {
+            dispatchService.record(result);
+        }
+        sentCounter.increment(result.sent().size());
+        failedCounter.increment(result.failed().size());
+        deferredCounter.increment(result.deferred().size());
+        return claimed.size();
+    }
+
+    // 발송 완료 메일 정리 (실패 메일은 확인용으로 남김)
+    @Scheduled(fixedDelayString = "${trade.mail.purge-delay-ms:3600000}")
+    public void purgeSent() {
+        int purged = dispatchService.purgeSentBefore(Instant.now().minus(retention));
+        if (purged > 0) log.info("[Mail] 발송 완료 메일 정리: {}건", purged);
+    }
+
+    private MailBatchResult send(List<OutboundMail> chunk) {
+        MailBatchResult result = MailBatchResult.empty();
+        Map<Long, Exception> failures;
+        try {
+            failures = transport.sendBatch(chunk);
+        } catch (RuntimeException e) {
+            failures = new LinkedHashMap<>();
+            for (OutboundMail mail : chunk) failures.put(mail.getId(), e);
+        }
+        for (OutboundMail mail : chunk) {
+            Exception failure = failures.get(mail.getId());
+            if (failure == null) {
+                result.sent().add(mail.getId());
+            } else {
+                result.failed().put(mail.getId(), failure);
+                if (transport.isPermanent(failure)) result.permanent().add(mail.getId());
+            }
+        }
+        if (!failures.isEmpty()) {
+            log.warn("[Mail] 발송 실패 {}/{}건 (domain={}): {}", failures.size(), chunk.size(),
+                    chunk.get(0).getDomain(), failures.values().iterator().next().getMessage());
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
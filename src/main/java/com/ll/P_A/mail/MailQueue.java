@@ -0,0 +1,23 @@
+package com.ll.P_A.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 발송할 메일을 큐(outbound_mails)에 기록
+ * - MANDATORY: 호출한 업무 트랜잭션과 함께 커밋/롤백 (가입이 롤백되면 메일도 없음)
+ * - SMTP 통신은 트랜잭션 커밋 이후 MailDispatcher 가 수행
+ */
+@Service
+@RequiredArgsConstructor
+public class MailQueue {
+
+    private final OutboundMailRepository mailRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String recipient, String subject, String body) {
+        mailRepository.save(OutboundMail.pending(recipient, subject, body));
+    }
+}
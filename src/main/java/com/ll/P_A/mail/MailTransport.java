@@ -0,0 +1,21 @@
+package com.ll.P_A.mail;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실제 발송 수단 (SMTP / 로그)
+ */
+public interface MailTransport {
+
+    /**
+     * 같은 도메인의 메일 묶음을 연결 하나로 발송
+     * @return 실패한 메일 id → 원인 (모두 성공이면 빈 맵)
+     */
+    Map<Long, Exception> sendBatch(List<OutboundMail> mails);
+
+    // 재시도해도 소용없는 실패인지 (주소/메시지 형식 오류 등)
+    default boolean isPermanent(Exception failure) {
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+package com.ll.P_A.mail;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * 발송 대기 메일 (업무 트랜잭션 안에서 INSERT, 발송은 워커가 트랜잭션 밖에서)
+ * - 워커가 가져갈 때 nextAttemptAt 을 임대 시간만큼 미뤄 둠 → 발송 중 서버가 죽어도 임대 만료 후 재발송
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(
+        name = "outbound_mails",
+        indexes = @Index(name = "idx_outbound_mail_due", columnList = "status, nextAttemptAt")
+)
+public class OutboundMail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    // 도메인별 발송 속도 제한/묶음 발송 기준 (소문자)
+    @Column(nullable = false, length = 255)
+    private String domain;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboundMailStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant sentAt;
+
+    static OutboundMail pending(String recipient, String subject, String body) {
+        Instant now = Instant.now();
+        return OutboundMail.builder()
+                .recipient(recipient)
+                .domain(domainOf(recipient))
+                .subject(subject)
+                .body(body)
+                .status(OutboundMailStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    static String domainOf(String recipient) {
+        int at = recipient.lastIndexOf('@');
+        if (at < 0 || at == recipient.length() - 1) {
+            throw new IllegalArgumentException("잘못된 이메일 주소: " + recipient);
+        }
+        return recipient.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+
+    // 워커가 가져감: 시도 횟수 증가 + 임대 시간 동안 다른 워커가 가져가지 않도록
+    void claim(Instant leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 속도 제한으로 이번에 보내지 못함 → 시도로 치지 않고 다시 대기
+    void release(Instant retryAt) {
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.nextAttemptAt = retryAt;
+    }
+
+    void markSent(Instant now) {
+        this.status = OutboundMailStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    void markRetry(String error, Instant retryAt) {
+        this.lastError = truncate(error);
+        this.nextAttemptAt = retryAt;
+    }
+
+    void markFailed(String error) {
+        this.status = OutboundMailStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String s) {
+        if (s == null) return null;
+        return s.length() > 500 ? s.substring(0, 500) : s;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ll.P_A.mail;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Long> {
+
+    // 여러 인스턴스의 워커가 같은 행을 가져가지 않도록 잠긴 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from OutboundMail m where m.status = :status and m.nextAttemptAt <= :now order by m.id")
+    List<OutboundMail> findDueForUpdate(@Param("status") OutboundMailStatus status,
+                                        @Param("now") Instant now,
+                                        Limit limit);
+
+    // 대기열 깊이 게이지용
+    long countByStatus(OutboundMailStatus status);
+
+    // 보관 기간이 지난 발송 완료 메일 정리
+    @Transactional
+    @Modifying
+    @Query("delete from OutboundMail m where m.status = :status and m.sentAt < :before")
+    int deleteSentBefore(@Param("status") OutboundMailStatus status, @Param("before") Instant before);
+}
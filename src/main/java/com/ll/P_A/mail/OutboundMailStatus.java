@@ -0,0 +1,7 @@
+package com.ll.P_A.mail;
+
+public enum OutboundMailStatus {
+    PENDING,   // 발송 대기 (재시도 대기 포함, nextAttemptAt 이후 발송)
+    SENT,      // 발송 완료
+    FAILED     // 최대 시도 초과 또는 영구 실패 (주소 오류 등)
+}
@@ -0,0 +1,87 @@
+package com.ll.P_A.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * spring.mail.* 로 설정된 SMTP 서버로 발송
+ * - JavaMailSender.send(MimeMessage...) 는 호출 한 번에 SMTP 연결 하나로 여러 메일을 보냄 → 묶음 단위 연결 재사용
+ */
+@Component
+@ConditionalOnProperty(name = "trade.mail.transport", havingValue = "smtp")
+public class SmtpMailTransport implements MailTransport {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public SmtpMailTransport(JavaMailSender mailSender, @Value("${trade.mail.from}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public Map<Long, Exception> sendBatch(List<OutboundMail> mails) {
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Long> ids = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(mails.size());
+
+        for (OutboundMail mail : mails) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+                helper.setFrom(new InternetAddress(from));
+                helper.setTo(new InternetAddress(mail.getRecipient(), true));
+                helper.setSubject(mail.getSubject());
+                helper.setText(mail.getBody(), false);
+                messages.add(message);
+                ids.put(message, mail.getId());
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), new MailParseException(e));
+            }
+        }
+        if (messages.isEmpty()) return failures;
+
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 메일별 실패가 있으면 그것만, 없으면(연결 실패 등) 묶음 전체 실패
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                ids.values().forEach(id -> failures.put(id, e));
+            } else {
+                failed.forEach((message, cause) -> {
+                    Long id = ids.get(message);
+                    if (id != null) failures.put(id, cause);
+                });
+            }
+        } catch (MailException e) {
+            ids.values().forEach(id -> failures.put(id, e));
+        }
+        return failures;
+    }
+
+    @Override
+    public boolean isPermanent(Exception failure) {
+        return failure instanceof MailParseException
+                || failure instanceof MailPreparationException
+                || failure instanceof AddressException;
+    }
+}
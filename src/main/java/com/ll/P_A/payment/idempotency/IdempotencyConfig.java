@@ -0,0 +1,24 @@
+package com.ll.P_A.payment.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    // 결제 API 에만 적용, 인증 정보(사용자별 키 분리)를 쓰기 위해 시큐리티 필터 다음 순서
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(
+            IdempotencyService idempotencyService,
+            @Value("${trade.idempotency.maxBodyBytes:65536}") int maxBodyBytes
+    ) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyService, maxBodyBytes));
+        registration.addUrlPatterns("/api/pay/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,156 @@
+package com.ll.P_A.payment.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.json.JSONObject;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * /api/pay/** POST 요청의 Idempotency-Key 처리
+ * - 최초 요청: 키 예약 → 처리 → 응답 저장
+ * - 재시도: 저장된 응답을 그대로 재생 (컨트롤러/PG 호출 없음)
+ * - 5xx, 409, 429 는 결과가 확정되지 않은 것으로 보고 저장하지 않음(예약 해제 → 재시도 가능)
+ * - 해시 계산을 위해 본문을 메모리에 올리므로 maxBodyBytes 초과 요청은 413 으로 거절
+ */
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+    private final int maxBodyBytes;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equalsIgnoreCase(request.getMethod())
+                || !StringUtils.hasText(request.getHeader(HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER).trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = CachedBodyRequest.read(request, maxBodyBytes);
+        if (cachedRequest == null) {
+            writeError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "PAYLOAD_TOO_LARGE",
+                    "요청 본문은 " + maxBodyBytes + "바이트 이하여야 합니다.");
+            return;
+        }
+        String keyHash = sha256Hex((principal() + "|" + request.getMethod() + "|" + request.getRequestURI() + "|" + key)
+                .getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256Hex(cachedRequest.body());
+
+        IdempotencyService.Reservation reservation = idempotencyService.reserve(keyHash, requestHash);
+        if (!reservation.acquired()) {
+            replayOrReject(reservation.existing(), requestHash, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, wrappedResponse);
+
+            int status = wrappedResponse.getStatus();
+            if (isReplayable(status)) {
+                idempotencyService.complete(keyHash, status,
+                        wrappedResponse.getContentType(), wrappedResponse.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(keyHash);
+            }
+            wrappedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replayOrReject(IdempotencyRecord record, String requestHash, HttpServletResponse response)
+            throws IOException {
+
+        if (!record.getRequestHash().equals(requestHash)) {
+            writeError(response, 422, "IDEMPOTENCY_KEY_REUSED",
+                    "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+            return;
+        }
+        if (record.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+            writeError(response, HttpServletResponse.SC_CONFLICT, "IDEMPOTENCY_IN_PROGRESS",
+                    "같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        response.setStatus(record.getResponseStatus());
+        if (record.getResponseContentType() != null) {
+            response.setContentType(record.getResponseContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = record.getResponseBody();
+        if (body != null && body.length > 0) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private static boolean isReplayable(int status) {
+        return status < 500 && status != HttpServletResponse.SC_CONFLICT && status != 429;
+    }
+
+    // 키 충돌 범위를 사용자 단위로 분리
+    private static String principal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return "anonymous";
+        }
+        return auth.getName();
+    }
+
+    private static void writeError(HttpServletResponse response, int status, String code, String message)
+            throws IOException {
+        JSONObject body = new JSONObject();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", status);
+        body.put("code", code);
+        body.put("message", message);
+
+        response.setStatus(status);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(body.toString());
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ll.P_A.payment.idempotency;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(
+        name = "idempotency_records",
+        indexes = {
+                @Index(name = "idx_idempotency_key_hash", columnList = "keyHash", unique = true),
+                @Index(name = "idx_idempotency_expires", columnList = "expiresAt")
+        }
+)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256(사용자 + 메서드 + 경로 + Idempotency-Key)
+    @Column(nullable = false, unique = true, length = 64)
+    private String keyHash;
+
+    // 같은 키로 다른 본문을 보내는 오용 감지용 SHA-256(요청 본문)
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IdempotencyStatus status;
+
+    private Integer responseStatus;
+    private String responseContentType;
+
+    @Lob
+    private byte[] responseBody;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // IN_PROGRESS: 처리 임대 만료 시각, COMPLETED: 보관 만료 시각
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    public static IdempotencyRecord inProgress(String keyHash, String requestHash, Instant leaseUntil) {
+        return IdempotencyRecord.builder()
+                .keyHash(keyHash)
+                .requestHash(requestHash)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .createdAt(Instant.now())
+                .expiresAt(leaseUntil)
+                .build();
+    }
+
+    public void complete(int status, String contentType, byte[] body, Instant retainUntil) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.responseStatus = status;
+        this.responseContentType = contentType;
+        this.responseBody = body;
+        this.expiresAt = retainUntil;
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+}
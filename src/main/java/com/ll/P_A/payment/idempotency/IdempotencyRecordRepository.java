@@ -0,0 +1,33 @@
+package com.ll.P_A.payment.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByKeyHash(String keyHash);
+
+    // 만료된 기록만 삭제 (다른 요청이 방금 예약한 키는 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.keyHash = :keyHash and r.expiresAt < :now")
+    int deleteExpiredByKeyHash(@Param("keyHash") String keyHash, @Param("now") Instant now);
+
+    // 처리 실패 시 예약 해제 → 클라이언트 재시도 허용
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.keyHash = :keyHash and r.status = :status")
+    int deleteByKeyHashAndStatus(@Param("keyHash") String keyHash, @Param("status") IdempotencyStatus status);
+
+    // 만료된 키 일괄 정리
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
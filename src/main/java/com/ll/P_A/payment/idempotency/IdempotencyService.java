@@ -0,0 +1,78 @@
+package com.ll.P_A.payment.idempotency;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 요청 단위 멱등성 저장소
+ * - 예약은 유니크 인덱스 INSERT 로 원자적으로 처리 (조회 후 저장 경쟁 없음)
+ * - 완료된 응답은 직렬화해 저장 → 같은 키 재시도 시 그대로 재생
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository repository;
+    private final long ttlSeconds;
+    private final long leaseSeconds;
+
+    public IdempotencyService(
+            IdempotencyRecordRepository repository,
+            @Value("${trade.idempotency.ttlSeconds:86400}") long ttlSeconds,
+            @Value("${trade.idempotency.leaseSeconds:120}") long leaseSeconds
+    ) {
+        this.repository = repository;
+        this.ttlSeconds = ttlSeconds;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public record Reservation(boolean acquired, IdempotencyRecord existing) {
+        static Reservation ofAcquired() { return new Reservation(true, null); }
+        static Reservation ofExisting(IdempotencyRecord record) { return new Reservation(false, record); }
+    }
+
+    /** 키 예약: INSERT 성공 → 최초 요청, 유니크 충돌 → 기존 기록 반환 */
+    public Reservation reserve(String keyHash, String requestHash) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            try {
+                repository.saveAndFlush(IdempotencyRecord.inProgress(
+                        keyHash, requestHash, Instant.now().plusSeconds(leaseSeconds)));
+                return Reservation.ofAcquired();
+            } catch (DataIntegrityViolationException e) {
+                Optional<IdempotencyRecord> existing = repository.findByKeyHash(keyHash);
+                if (existing.isPresent() && !existing.get().isExpired()) {
+                    return Reservation.ofExisting(existing.get());
+                }
+                // 만료된 기록(보관 기간 경과 또는 처리 중 서버 중단) → 정리 후 다시 예약
+                repository.deleteExpiredByKeyHash(keyHash, Instant.now());
+            }
+        }
+        throw new IllegalStateException("Idempotency-Key 예약 실패");
+    }
+
+    @Transactional
+    public void complete(String keyHash, int status, String contentType, byte[] body) {
+        repository.findByKeyHash(keyHash).ifPresent(r ->
+                r.complete(status, contentType, body, Instant.now().plusSeconds(ttlSeconds)));
+    }
+
+    public void release(String keyHash) {
+        repository.deleteByKeyHashAndStatus(keyHash, IdempotencyStatus.IN_PROGRESS);
+    }
+
+    // TTL 지난 키 정리
+    @Scheduled(fixedDelayString = "${trade.idempotency.cleanupDelayMs:600000}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.debug("만료된 Idempotency 기록 {}건 삭제", deleted);
+        }
+    }
+}
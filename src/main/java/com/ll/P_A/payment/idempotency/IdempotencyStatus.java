@@ -0,0 +1,6 @@
+package com.ll.P_A.payment.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS, // 최초 요청 처리 중
+    COMPLETED    // 응답 저장 완료 (재시도 시 재생)
+}
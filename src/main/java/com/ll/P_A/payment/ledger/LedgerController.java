@@ -0,0 +1,21 @@
+package com.ll.P_A.payment.ledger;
+
+import com.ll.P_A.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/pay/orders/{orderId}")
+@RequiredArgsConstructor
+public class LedgerController {
+
+    private final OrderBalanceRepository balanceRepository;
+
+    // 주문 누적 금액 (원장 합산 없이 잔액 행 1건 조회)
+    @GetMapping("/balance")
+    public OrderBalanceResponseDto balance(@PathVariable Long orderId) {
+        OrderBalance balance = balanceRepository.findById(orderId)
+                .orElseThrow(() -> ErrorCode.LEDGER_NOT_FOUND.exception(orderId));
+        return OrderBalanceResponseDto.from(balance);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ll.P_A.payment.ledger;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 결제 원장 항목 (append-only: 생성 후 수정/삭제하지 않음)
+ * - 금액은 항상 양수, 의미는 type 으로 구분
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(
+        name = "ledger_entries",
+        indexes = {
+                @Index(name = "idx_ledger_order_id", columnList = "orderId, id"),
+                @Index(name = "idx_ledger_reference", columnList = "reference", unique = true)
+        }
+)
+public class LedgerEntry {
+
+    // IDENTITY 는 INSERT 마다 즉시 실행되어 JDBC 배치가 꺼짐 → 테이블 기반 pooled 채번으로 배치 허용
+    // (append-only 이고 id 순서에 의미가 없어 인스턴스별 블록 채번이 안전. outbox 는 id 순서로 릴레이하므로 IDENTITY 유지)
+    // 기존 데이터가 있는 DB 는 id_generators 의 ledger_entries 행을 max(id) + 1 이상으로 먼저 넣어 둘 것
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ledger_entry_id")
+    @TableGenerator(
+            name = "ledger_entry_id",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "ledger_entries",
+            allocationSize = 50
+    )
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long orderId;
+
+    @Column(nullable = false, updatable = false)
+    private Long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private LedgerEntryType type;
+
+    @Column(nullable = false, updatable = false)
+    private Long amount;
+
+    // 같은 사건이 두 번 기록되지 않도록 하는 참조 키 (예: capture-{paymentId})
+    @Column(nullable = false, updatable = false, unique = true, length = 100)
+    private String reference;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    static LedgerEntry of(Long orderId, Long paymentId, LedgerEntryType type, long amount, String reference) {
+        return LedgerEntry.builder()
+                .orderId(orderId)
+                .paymentId(paymentId)
+                .type(type)
+                .amount(amount)
+                .reference(reference)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.ll.P_A.payment.ledger;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    boolean existsByReference(String reference);
+}
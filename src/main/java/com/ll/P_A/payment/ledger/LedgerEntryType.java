@@ -0,0 +1,7 @@
+package com.ll.P_A.payment.ledger;
+
+public enum LedgerEntryType {
+    AUTHORIZATION, // PG 승인
+    CAPTURE,       // 매입(확정) — Toss 는 승인과 동시에 매입
+    REFUND         // 환불(부분 환불 포함)
+}
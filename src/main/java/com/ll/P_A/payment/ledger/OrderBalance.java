@@ -0,0 +1,70 @@
+package com.ll.P_A.payment.ledger;
+
+import com.ll.P_A.global.exception.ErrorCode;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 주문별 누적 금액 (원장 기록과 같은 트랜잭션에서 증분 갱신)
+ * - 조회 시 ledger_entries 를 합산하지 않음
+ * - @Version 으로 동시 환불 등 경합 시 한쪽만 성공
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_balances")
+public class OrderBalance {
+
+    @Id
+    private Long orderId;
+
+    private long authorizedAmount;
+    private long capturedAmount;
+    private long refundedAmount;
+
+    @Version
+    private Long version;
+
+    private Instant updatedAt;
+
+    OrderBalance(Long orderId) {
+        this.orderId = orderId;
+        this.updatedAt = Instant.now();
+    }
+
+    public long getRefundableAmount() {
+        return capturedAmount - refundedAmount;
+    }
+
+    // 환불 가능 여부를 상태 변경 없이 먼저 검사
+    public void ensureRefundable(long amount) {
+        if (amount <= 0) {
+            throw ErrorCode.INVALID_REFUND_AMOUNT.exception();
+        }
+        if (amount > getRefundableAmount()) {
+            throw ErrorCode.REFUND_EXCEEDS_BALANCE.exception(amount, getRefundableAmount());
+        }
+    }
+
+    public boolean isFullyRefundedAfter(long refundAmount) {
+        return refundedAmount + refundAmount >= capturedAmount;
+    }
+
+    void applyAuthorization(long amount) {
+        this.authorizedAmount += amount;
+        this.updatedAt = Instant.now();
+    }
+
+    void applyCapture(long amount) {
+        this.capturedAmount += amount;
+        this.updatedAt = Instant.now();
+    }
+
+    void applyRefund(long amount) {
+        ensureRefundable(amount);
+        this.refundedAmount += amount;
+        this.updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,6 @@
+package com.ll.P_A.payment.ledger;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderBalanceRepository extends JpaRepository<OrderBalance, Long> {
+}
@@ -0,0 +1,16 @@
+package com.ll.P_A.payment.ledger;
+
+public record OrderBalanceResponseDto(
+        Long orderId,
+        long authorizedAmount,
+        long capturedAmount,
+        long refundedAmount,
+        long refundableAmount
+) {
+    public static OrderBalanceResponseDto from(OrderBalance b) {
+        return new OrderBalanceResponseDto(
+                b.getOrderId(), b.getAuthorizedAmount(), b.getCapturedAmount(),
+                b.getRefundedAmount(), b.getRefundableAmount()
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.ll.P_A.payment.ledger;
+
+import com.ll.P_A.payment.payment.Payment;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 원장: 승인/매입/환불을 append-only 항목으로 기록하고 주문별 잔액을 증분 갱신
+ * - 결제 상태 전이와 같은 트랜잭션에서 호출 (PaymentStateService)
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentLedgerService {
+
+    private final LedgerEntryRepository entryRepository;
+    private final OrderBalanceRepository balanceRepository;
+
+    // 주문 잔액 (없으면 0 원 잔액 생성 — 저장은 첫 기록 시)
+    @Transactional
+    public OrderBalance balanceOf(Long orderId) {
+        return balanceRepository.findById(orderId)
+                .orElseGet(() -> balanceRepository.save(new OrderBalance(orderId)));
+    }
+
+    // 누적 매입액 (잔액 행이 없으면 0)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public long capturedAmountOf(Long orderId) {
+        return balanceRepository.findById(orderId).map(OrderBalance::getCapturedAmount).orElse(0L);
+    }
+
+    // 원장 도입 전에 승인된 결제는 매입 항목이 없으므로 환불 전에 보충
+    @Transactional
+    public void ensureCaptured(Payment payment) {
+        if (!entryRepository.existsByReference("capture-" + payment.getId())) {
+            recordCapture(payment);
+        }
+    }
+
+    // 승인 + 매입 (Toss 는 confirm 시 자동 매입)
+    @Transactional
+    public OrderBalance recordCapture(Payment payment) {
+        Long orderId = payment.getOrder().getId();
+        long amount = payment.getAmount();
+        OrderBalance balance = balanceOf(orderId);
+
+        entryRepository.save(LedgerEntry.of(orderId, payment.getId(), LedgerEntryType.AUTHORIZATION,
+                amount, "auth-" + payment.getId()));
+        entryRepository.save(LedgerEntry.of(orderId, payment.getId(), LedgerEntryType.CAPTURE,
+                amount, "capture-" + payment.getId()));
+
+        balance.applyAuthorization(amount);
+        balance.applyCapture(amount);
+        return balance;
+    }
+
+    /**
+     * 환불 기록
+     * @param sequence 결제 내 환불 구분값 (환불 전 누적 환불액) → 같은 환불 중복 기록 방지
+     */
+    @Transactional
+    public OrderBalance recordRefund(Payment payment, long amount, long sequence) {
+        Long orderId = payment.getOrder().getId();
+        OrderBalance balance = balanceOf(orderId);
+        balance.applyRefund(amount);
+
+        entryRepository.save(LedgerEntry.of(orderId, payment.getId(), LedgerEntryType.REFUND,
+                amount, "refund-" + payment.getId() + "-" + sequence));
+        return balance;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ll.P_A.payment.order;
+
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 전이 요청 (물류 출고/배송완료 반영용)
+ */
+public record BulkOrderTransitionRequestDto(
+        List<Item> items
+) {
+    /**
+     * @param target  SHIPPED 또는 COMPLETED
+     * @param version 클라이언트가 알고 있는 주문 버전 (다르면 STALE_VERSION, null 이면 검사 생략)
+     */
+    public record Item(Long orderId, OrderStatus target, Long version) {
+    }
+}
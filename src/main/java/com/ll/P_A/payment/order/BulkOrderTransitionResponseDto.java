@@ -0,0 +1,17 @@
+package com.ll.P_A.payment.order;
+
+import java.util.List;
+
+/**
+ * 일괄 전이 결과 (results 는 요청 items 순서와 동일)
+ */
+public record BulkOrderTransitionResponseDto(
+        int applied,
+        int failed,
+        List<OrderTransitionResult> results
+) {
+    static BulkOrderTransitionResponseDto of(List<OrderTransitionResult> results) {
+        int applied = (int) results.stream().filter(OrderTransitionResult::isApplied).count();
+        return new BulkOrderTransitionResponseDto(applied, results.size() - applied, results);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ll.P_A.payment.order;
 
+import com.ll.P_A.global.exception.ErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -12,7 +13,16 @@ import java.time.Instant;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                // 주문 내역(키셋 페이징): buyerId 동등 조건 + id 역순 범위 스캔
+                @Index(name = "idx_orders_buyer_id", columnList = "buyerId, id"),
+                @Index(name = "idx_orders_buyer_status_id", columnList = "buyerId, status, id"),
+                // 만료 잡: status = PENDING and createdAt < cutoff
+                @Index(name = "idx_orders_status_created", columnList = "status, createdAt")
+        }
+)
 public class Order {
 
     @Id
@@ -67,22 +77,37 @@ public class Order {
     }
 
     public void requestRefund() {
-        if (this.status != OrderStatus.PAID && this.status != OrderStatus.SHIPPED) {
-            throw new IllegalStateException("환불 요청 불가: " + this.status);
+        if (this.status != OrderStatus.PAID && this.status != OrderStatus.SHIPPED
+                && this.status != OrderStatus.PARTIALLY_REFUNDED) {
+            throw ErrorCode.ORDER_NOT_REFUNDABLE.exception(this.status);
         }
         this.status = OrderStatus.REFUND_REQUESTED;
     }
 
     public void markRefunded() {
-        if (this.status != OrderStatus.REFUND_REQUESTED && this.status != OrderStatus.PAID) {
-            throw new IllegalStateException("환불 완료 불가: " + this.status);
+        if (!isRefundable()) {
+            throw ErrorCode.ORDER_NOT_REFUNDABLE.exception(this.status);
         }
         this.status = OrderStatus.REFUNDED;
     }
 
+    // 일부 금액만 환불 (잔액이 남아 있음)
+    public void markPartiallyRefunded() {
+        if (!isRefundable()) {
+            throw ErrorCode.ORDER_NOT_REFUNDABLE.exception(this.status);
+        }
+        this.status = OrderStatus.PARTIALLY_REFUNDED;
+    }
+
+    private boolean isRefundable() {
+        return this.status == OrderStatus.REFUND_REQUESTED
+                || this.status == OrderStatus.PAID
+                || this.status == OrderStatus.PARTIALLY_REFUNDED;
+    }
+
     private void ensureStatus(OrderStatus expected) {
         if (this.status != expected) {
-            throw new IllegalStateException("상태 전이 불가: 현재=" + this.status + ", 기대=" + expected);
+            throw ErrorCode.ORDER_TRANSITION_NOT_ALLOWED.exception(this.status, expected);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.ll.P_A.payment.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/pay/admin/orders")
+@RequiredArgsConstructor
+public class OrderAdminController {
+
+    private final OrderBulkTransitionService bulkTransitionService;
+
+    // 출고/배송완료 일괄 반영 (항목별 결과 반환, 일부 실패해도 200)
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/transitions")
+    public BulkOrderTransitionResponseDto transition(@RequestBody BulkOrderTransitionRequestDto req) {
+        return bulkTransitionService.transition(req.items());
+    }
+}
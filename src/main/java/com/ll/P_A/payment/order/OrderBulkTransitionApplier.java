@@ -0,0 +1,93 @@
+package com.ll.P_A.payment.order;
+
+import com.ll.P_A.global.exception.DomainException;
+import com.ll.P_A.global.retry.RetryOnConflict;
+import com.ll.P_A.payment.outbox.OutboxService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일괄 전이 chunk 하나를 한 트랜잭션에서 처리
+ * - 주문은 IN 조회 한 번으로 로딩, 변경분은 커밋 시 JDBC 배치 UPDATE (@Version 조건 포함)
+ * - 항목별 검증 실패는 결과로만 남기고 나머지는 계속 진행
+ * - 커밋 시 version 충돌이면 chunk 전체 롤백 후 재조회부터 재시도
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderBulkTransitionApplier {
+
+    private final OrderRepository orderRepository;
+    private final OutboxService outboxService;
+
+    @RetryOnConflict("order.bulk")
+    @Transactional
+    public List<OrderTransitionResult> applyChunk(List<BulkOrderTransitionRequestDto.Item> items) {
+        Set<Long> ids = new HashSet<>();
+        for (BulkOrderTransitionRequestDto.Item item : items) {
+            if (item.orderId() != null) ids.add(item.orderId());
+        }
+        Map<Long, Order> orders = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Order order : orderRepository.findAllById(ids)) {
+                orders.put(order.getId(), order);
+            }
+        }
+
+        List<OrderTransitionResult> rejected = new ArrayList<>(items.size());
+        List<Order> transitioned = new ArrayList<>(items.size());
+        for (BulkOrderTransitionRequestDto.Item item : items) {
+            Order order = orders.get(item.orderId());
+            OrderTransitionResult rejection = apply(item, order);
+            rejected.add(rejection);
+            if (rejection == null) {
+                transitioned.add(order);
+                outboxService.recordOrderTransition(order);
+            }
+        }
+
+        // 변경분을 먼저 반영해야 결과에 증가된 version 을 돌려줄 수 있음
+        if (!transitioned.isEmpty()) {
+            orderRepository.flush();
+        }
+
+        List<OrderTransitionResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            OrderTransitionResult rejection = rejected.get(i);
+            results.add(rejection != null ? rejection : OrderTransitionResult.applied(orders.get(items.get(i).orderId())));
+        }
+        return results;
+    }
+
+    // 전이 성공 시 null, 실패 시 사유
+    private OrderTransitionResult apply(BulkOrderTransitionRequestDto.Item item, Order order) {
+        if (order == null) {
+            return OrderTransitionResult.rejected(
+                    item.orderId(), OrderTransitionResult.Outcome.NOT_FOUND, null, "Order not found: " + item.orderId());
+        }
+        if (item.version() != null && !item.version().equals(order.getVersion())) {
+            return OrderTransitionResult.rejected(item.orderId(), OrderTransitionResult.Outcome.STALE_VERSION, order,
+                    "버전 불일치: 현재=" + order.getVersion() + ", 요청=" + item.version());
+        }
+        try {
+            if (item.target() == OrderStatus.SHIPPED) {
+                order.markShipped();
+            } else if (item.target() == OrderStatus.COMPLETED) {
+                order.markCompleted();
+            } else {
+                throw new IllegalStateException("일괄 전이를 지원하지 않는 상태: " + item.target());
+            }
+            return null;
+        } catch (DomainException | IllegalStateException e) {
+            return OrderTransitionResult.rejected(
+                    item.orderId(), OrderTransitionResult.Outcome.INVALID_TRANSITION, order, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ll.P_A.payment.order;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 전이 (물류 시스템의 대량 출고/배송완료 반영)
+ * - 요청을 chunk 로 나눠 chunk 마다 짧은 트랜잭션으로 처리 → 한 chunk 실패가 다른 chunk 에 영향 없음
+ */
+@Slf4j
+@Service
+public class OrderBulkTransitionService {
+
+    private final OrderBulkTransitionApplier applier;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public OrderBulkTransitionService(
+            OrderBulkTransitionApplier applier,
+            @Value("${trade.order-bulk.chunk-size:500}") int chunkSize,
+            @Value("${trade.order-bulk.max-items:5000}") int maxItems
+    ) {
+        this.applier = applier;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public BulkOrderTransitionResponseDto transition(List<BulkOrderTransitionRequestDto.Item> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("items 가 비어 있습니다.");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 주문은 최대 " + maxItems + "건입니다.");
+        }
+
+        List<OrderTransitionResult> results = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            List<BulkOrderTransitionRequestDto.Item> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            try {
+                results.addAll(applier.applyChunk(chunk));
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                log.warn("[OrderBulk] chunk 충돌로 미반영: size={}, firstOrderId={}", chunk.size(), chunk.get(0).orderId());
+                for (BulkOrderTransitionRequestDto.Item item : chunk) {
+                    results.add(OrderTransitionResult.rejected(item.orderId(), OrderTransitionResult.Outcome.CONFLICT,
+                            null, "다른 요청과 동시에 처리되었습니다. 다시 시도해주세요."));
+                }
+            }
+        }
+        return BulkOrderTransitionResponseDto.of(results);
+    }
+}
@@ -1,6 +1,8 @@
 package com.ll.P_A.payment.order;
 
+import com.ll.P_A.security.jwt.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
@@ -24,6 +26,17 @@ public class OrderController {
         return OrderResponseDto.from(order);
     }
 
+    // 내 주문 내역 (키셋 페이징, status 선택 필터)
+    @GetMapping("/history")
+    public OrderHistoryResponseDto history(
+            @AuthenticationPrincipal CustomUserDetails loginUser,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return orderService.getHistory(loginUser.getId(), status, cursor, size);
+    }
+
     // 주문 조회
     @GetMapping("/{orderId}")
     public OrderResponseDto get(@PathVariable Long orderId) {
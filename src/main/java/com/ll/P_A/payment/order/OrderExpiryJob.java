@@ -0,0 +1,82 @@
+package com.ll.P_A.payment.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 결제되지 않은 채 오래된 PENDING 주문을 일괄 취소하는 만료 잡
+ * - id 키셋으로 chunk 를 뽑고 chunk 당 UPDATE 한 번 (건별 로딩/저장 X)
+ * - PG 로 전송된 결제가 있는 주문은 제외, 결제 예약과의 경합은 version 증가로 감지
+ * - 만료된 주문은 아웃박스에 ORDER_CANCELLED 로 기록
+ */
+@Slf4j
+@Component
+public class OrderExpiryJob {
+
+    private final OrderExpiryService expiryService;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final Counter expiredCounter;
+    private final Timer runTimer;
+
+    public OrderExpiryJob(
+            OrderExpiryService expiryService,
+            MeterRegistry meterRegistry,
+            @Value("${trade.order-expiry.max-age-minutes:30}") long maxAgeMinutes,
+            @Value("${trade.order-expiry.chunk-size:500}") int chunkSize,
+            @Value("${trade.order-expiry.max-chunks-per-run:20}") int maxChunksPerRun
+    ) {
+        this.expiryService = expiryService;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.expiredCounter = Counter.builder("app.orders.expired")
+                .description("만료 처리된 PENDING 주문 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("app.orders.expiry.run")
+                .description("주문 만료 잡 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${trade.order-expiry.fixed-delay-ms:60000}",
+            initialDelayString = "${trade.order-expiry.initial-delay-ms:60000}"
+    )
+    public void expireStaleOrders() {
+        runTimer.record(() -> {
+            int expired = expireOnce(Instant.now().minus(maxAge));
+            if (expired > 0) {
+                log.info("PENDING 주문 만료: {}건", expired);
+            }
+        });
+    }
+
+    int expireOnce(Instant cutoff) {
+        int total = 0;
+        long afterId = 0L;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> ids = expiryService.findExpirableIds(cutoff, afterId, chunkSize);
+            if (ids.isEmpty()) break;
+
+            int updated = expiryService.expire(ids, cutoff);
+            expiredCounter.increment(updated);
+            total += updated;
+
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) break;
+        }
+        return total;
+    }
+}
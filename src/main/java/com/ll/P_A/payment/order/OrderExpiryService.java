@@ -0,0 +1,54 @@
+package com.ll.P_A.payment.order;
+
+import com.ll.P_A.payment.outbox.OutboxService;
+import com.ll.P_A.payment.payment.PaymentStatus;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 주문 만료 chunk 단위 처리 (UPDATE 와 아웃박스 기록을 한 트랜잭션에서)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExpiryService {
+
+    static final List<PaymentStatus> SETTLED = List.of(
+            PaymentStatus.SUCCEEDED, PaymentStatus.REFUND_PENDING,
+            PaymentStatus.PARTIALLY_REFUNDED, PaymentStatus.REFUNDED);
+
+    private final OrderRepository orderRepository;
+    private final OutboxService outboxService;
+
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Long> findExpirableIds(Instant cutoff, long afterId, int limit) {
+        return orderRepository.findExpirableIds(
+                OrderStatus.PENDING, cutoff, afterId, PaymentStatus.INITIATED, SETTLED, Limit.of(limit));
+    }
+
+    /**
+     * 후보 행을 잠근 뒤 일괄 UPDATE, 잠근 행 중 CANCELLED 가 된 것만 아웃박스에 기록
+     * - 행 잠금 동안 다른 전이가 끼어들 수 없으므로 시각 비교 없이 정확히 이번에 만료한 주문만 고름
+     * @return 실제로 만료된 주문 수
+     */
+    @Transactional
+    public int expire(List<Long> ids, Instant cutoff) {
+        List<Long> locked = orderRepository.lockExpirable(
+                ids, OrderStatus.PENDING, cutoff, PaymentStatus.INITIATED, SETTLED);
+        if (locked.isEmpty()) return 0;
+
+        int updated = orderRepository.expire(
+                locked, OrderStatus.PENDING, OrderStatus.CANCELLED, Instant.now(), PaymentStatus.INITIATED, SETTLED);
+        if (updated > 0) {
+            List<Long> expired = updated == locked.size()
+                    ? locked
+                    : orderRepository.findIdsByIdInAndStatus(locked, OrderStatus.CANCELLED);
+            outboxService.recordOrderTransitions(expired, OrderStatus.CANCELLED.name());
+        }
+        return updated;
+    }
+}
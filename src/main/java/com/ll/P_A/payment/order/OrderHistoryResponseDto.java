@@ -0,0 +1,14 @@
+package com.ll.P_A.payment.order;
+
+import java.util.List;
+
+/**
+ * 주문 내역 한 페이지
+ * @param nextCursor 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+ */
+public record OrderHistoryResponseDto(
+        List<OrderSummary> items,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
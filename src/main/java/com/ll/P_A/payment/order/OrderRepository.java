@@ -1,9 +1,70 @@
 package com.ll.P_A.payment.order;
 
+import com.ll.P_A.payment.payment.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    List<Order> findByBuyerIdOrderByIdDesc(Long buyerId);
-    List<Order> findByBuyerIdAndStatusOrderByIdDesc(Long buyerId, OrderStatus status);
-}
\ No newline at end of file
+
+    // 주문 내역 키셋 페이징: id < cursor 를 인덱스(buyerId, [status,] id) 역순으로 limit 건만 조회
+    List<OrderSummary> findByBuyerIdAndIdLessThanOrderByIdDesc(Long buyerId, Long cursor, Limit limit);
+    List<OrderSummary> findByBuyerIdAndStatusAndIdLessThanOrderByIdDesc(
+            Long buyerId, OrderStatus status, Long cursor, Limit limit);
+
+    // 결제 예약용 조회: 커밋 시 version 을 올려 동시에 주문을 바꾼 트랜잭션(만료 등)과 충돌을 감지
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findForPaymentById(@Param("id") Long id);
+
+    // PG 로 전송된(결과 대기) 결제나 확정된 결제가 있는 주문은 만료 대상에서 제외
+    String NO_ACTIVE_PAYMENT = " and not exists (select p.id from Payment p where p.order = o"
+            + " and ((p.status = :inFlight and p.pgRequestedAt is not null) or p.status in :settled))";
+
+    // 만료 대상 주문 id (키셋: afterId 이후, id 오름차순)
+    @Query("select o.id from Order o where o.status = :status and o.createdAt < :cutoff and o.id > :afterId"
+            + NO_ACTIVE_PAYMENT + " order by o.id")
+    List<Long> findExpirableIds(@Param("status") OrderStatus status,
+                                @Param("cutoff") Instant cutoff,
+                                @Param("afterId") Long afterId,
+                                @Param("inFlight") PaymentStatus inFlight,
+                                @Param("settled") Collection<PaymentStatus> settled,
+                                Limit limit);
+
+    // 만료할 주문 행 잠금: 잠근 뒤에는 다른 트랜잭션이 상태를 바꾸지 못함 → UPDATE 후 CANCELLED 인 행 = 이번에 만료한 행
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id from Order o where o.id in :ids and o.status = :status and o.createdAt < :cutoff"
+            + NO_ACTIVE_PAYMENT)
+    List<Long> lockExpirable(@Param("ids") Collection<Long> ids,
+                             @Param("status") OrderStatus status,
+                             @Param("cutoff") Instant cutoff,
+                             @Param("inFlight") PaymentStatus inFlight,
+                             @Param("settled") Collection<PaymentStatus> settled);
+
+    // 일괄 만료: 결제 조건을 UPDATE 시점에 다시 검사하고 version 을 올려 먼저 읽어 둔 트랜잭션의 커밋을 실패시킴
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :expired, o.version = o.version + 1, o.updatedAt = :now"
+            + " where o.id in :ids and o.status = :status"
+            + NO_ACTIVE_PAYMENT)
+    int expire(@Param("ids") Collection<Long> ids,
+               @Param("status") OrderStatus status,
+               @Param("expired") OrderStatus expired,
+               @Param("now") Instant now,
+               @Param("inFlight") PaymentStatus inFlight,
+               @Param("settled") Collection<PaymentStatus> settled);
+
+    // 잠근 행 중 실제로 만료된 주문 id (아웃박스 기록용)
+    @Query("select o.id from Order o where o.id in :ids and o.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+}
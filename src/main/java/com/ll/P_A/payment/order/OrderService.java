@@ -1,20 +1,48 @@
 package com.ll.P_A.payment.order;
 
+import com.ll.P_A.global.exception.ErrorCode;
+import com.ll.P_A.global.retry.RetryOnConflict;
+import com.ll.P_A.payment.outbox.OutboxService;
+import com.ll.P_A.payment.precheckout.PrecheckoutRegistry;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
+    private final OutboxService outboxService;
+    private final PrecheckoutRegistry precheckoutRegistry;
 
     @Transactional(Transactional.TxType.SUPPORTS)
     public Order get(Long orderId) {
         return getOrThrow(orderId);
     }
 
+    // 구매자 주문 내역 (키셋 페이징: OFFSET 없이 마지막 id 기준으로 이어서 조회)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public OrderHistoryResponseDto getHistory(Long buyerId, OrderStatus status, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        long before = (cursor == null) ? Long.MAX_VALUE : cursor;
+        Limit limit = Limit.of(pageSize + 1); // 한 건 더 읽어 다음 페이지 유무 판단
+
+        List<OrderSummary> rows = (status == null)
+                ? orderRepository.findByBuyerIdAndIdLessThanOrderByIdDesc(buyerId, before, limit)
+                : orderRepository.findByBuyerIdAndStatusAndIdLessThanOrderByIdDesc(buyerId, status, before, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderSummary> items = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new OrderHistoryResponseDto(items, nextCursor, hasNext);
+    }
+
     @Transactional
     public Order createOrder(Long buyerId, Long listingId, Long amount, ShippingInfo ship) {
         Order order = Order.builder()
@@ -24,7 +52,7 @@ public class OrderService {
                 .shippingInfo(ship)
                 .status(OrderStatus.PENDING)
                 .build();
-        return orderRepository.save(order);
+        return registerForCheckout(orderRepository.save(order));
     }
 
     // Toss 결제용 임시 주문 생성
@@ -37,47 +65,65 @@ public class OrderService {
                 .amount((long) totalAmount)
                 .status(OrderStatus.PENDING)
                 .build();
-        return orderRepository.save(order);
+        return registerForCheckout(orderRepository.save(order));
     }
 
+    @RetryOnConflict("order.paid")
     @Transactional
     public void markOrderPaid(Long orderId) {
         Order order = getOrThrow(orderId);
         order.markPaid();
+        outboxService.recordOrderTransition(order);
     }
 
+    @RetryOnConflict("order.shipped")
     @Transactional
     public void markOrderShipped(Long orderId) {
         Order order = getOrThrow(orderId);
         order.markShipped();
+        outboxService.recordOrderTransition(order);
     }
 
+    @RetryOnConflict("order.completed")
     @Transactional
     public void markOrderCompleted(Long orderId) {
         Order order = getOrThrow(orderId);
         order.markCompleted();
+        outboxService.recordOrderTransition(order);
     }
 
+    @RetryOnConflict("order.cancelled")
     @Transactional
     public void cancelBeforePayment(Long orderId, String reason) {
         Order order = getOrThrow(orderId);
         order.cancelBeforePayment(reason);
+        outboxService.recordOrderTransition(order);
     }
 
+    @RetryOnConflict("order.refund-requested")
     @Transactional
     public void requestRefund(Long orderId) {
         Order order = getOrThrow(orderId);
         order.requestRefund();
+        outboxService.recordOrderTransition(order);
     }
 
+    @RetryOnConflict("order.refunded")
     @Transactional
     public void markRefunded(Long orderId) {
         Order order = getOrThrow(orderId);
         order.markRefunded();
+        outboxService.recordOrderTransition(order);
+    }
+
+    // 결제 승인 시 DB/PG 없이 금액을 대조할 수 있도록 기대 금액 등록 (키 = Toss orderId 문자열)
+    private Order registerForCheckout(Order order) {
+        precheckoutRegistry.register(String.valueOf(order.getId()), order.getAmount());
+        return order;
     }
 
     private Order getOrThrow(Long orderId) {
         return orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+                .orElseThrow(() -> ErrorCode.ORDER_NOT_FOUND.exception(orderId));
     }
 }
\ No newline at end of file
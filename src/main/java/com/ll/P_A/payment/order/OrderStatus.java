@@ -7,5 +7,6 @@ public enum OrderStatus {
     COMPLETED,        // 수취확정
     CANCELLED,        // 결제 전 취소
     REFUND_REQUESTED, // 환불 요청
+    PARTIALLY_REFUNDED, // 일부 환불
     REFUNDED          // 환불 완료
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.ll.P_A.payment.order;
+
+import java.time.Instant;
+
+/**
+ * 주문 목록용 프로젝션 (배송지 등 임베디드 컬럼은 조회하지 않음)
+ */
+public interface OrderSummary {
+    Long getId();
+    Long getListingId();
+    String getName();
+    Long getAmount();
+    OrderStatus getStatus();
+    Instant getCreatedAt();
+}
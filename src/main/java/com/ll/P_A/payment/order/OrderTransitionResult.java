@@ -0,0 +1,40 @@
+package com.ll.P_A.payment.order;
+
+/**
+ * 일괄 전이 항목별 결과
+ * @param status  처리 후(실패 시 현재) 주문 상태, 주문이 없으면 null
+ * @param version 처리 후 주문 버전 (다음 요청의 version 으로 사용)
+ */
+public record OrderTransitionResult(
+        Long orderId,
+        Outcome outcome,
+        OrderStatus status,
+        Long version,
+        String message
+) {
+    public enum Outcome {
+        APPLIED,            // 전이 성공
+        NOT_FOUND,          // 주문 없음
+        INVALID_TRANSITION, // 상태 머신상 허용되지 않는 전이
+        STALE_VERSION,      // 요청 version 과 현재 version 불일치
+        CONFLICT            // 재시도 후에도 동시 수정 충돌 (chunk 전체 미반영)
+    }
+
+    static OrderTransitionResult applied(Order order) {
+        return new OrderTransitionResult(order.getId(), Outcome.APPLIED, order.getStatus(), order.getVersion(), null);
+    }
+
+    static OrderTransitionResult rejected(Long orderId, Outcome outcome, Order current, String message) {
+        return new OrderTransitionResult(
+                orderId,
+                outcome,
+                current != null ? current.getStatus() : null,
+                current != null ? current.getVersion() : null,
+                message
+        );
+    }
+
+    public boolean isApplied() {
+        return outcome == Outcome.APPLIED;
+    }
+}
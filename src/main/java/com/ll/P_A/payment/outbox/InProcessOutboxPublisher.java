@@ -0,0 +1,34 @@
+package com.ll.P_A.payment.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 같은 JVM 의 @EventListener 로 전달 (릴레이 트랜잭션 안에서 동기 호출)
+ * - 구독자가 DB 에 쓰면 발행 표시와 함께 커밋/롤백
+ * - 구독자 예외는 이벤트 id 를 담아 던짐 → 배치 롤백 후 그 이벤트만 시도 횟수 증가
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "trade.outbox.publisher", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxPublisher implements OutboxPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            try {
+                eventPublisher.publishEvent(message);
+            } catch (OutboxDeliveryException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new OutboxDeliveryException(message.id(), e);
+            }
+        }
+    }
+}
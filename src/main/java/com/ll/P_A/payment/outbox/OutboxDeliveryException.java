@@ -0,0 +1,19 @@
+package com.ll.P_A.payment.outbox;
+
+import lombok.Getter;
+
+/**
+ * 특정 이벤트 하나의 전달 실패 (구독자 예외 등)
+ * - 릴레이는 배치를 롤백하고 해당 이벤트의 시도 횟수만 올림 → 최대 시도 초과 시 FAILED 로 격리
+ * - 이벤트를 특정할 수 없는 실패(브로커 장애, 커밋 시점 예외 등)는 일반 예외 → 릴레이가 맨 앞 이벤트만 단건으로 재시도해 격리
+ */
+@Getter
+public class OutboxDeliveryException extends RuntimeException {
+
+    private final Long eventId;
+
+    public OutboxDeliveryException(Long eventId, Throwable cause) {
+        super("아웃박스 이벤트 전달 실패: id=" + eventId, cause);
+        this.eventId = eventId;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ll.P_A.payment.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트 (상태 전이와 같은 트랜잭션에서 INSERT)
+ * - 릴레이가 PENDING 을 id 순서대로 읽어 발행하고 행마다 PUBLISHED 로 표시
+ *   → 늦게 커밋된 앞 번호 이벤트도 커밋되는 순간 다음 주기에 발행됨 (id 커서처럼 건너뛰지 않음)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_status", columnList = "status, id")
+)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String aggregateType;   // ORDER ...
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;       // ORDER_PAID, ORDER_REFUNDED ...
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;         // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status;
+
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant publishedAt;
+
+    static OutboxEvent of(String aggregateType, Long aggregateId, String eventType, String payload, Instant now) {
+        return OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .status(OutboxEventStatus.PENDING)
+                .createdAt(now)
+                .build();
+    }
+
+    void markPublished(Instant now) {
+        this.status = OutboxEventStatus.PUBLISHED;
+        this.publishedAt = now;
+    }
+
+    // 전달 실패 1회 기록: 최대 시도에 도달하면 FAILED 로 빼서 뒤 이벤트 발행을 막지 않음
+    void markRetry(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxEventStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ll.P_A.payment.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 발행 대기 이벤트를 id 순서대로 (커밋이 늦은 앞 번호도 상태로 찾으므로 누락 없음)
+    List<OutboxEvent> findByStatusOrderByIdAsc(OutboxEventStatus status, Limit limit);
+
+    // 대기열 깊이 게이지용
+    long countByStatus(OutboxEventStatus status);
+
+    // 발행 완료 + 보관 기간 지난 이벤트 정리 (FAILED 는 확인용으로 남김)
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :status and e.publishedAt < :before")
+    int deletePublishedBefore(@Param("status") OutboxEventStatus status, @Param("before") Instant before);
+}
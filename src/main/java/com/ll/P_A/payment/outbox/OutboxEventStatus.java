@@ -0,0 +1,7 @@
+package com.ll.P_A.payment.outbox;
+
+public enum OutboxEventStatus {
+    PENDING,    // 발행 대기 (구독자 실패로 재시도 대기 포함)
+    PUBLISHED,  // 발행 완료
+    FAILED      // 최대 시도 초과 (dead letter, 원인 해결 후 PENDING 으로 되돌려 재발행)
+}
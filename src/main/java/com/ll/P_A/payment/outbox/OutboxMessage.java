@@ -0,0 +1,20 @@
+package com.ll.P_A.payment.outbox;
+
+import java.time.Instant;
+
+/**
+ * 구독자에게 전달되는 아웃박스 이벤트 (in-process: @EventListener(OutboxMessage.class))
+ */
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        Instant createdAt
+) {
+    static OutboxMessage from(OutboxEvent e) {
+        return new OutboxMessage(e.getId(), e.getAggregateType(), e.getAggregateId(),
+                e.getEventType(), e.getPayload(), e.getCreatedAt());
+    }
+}
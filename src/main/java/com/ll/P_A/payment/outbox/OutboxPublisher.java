@@ -0,0 +1,13 @@
+package com.ll.P_A.payment.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 발행 백엔드
+ * - 예외 없이 반환하면 배치 전체가 전달된 것으로 보고 PUBLISHED 로 표시 (at-least-once)
+ * - 특정 이벤트 때문에 실패하면 OutboxDeliveryException 으로 그 id 를 알려 릴레이가 격리할 수 있게 함
+ */
+public interface OutboxPublisher {
+
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,91 @@
+package com.ll.P_A.payment.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 아웃박스 릴레이: 주기적으로 쌓인 이벤트를 배치 발행하고 오래된 발행 완료 이벤트를 정리
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRelayService relayService;
+    private final OutboxEventRepository eventRepository;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public OutboxRelay(
+            OutboxRelayService relayService,
+            OutboxEventRepository eventRepository,
+            @Value("${trade.outbox.batch-size:200}") int batchSize,
+            @Value("${trade.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${trade.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${trade.outbox.retention-days:7}") long retentionDays
+    ) {
+        this.relayService = relayService;
+        this.eventRepository = eventRepository;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Scheduled(fixedDelayString = "${trade.outbox.relay-delay-ms:500}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int published;
+            try {
+                published = relayService.relayBatch(batchSize);
+            } catch (OutboxDeliveryException e) {
+                // 특정 이벤트의 구독자 실패 → 그 이벤트만 시도 횟수 증가, 한도 도달 시 FAILED 로 빠져 뒤 이벤트가 진행됨
+                recordDeliveryFailure(e);
+                return;
+            } catch (RuntimeException e) {
+                // 이벤트를 특정할 수 없는 실패(커밋 시점 제약 위반, rollback-only, 발행 백엔드 장애 등)
+                // → 맨 앞 이벤트만 따로 발행해 원인 격리
+                isolateHead(e);
+                return;
+            }
+            if (published < batchSize) return;
+        }
+    }
+
+    /**
+     * 맨 앞 이벤트 하나만으로 다시 발행, 그래도 실패하면 그 이벤트의 시도 횟수를 별도 트랜잭션에서 올림
+     * - 같은 배치가 매 주기 통째로 롤백되며 뒤 이벤트를 무한히 막는 것을 방지 (한도 도달 시 FAILED)
+     * - 발행 백엔드 장애가 길어지면 맨 앞 이벤트가 FAILED 로 빠질 수 있음 → FAILED 이벤트는 운영자가 PENDING 으로 되돌려 재발행
+     */
+    private void isolateHead(RuntimeException batchFailure) {
+        log.warn("아웃박스 배치 발행 실패, 단건으로 재시도: {}", batchFailure.toString());
+        try {
+            relayService.relayBatch(1);
+        } catch (OutboxDeliveryException e) {
+            recordDeliveryFailure(e);
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 단건 발행 실패: {}", e.toString());
+            relayService.recordHeadFailure(e.toString(), maxAttempts);
+        }
+    }
+
+    private void recordDeliveryFailure(OutboxDeliveryException e) {
+        log.warn("아웃박스 이벤트 전달 실패: id={}, {}", e.getEventId(), e.getCause().toString());
+        relayService.recordFailure(e.getEventId(), e.getCause().toString(), maxAttempts);
+    }
+
+    @Scheduled(fixedDelayString = "${trade.outbox.cleanup-delay-ms:3600000}")
+    public void purgePublished() {
+        int deleted = eventRepository.deletePublishedBefore(
+                OutboxEventStatus.PUBLISHED, Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("발행 완료 아웃박스 이벤트 정리: {}건", deleted);
+        }
+    }
+}
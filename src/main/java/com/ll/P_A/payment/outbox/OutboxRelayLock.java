@@ -0,0 +1,32 @@
+package com.ll.P_A.payment.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 릴레이 실행 잠금 행 (여러 인스턴스 중 한 번에 하나만 발행 → 구독자의 집계 행 갱신 경합 없음)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_relay_locks")
+public class OutboxRelayLock {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    private Instant lastRelayedAt;
+
+    OutboxRelayLock(String name) {
+        this.name = name;
+    }
+
+    void touch(Instant now) {
+        this.lastRelayedAt = now;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ll.P_A.payment.outbox;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutboxRelayLockRepository extends JpaRepository<OutboxRelayLock, String> {
+
+    // 릴레이 인스턴스가 여러 대여도 한 번에 하나만 발행 (행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from OutboxRelayLock l where l.name = :name")
+    Optional<OutboxRelayLock> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,63 @@
+package com.ll.P_A.payment.outbox;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아웃박스 → 발행자 배치 전달 (릴레이 잠금 → 조회 → 발행 → 발행 표시를 한 트랜잭션에서)
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxRelayService {
+
+    static final String LOCK = "default";
+
+    private final OutboxEventRepository eventRepository;
+    private final OutboxRelayLockRepository lockRepository;
+    private final OutboxPublisher publisher;
+
+    /** @return 발행한 이벤트 수 */
+    @Transactional
+    public int relayBatch(int batchSize) {
+        OutboxRelayLock lock = lockRepository.findForUpdate(LOCK)
+                .orElseGet(() -> lockRepository.save(new OutboxRelayLock(LOCK)));
+
+        List<OutboxEvent> events = eventRepository.findByStatusOrderByIdAsc(
+                OutboxEventStatus.PENDING, Limit.of(batchSize));
+        if (events.isEmpty()) return 0;
+
+        List<OutboxMessage> messages = new ArrayList<>(events.size());
+        for (OutboxEvent e : events) {
+            messages.add(OutboxMessage.from(e));
+        }
+        publisher.publish(messages);
+
+        Instant now = Instant.now();
+        for (OutboxEvent e : events) {
+            e.markPublished(now);
+        }
+        lock.touch(now);
+        return events.size();
+    }
+
+    // 배치가 롤백된 뒤 별도 트랜잭션에서 실패 이벤트의 시도 횟수만 기록
+    @Transactional
+    public void recordFailure(Long eventId, String error, int maxAttempts) {
+        eventRepository.findById(eventId)
+                .filter(e -> e.getStatus() == OutboxEventStatus.PENDING)
+                .ifPresent(e -> e.markRetry(error, maxAttempts));
+    }
+
+    // 원인 이벤트를 특정할 수 없는 단건 발행 실패: 맨 앞 PENDING 이벤트의 시도 횟수 기록
+    @Transactional
+    public void recordHeadFailure(String error, int maxAttempts) {
+        eventRepository.findByStatusOrderByIdAsc(OutboxEventStatus.PENDING, Limit.of(1))
+                .forEach(e -> e.markRetry(error, maxAttempts));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ll.P_A.payment.outbox;
+
+import com.ll.P_A.payment.order.Order;
+import com.ll.P_A.payment.payment.Payment;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.json.JSONObject;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 주문/결제 상태 전이를 아웃박스에 기록
+ * - MANDATORY: 반드시 전이를 수행한 트랜잭션 안에서 호출 (전이와 이벤트가 함께 커밋/롤백)
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String ORDER = "ORDER";
+    public static final String PAYMENT = "PAYMENT";
+
+    private final OutboxEventRepository eventRepository;
+
+    // 전이 직후 호출: 이벤트 타입 = ORDER_{현재 상태}
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void recordOrderTransition(Order order) {
+        Instant now = Instant.now();
+        eventRepository.save(orderEvent(order.getId(), order.getStatus().name(), order.getAmount(), now));
+    }
+
+    // 일괄 전이(만료 등)용: 같은 상태로 바뀐 주문들을 한 번에 기록
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void recordOrderTransitions(Collection<Long> orderIds, String status) {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            events.add(orderEvent(orderId, status, null, now));
+        }
+        eventRepository.saveAll(events);
+    }
+
+    /**
+     * 결제 매입/환불 기록 (매출 집계 등 결제수단별 구독자용)
+     * @param eventType PAYMENT_CAPTURED / PAYMENT_REFUNDED
+     * @param amount    이번 전이로 매입/환불된 금액 (부분 환불이면 그 금액만)
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void recordPaymentTransition(Payment payment, String eventType, long amount) {
+        Instant now = Instant.now();
+        JSONObject payload = new JSONObject();
+        payload.put("paymentId", payment.getId());
+        payload.put("orderId", payment.getOrder() != null ? payment.getOrder().getId() : JSONObject.NULL);
+        payload.put("provider", payment.getProvider() != null ? payment.getProvider() : JSONObject.NULL);
+        payload.put("method", payment.getMethod() != null ? payment.getMethod() : JSONObject.NULL);
+        payload.put("amount", amount);
+        payload.put("occurredAt", now.toString());
+        eventRepository.save(OutboxEvent.of(PAYMENT, payment.getId(), eventType, payload.toString(), now));
+    }
+
+    private OutboxEvent orderEvent(Long orderId, String status, Long amount, Instant now) {
+        JSONObject payload = new JSONObject();
+        payload.put("orderId", orderId);
+        payload.put("status", status);
+        if (amount != null) payload.put("amount", amount);
+        payload.put("occurredAt", now.toString());
+        return OutboxEvent.of(ORDER, orderId, "ORDER_" + status, payload.toString(), now);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ll.P_A.payment.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Streams 로 발행 (다른 서비스/인스턴스가 consumer group 으로 구독)
+ * - 배치를 파이프라인 한 번으로 XADD, 스트림 길이는 대략 maxLength 로 유지
+ */
+@Component
+@ConditionalOnProperty(name = "trade.outbox.publisher", havingValue = "redis")
+public class RedisStreamOutboxPublisher implements OutboxPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String streamKey;
+    private final long maxLength;
+
+    public RedisStreamOutboxPublisher(
+            StringRedisTemplate redisTemplate,
+            @Value("${trade.outbox.redis.stream-key:outbox:events}") String streamKey,
+            @Value("${trade.outbox.redis.max-length:100000}") long maxLength
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxMessage m : messages) {
+                MapRecord<String, String, String> record = StreamRecords.newRecord()
+                        .in(streamKey)
+                        .ofMap(Map.of(
+                                "id", String.valueOf(m.id()),
+                                "aggregateType", m.aggregateType(),
+                                "aggregateId", String.valueOf(m.aggregateId()),
+                                "eventType", m.eventType(),
+                                "payload", m.payload(),
+                                "createdAt", m.createdAt().toString()
+                        ));
+                connection.streamCommands().xAdd(record.serialize(redisTemplate.getStringSerializer()));
+            }
+            return null;
+        });
+        redisTemplate.opsForStream().trim(streamKey, maxLength, true);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ll.P_A.payment.payment;
 
+import com.ll.P_A.global.exception.ErrorCode;
 import com.ll.P_A.payment.order.Order;
 import jakarta.persistence.*;
 import lombok.*;
@@ -19,7 +20,8 @@ import java.time.Instant;
                 @Index(name = "idx_payment_order", columnList = "order_id"),
                 @Index(name = "idx_payment_paymentKey", columnList = "paymentKey", unique = true),
                 @Index(name = "idx_payment_txid", columnList = "transactionId", unique = true),
-                @Index(name = "idx_payment_idempotency", columnList = "idempotencyKey", unique = true)
+                @Index(name = "idx_payment_idempotency", columnList = "idempotencyKey", unique = true),
+                @Index(name = "idx_payment_status_pg_requested", columnList = "status, pgRequestedAt")
         }
 )
 public class Payment {
@@ -34,6 +36,13 @@ public class Payment {
 
     private Long amount;
 
+    // 누적 환불액 (부분 환불 반영) — 환불 가능액 = amount - refundedAmount
+    @Column(nullable = false)
+    private long refundedAmount;
+
+    // REFUND_PENDING 동안 PG 에 요청 중인 환불 금액
+    private Long refundPendingAmount;
+
     @Enumerated(EnumType.STRING)
     private PaymentStatus status;
 
@@ -53,6 +62,9 @@ public class Payment {
     private String failureCode;
     private String failureMessage;
 
+    // PG 호출 직전 시각 (INITIATED/REFUND_PENDING 인 채로 오래되면 in-doubt → 복구 잡이 PG 조회로 확정)
+    private Instant pgRequestedAt;
+
     @Version
     private Long version;
 
@@ -79,25 +91,72 @@ public class Payment {
         }
     }
 
+    // 승인 요청 예약: PG 호출 전에 paymentKey 를 먼저 기록해 두어 결과 불명 시 조회 가능하게 함
+    public void beginConfirm(String paymentKeyFromPg) {
+        ensureStatus(PaymentStatus.INITIATED);
+        this.paymentKey = paymentKeyFromPg;
+        this.pgRequestedAt = Instant.now();
+    }
+
     public void markFailed(String code, String message) {
-        if (this.status == PaymentStatus.SUCCEEDED) {
-            throw new IllegalStateException("이미 성공한 결제는 실패로 변경할 수 없습니다.");
+        if (this.status == PaymentStatus.SUCCEEDED
+                || this.status == PaymentStatus.REFUND_PENDING
+                || this.status == PaymentStatus.PARTIALLY_REFUNDED
+                || this.status == PaymentStatus.REFUNDED) {
+            throw ErrorCode.PAYMENT_ALREADY_SUCCEEDED.exception();
         }
         this.status = PaymentStatus.FAILED;
         this.failureCode = code;
         this.failureMessage = message;
     }
 
-    public void markRefunded() {
-        if (this.status != PaymentStatus.SUCCEEDED) {
-            throw new IllegalStateException("성공한 결제만 환불할 수 있습니다.");
+    // 환불 요청 예약: PG 취소 호출 전 REFUND_PENDING 으로 전환 (부분 환불 가능)
+    public void beginRefund(long refundAmount) {
+        if (this.status != PaymentStatus.SUCCEEDED && this.status != PaymentStatus.PARTIALLY_REFUNDED) {
+            throw ErrorCode.PAYMENT_NOT_REFUNDABLE.exception();
+        }
+        ensureRefundable(refundAmount);
+        this.status = PaymentStatus.REFUND_PENDING;
+        this.refundPendingAmount = refundAmount;
+        this.pgRequestedAt = Instant.now();
+    }
+
+    // PG 가 취소를 거절 → 환불 요청 전 상태로 되돌림
+    public void cancelRefund() {
+        ensureStatus(PaymentStatus.REFUND_PENDING);
+        this.status = (this.refundedAmount > 0) ? PaymentStatus.PARTIALLY_REFUNDED : PaymentStatus.SUCCEEDED;
+        this.refundPendingAmount = null;
+    }
+
+    // 환불 반영: 누적 환불액이 결제 금액에 도달하면 REFUNDED, 아니면 PARTIALLY_REFUNDED
+    public void applyRefund(long refundAmount) {
+        if (this.status != PaymentStatus.SUCCEEDED
+                && this.status != PaymentStatus.REFUND_PENDING
+                && this.status != PaymentStatus.PARTIALLY_REFUNDED) {
+            throw ErrorCode.PAYMENT_NOT_REFUNDABLE.exception();
+        }
+        ensureRefundable(refundAmount);
+        this.refundedAmount += refundAmount;
+        this.refundPendingAmount = null;
+        this.status = (this.refundedAmount >= this.amount) ? PaymentStatus.REFUNDED : PaymentStatus.PARTIALLY_REFUNDED;
+    }
+
+    public long getRefundableAmount() {
+        return this.amount - this.refundedAmount;
+    }
+
+    public void ensureRefundable(long refundAmount) {
+        if (refundAmount <= 0) {
+            throw ErrorCode.INVALID_REFUND_AMOUNT.exception();
+        }
+        if (refundAmount > getRefundableAmount()) {
+            throw ErrorCode.REFUND_EXCEEDS_BALANCE.exception(refundAmount, getRefundableAmount());
         }
-        this.status = PaymentStatus.REFUNDED;
     }
 
     private void ensureStatus(PaymentStatus expected) {
         if (this.status != expected) {
-            throw new IllegalStateException("결제 상태 전이 불가: 현재=" + this.status + ", 기대=" + expected);
+            throw ErrorCode.PAYMENT_TRANSITION_NOT_ALLOWED.exception(this.status, expected);
         }
     }
 }
\ No newline at end of file
@@ -46,13 +46,14 @@ public class PaymentController {
         return ResponseEntity.ok(PaymentResponseDto.from(payment));
     }
 
-    // [3] Toss 환불 처리 (실환불)
+    // [3] Toss 환불 처리 (실환불, cancelAmount 지정 시 부분 환불)
     @PostMapping("/toss/refund")
     public ResponseEntity<PaymentResponseDto> refundToss(@RequestBody RefundRequestDto dto) {
 
         Payment payment = paymentService.refundToss(
                 dto.paymentKey(),
-                dto.reason()
+                dto.reason(),
+                dto.cancelAmount()
         );
 
         return ResponseEntity.ok(PaymentResponseDto.from(payment));
@@ -0,0 +1,70 @@
+package com.ll.P_A.payment.payment;
+
+import com.ll.P_A.payment.toss.TossApiException;
+import com.ll.P_A.payment.toss.TossClient;
+import com.ll.P_A.payment.toss.TossPaymentResponse;
+import com.ll.P_A.payment.toss.TossUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * PG 호출 후 결과가 기록되지 않은(in-doubt) 결제를 PG 조회로 확정하는 복구 잡
+ * - INITIATED + pgRequestedAt 경과: 승인 결과 불명
+ * - REFUND_PENDING + pgRequestedAt 경과: 취소 결과 불명
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryJob {
+
+    private static final List<PaymentStatus> IN_DOUBT = List.of(PaymentStatus.INITIATED, PaymentStatus.REFUND_PENDING);
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentStateService paymentStateService;
+    private final TossClient tossClient;
+
+    @Value("${toss.recovery.in-doubt-after-seconds:60}")
+    private long inDoubtAfterSeconds;
+
+    @Value("${toss.recovery.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(
+            fixedDelayString = "${toss.recovery.fixed-delay-ms:60000}",
+            initialDelayString = "${toss.recovery.initial-delay-ms:60000}"
+    )
+    public void recoverInDoubtPayments() {
+        Instant cutoff = Instant.now().minusSeconds(inDoubtAfterSeconds);
+        List<Payment> candidates = paymentRepository.findByStatusInAndPgRequestedAtBeforeOrderByIdAsc(
+                IN_DOUBT, cutoff, Limit.of(batchSize));
+
+        for (Payment payment : candidates) {
+            try {
+                TossPaymentResponse pg = tossClient.getPayment(payment.getPaymentKey());
+                if (paymentStateService.syncWithPg(payment.getId(), pg.status(), pg.balanceAmount())) {
+                    log.info("in-doubt 결제 확정: paymentId={}, pgStatus={}", payment.getId(), pg.status());
+                }
+            } catch (TossApiException e) {
+                // PG 에 결제 자체가 없음 → 승인 요청이 도달하지 않은 것으로 보고 실패 확정
+                if (e.getHttpStatus() == 404 && payment.getStatus() == PaymentStatus.INITIATED) {
+                    paymentStateService.recordConfirmFailure(payment.getId(), e.getCode(), e.getMessage());
+                } else {
+                    log.warn("in-doubt 결제 조회 실패: paymentId={}, {}", payment.getId(), e.getMessage());
+                }
+            } catch (TossUnavailableException e) {
+                // PG 장애 중 → 다음 주기에 재시도
+                log.warn("PG 불가로 복구 중단: {}", e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("in-doubt 결제 복구 실패: paymentId={}", payment.getId(), e);
+            }
+        }
+    }
+}
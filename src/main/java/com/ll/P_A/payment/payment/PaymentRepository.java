@@ -1,17 +1,31 @@
 package com.ll.P_A.payment.payment;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
-    // 주문 ID로 결제 조회
-    Optional<Payment> findByOrderId(Long orderId);
+    // 주문의 결제 목록 (실패 후 재시도로 한 주문에 여러 결제가 생길 수 있음, 매입은 주문당 1건)
+    List<Payment> findByOrderIdOrderByIdAsc(Long orderId);
 
     // paymentKey(Toss transaction key)로 조회
     Optional<Payment> findByPaymentKey(String paymentKey);
 
     // 기반 중복 결제 차단용
     Optional<Payment> findByIdempotencyKey(String idempotencyKey);
-}
\ No newline at end of file
+
+    // PG 호출 후 결과가 기록되지 않은(in-doubt) 결제 조회 (복구 잡용)
+    List<Payment> findByStatusInAndPgRequestedAtBeforeOrderByIdAsc(
+            Collection<PaymentStatus> statuses, Instant requestedBefore, Limit limit);
+
+    // 정산 대사용: paymentKey 묶음을 한 번에 조회 (주문까지 fetch → 건별 추가 쿼리 없음)
+    @Query("select p from Payment p left join fetch p.order where p.paymentKey in :keys")
+    List<Payment> findWithOrderByPaymentKeyIn(@Param("keys") Collection<String> keys);
+}
@@ -1,22 +1,20 @@
 package com.ll.P_A.payment.payment;
 
+import com.ll.P_A.global.exception.ErrorCode;
+import com.ll.P_A.global.retry.RetryOnConflict;
 import com.ll.P_A.payment.order.Order;
 import com.ll.P_A.payment.order.OrderRepository;
 import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.ledger.PaymentLedgerService;
+import com.ll.P_A.payment.precheckout.PrecheckoutRegistry;
+import com.ll.P_A.payment.toss.TossApiException;
+import com.ll.P_A.payment.toss.TossClient;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.http.ClassicHttpResponse;
-import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.json.JSONObject;
-
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.util.OptionalLong;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +22,10 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
-
-    @Value("${toss.secret-key}")
-    private String tossSecretKey;
-
-    private static final String TOSS_CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
-    private static final String TOSS_REFUND_URL = "https://api.tosspayments.com/v1/payments/";
+    private final TossClient tossClient;
+    private final PaymentStateService paymentStateService;
+    private final PaymentLedgerService ledgerService;
+    private final PrecheckoutRegistry precheckoutRegistry;
 
     // 단건 조회
     @Transactional(Transactional.TxType.SUPPORTS)
@@ -38,157 +34,130 @@ public class PaymentService {
     }
 
     // 결제 시작
+    @RetryOnConflict("payment.initiate")
     @Transactional
     public Payment initiatePayment(Long orderId, String provider, String method, String idempotencyKey) {
 
         paymentRepository.findByIdempotencyKey(idempotencyKey).ifPresent(p -> {
-            throw new IllegalStateException("이미 처리된 결제 요청(Idempotency-Key 중복): " + idempotencyKey);
+            throw ErrorCode.DUPLICATE_PAYMENT_REQUEST.exception(idempotencyKey);
         });
 
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        Order order = orderRepository.findForPaymentById(orderId)
+                .orElseThrow(() -> ErrorCode.ORDER_NOT_FOUND.exception(orderId));
 
         if (order.getStatus() != OrderStatus.PENDING) {
-            throw new IllegalStateException("결제 가능한 주문 상태가 아님: " + order.getStatus());
+            throw ErrorCode.ORDER_NOT_PAYABLE.exception(order.getStatus());
         }
 
+        // 이미 매입된 금액을 뺀 나머지를 결제
+        long remaining = order.getAmount() - ledgerService.capturedAmountOf(order.getId());
+
         Payment payment = Payment.builder()
                 .order(order)
-                .amount(order.getAmount())
+                .amount(remaining)
                 .provider(provider)
                 .method(method)
                 .idempotencyKey(idempotencyKey)
                 .status(PaymentStatus.INITIATED)
                 .build();
 
-        return paymentRepository.save(payment);
+        try {
+            // 동시에 같은 키로 들어온 요청은 유니크 제약에서 걸러짐 → 500 대신 중복 요청으로 응답
+            return paymentRepository.saveAndFlush(payment);
+        } catch (DataIntegrityViolationException e) {
+            throw ErrorCode.DUPLICATE_PAYMENT_REQUEST.exception(idempotencyKey);
+        }
     }
 
-    //  모의 결제 성공 처리
+    //  모의 결제 성공 처리 (원장 기록/주문 전이는 Toss 승인과 동일 경로)
+    @RetryOnConflict("payment.mock-succeed")
     @Transactional
     public Payment succeedPayment(Long paymentId, String transactionId) {
-
-        Payment payment = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new IllegalArgumentException("Payment not found: " + paymentId));
-
-        // Payment 엔티티 도메인 규칙에 맞게 성공 처리
-        payment.markSucceeded(transactionId);
-
-        // 주문 상태도 결제 완료로 변경
-        payment.getOrder().markPaid();
-
-        return paymentRepository.save(payment);
+        return paymentStateService.recordConfirmSuccess(paymentId, transactionId);
     }
 
-    // Toss 결제 승인(confirm)
-    @Transactional
+    /**
+     * Toss 결제 승인(confirm)
+     * - 트랜잭션 없이 진행: [예약 tx] → PG 호출(DB 커넥션 미보유) → [결과 기록 tx]
+     * - PG 결과를 알 수 없거나 확정 거절이 아닌 4xx 면 INITIATED 로 남겨두고 PaymentRecoveryJob 이 조회로 확정
+     */
     public Payment confirmToss(String paymentKey, String orderId, int amount) {
 
-        try (CloseableHttpClient client = HttpClients.createDefault()) {
-
-            JSONObject body = new JSONObject();
-            body.put("paymentKey", paymentKey);
-            body.put("orderId", orderId);
-            body.put("amount", amount);
-
-            // Authorization 헤더 생성
-            String encodedAuth = Base64.getEncoder()
-                    .encodeToString((tossSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-
-            HttpPost post = new HttpPost(TOSS_CONFIRM_URL);
-            post.setHeader("Authorization", "Basic " + encodedAuth);
-            post.setHeader("Content-Type", "application/json");
-            post.setEntity(new StringEntity(body.toString(), StandardCharsets.UTF_8));
-
-            ClassicHttpResponse response = (ClassicHttpResponse) client.executeOpen(null, post, null);
-            int code = response.getCode();
-            String responseBody = new String(response.getEntity().getContent().readAllBytes(), StandardCharsets.UTF_8);
-
-            if (code < 200 || code >= 300) {
-                throw new IllegalStateException("TOSS_CONFIRM_FAILED: " + responseBody);
-            }
-
-            long oid = Long.parseLong(orderId);
+        // 0) 주문 생성 시 등록한 기대 금액과 대조 (DB/PG 호출 전, 등록이 없으면 1) 의 DB 검증에 맡김)
+        OptionalLong expected = precheckoutRegistry.expectedAmount(orderId);
+        if (expected.isPresent() && expected.getAsLong() != amount) {
+            throw ErrorCode.AMOUNT_MISMATCH.exception(expected.getAsLong(), amount);
+        }
 
-            Order order = orderRepository.findById(oid)
-                    .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        // 1) 주문/금액 검증 + paymentKey 기록 (PG 호출 전에 끝나는 짧은 트랜잭션)
+        Payment reserved = paymentStateService.reserveConfirm(paymentKey, orderId, amount);
+        if (reserved.getStatus() == PaymentStatus.SUCCEEDED) {
+            return reserved; // 이미 승인 완료된 요청의 재시도
+        }
+        if (reserved.getStatus() != PaymentStatus.INITIATED) {
+            throw ErrorCode.PAYMENT_ALREADY_PROCESSED.exception(reserved.getStatus());
+        }
 
-            if (!order.getAmount().equals((long) amount)) {
-                throw new IllegalStateException("금액 불일치: order=" + order.getAmount() + " request=" + amount);
+        // 2) PG 승인 호출 (Idempotency-Key 로 재시도 안전)
+        try {
+            tossClient.confirm(paymentKey, orderId, amount, "confirm-" + paymentKey);
+        } catch (TossApiException e) {
+            // PG 가 결제를 확정적으로 거절한 경우만 실패 확정
+            // 그 밖의 4xx(같은 paymentKey 의 동시 승인 처리 중 등)는 먼저 온 승인이 성공할 수 있으므로
+            // INITIATED 로 남겨 PaymentRecoveryJob 이 PG 조회로 확정
+            if (e.isConfirmRejection()) {
+                paymentStateService.recordConfirmFailure(reserved.getId(), e.getCode(), e.getMessage());
             }
-
-            // 기존 결제 조회 or 신규 생성
-            Payment payment = paymentRepository.findByOrderId(order.getId())
-                    .orElse(Payment.builder()
-                            .order(order)
-                            .amount((long) amount)
-                            .provider("TOSS")
-                            .method("CARD")
-                            .status(PaymentStatus.INITIATED)
-                            .build());
-
-            // Toss paymentKey 저장
-            payment.markSucceeded(paymentKey);
-            order.markPaid();
-
-            return paymentRepository.save(payment);
-
-        } catch (Exception e) {
-            throw new IllegalStateException("TOSS_CONFIRM_FAILED: " + e.getMessage());
+            throw e;
         }
+        // TossUnavailableException 은 결과 불명(in-doubt) → 상태를 건드리지 않고 그대로 전파
+
+        // 3) 결과 기록
+        Payment confirmed = paymentStateService.recordConfirmSuccess(reserved.getId(), paymentKey);
+        precheckoutRegistry.remove(orderId);
+        return confirmed;
     }
 
     // 결제 실패 처리
+    @RetryOnConflict("payment.failed")
     @Transactional
     public void failPayment(Long paymentId, String failureCode, String failureMessage) {
         Payment payment = getOrThrow(paymentId);
         payment.markFailed(failureCode, failureMessage);
     }
 
-    // Toss 환불 처리
-    @Transactional
-    public Payment refundToss(String paymentKey, String reason) {
-
-        String refundUrl = TOSS_REFUND_URL + paymentKey + "/cancel";
-
-        JSONObject body = new JSONObject();
-        body.put("cancelReason", reason);
+    /**
+     * Toss 환불 처리 (부분 환불 가능)
+     * - [REFUND_PENDING 예약 tx] → PG 취소 호출(cancelAmount) → [결과 기록 + 원장 tx]
+     * @param cancelAmount 환불 금액 (null 이면 남은 금액 전체)
+     */
+    public Payment refundToss(String paymentKey, String reason, Long cancelAmount) {
 
-        String encodedAuth = Base64.getEncoder()
-                .encodeToString((tossSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-
-        try (CloseableHttpClient client = HttpClients.createDefault()) {
-
-            HttpPost post = new HttpPost(refundUrl);
-            post.setHeader("Authorization", "Basic " + encodedAuth);
-            post.setHeader("Content-Type", "application/json");
-            post.setEntity(new StringEntity(body.toString(), StandardCharsets.UTF_8));
-
-            ClassicHttpResponse response = (ClassicHttpResponse) client.executeOpen(null, post, null);
-            int code = response.getCode();
+        Payment reserved = paymentStateService.reserveRefund(paymentKey, cancelAmount);
+        if (reserved.getStatus() == PaymentStatus.REFUNDED) {
+            return reserved;
+        }
 
-            String responseBody = new String(response.getEntity().getContent().readAllBytes(), StandardCharsets.UTF_8);
+        long amount = reserved.getRefundPendingAmount();
+        // 같은 환불의 재시도는 같은 키 (누적 환불액이 바뀌면 다른 환불)
+        String idempotencyKey = "cancel-" + paymentKey + "-" + reserved.getRefundedAmount() + "-" + amount;
 
-            if (code < 200 || code >= 300) {
-                throw new IllegalStateException("TOSS_REFUND_FAILED: " + responseBody);
+        try {
+            tossClient.cancel(paymentKey, reason, amount, idempotencyKey);
+        } catch (TossApiException e) {
+            if (!"ALREADY_CANCELED_PAYMENT".equals(e.getCode())) {
+                paymentStateService.recordRefundRejected(reserved.getId());
+                throw e;
             }
-
-            Payment payment = paymentRepository.findByPaymentKey(paymentKey)
-                    .orElseThrow(() -> new IllegalArgumentException("Payment not found"));
-
-            payment.markRefunded();
-            payment.getOrder().markRefunded();
-
-            return payment;
-
-        } catch (Exception e) {
-            throw new IllegalStateException("TOSS_REFUND_FAILED: " + e.getMessage());
+            // 이미 PG 에서 취소된 결제 → 환불 완료로 기록
         }
+
+        return paymentStateService.recordRefundSuccess(reserved.getId());
     }
 
     // 내부 공통
     private Payment getOrThrow(Long paymentId) {
         return paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new IllegalArgumentException("Payment not found: " + paymentId));
+                .orElseThrow(() -> ErrorCode.PAYMENT_NOT_FOUND.exception(paymentId));
     }
 }
\ No newline at end of file
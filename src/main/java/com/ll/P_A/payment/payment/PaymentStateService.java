@@ -0,0 +1,280 @@
+package com.ll.P_A.payment.payment;
+
+import com.ll.P_A.global.exception.ErrorCode;
+import com.ll.P_A.global.retry.RetryOnConflict;
+import com.ll.P_A.payment.order.Order;
+import com.ll.P_A.payment.order.OrderRepository;
+import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.ledger.OrderBalance;
+import com.ll.P_A.payment.ledger.PaymentLedgerService;
+import com.ll.P_A.payment.outbox.OutboxService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 결제 상태 전이를 짧은 로컬 트랜잭션 단위로 기록하는 서비스
+ * - PG 호출은 이 서비스 바깥(트랜잭션/DB 커넥션 없이)에서 수행
+ * - 예약(INITIATED/REFUND_PENDING) → PG 호출 → 결과 기록 순서의 상태 머신
+ * - 매입/환불 금액은 같은 트랜잭션에서 원장(PaymentLedgerService)에 기록
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentStateService {
+
+    public static final String PAYMENT_CAPTURED = "PAYMENT_CAPTURED";
+    public static final String PAYMENT_REFUNDED = "PAYMENT_REFUNDED";
+
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentLedgerService ledgerService;
+    private final OutboxService outboxService;
+
+    /* ===================== 승인(confirm) ===================== */
+
+    // 주문/금액 검증 후 INITIATED 결제에 paymentKey 를 기록 (PG 호출 전)
+    @RetryOnConflict("payment.reserve-confirm")
+    @Transactional
+    public Payment reserveConfirm(String paymentKey, String orderId, long amount) {
+
+        long oid;
+        try {
+            oid = Long.parseLong(orderId);
+        } catch (NumberFormatException e) {
+            throw ErrorCode.ORDER_NOT_FOUND.exception(orderId);
+        }
+
+        // 같은 paymentKey 로 이미 예약/완료된 결제가 있으면 그대로 반환 (중복 승인 요청)
+        // - 주문/금액까지 같은 재요청만 인정, 다르면 다른 결제를 성공으로 착각하지 않도록 거절
+        Optional<Payment> existing = paymentRepository.findByPaymentKey(paymentKey);
+        if (existing.isPresent()) {
+            Payment payment = existing.get();
+            Long existingOrderId = payment.getOrder().getId();
+            if (existingOrderId != oid) {
+                throw ErrorCode.PAYMENT_KEY_CONFLICT.exception(existingOrderId, oid);
+            }
+            if (payment.getAmount() != amount) {
+                throw ErrorCode.AMOUNT_MISMATCH.exception(payment.getAmount(), amount);
+            }
+            return payment;
+        }
+
+        // 만료 잡이 같은 주문을 동시에 취소하면 커밋 시 version 충돌 → PG 호출 전에 실패
+        Order order = orderRepository.findForPaymentById(oid)
+                .orElseThrow(() -> ErrorCode.ORDER_NOT_FOUND.exception(orderId));
+
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw ErrorCode.ORDER_NOT_PAYABLE.exception(order.getStatus());
+        }
+
+        // 분할 결제는 지원하지 않음: 결제 금액은 남은 금액(= PENDING 주문이면 주문 전액) 전체여야 함
+        long remaining = order.getAmount() - ledgerService.capturedAmountOf(order.getId());
+        if (remaining != amount) {
+            throw ErrorCode.AMOUNT_MISMATCH.exception(remaining, amount);
+        }
+
+        // 아직 PG 로 보내지 않은 같은 금액의 결제가 있으면 재사용, 없으면 신규 생성
+        Payment payment = paymentRepository.findByOrderIdOrderByIdAsc(order.getId()).stream()
+                .filter(p -> p.getStatus() == PaymentStatus.INITIATED
+                        && p.getPaymentKey() == null
+                        && p.getAmount() == amount)
+                .findFirst()
+                .orElseGet(() -> Payment.builder()
+                        .order(order)
+                        .amount(amount)
+                        .provider("TOSS")
+                        .method("CARD")
+                        .status(PaymentStatus.INITIATED)
+                        .build());
+
+        payment.beginConfirm(paymentKey);
+        return paymentRepository.save(payment);
+    }
+
+    @RetryOnConflict("payment.confirmed")
+    @Transactional
+    public Payment recordConfirmSuccess(Long paymentId, String paymentKey) {
+        Payment payment = getOrThrow(paymentId);
+        if (payment.getStatus() == PaymentStatus.SUCCEEDED) {
+            return payment; // 복구 잡 등이 먼저 확정한 경우
+        }
+        capture(payment, paymentKey);
+        return payment;
+    }
+
+    @RetryOnConflict("payment.failed")
+    @Transactional
+    public Payment recordConfirmFailure(Long paymentId, String failureCode, String failureMessage) {
+        Payment payment = getOrThrow(paymentId);
+        payment.markFailed(failureCode, failureMessage);
+        return payment;
+    }
+
+    /* ===================== 환불(cancel) ===================== */
+
+    /**
+     * 환불 예약: SUCCEEDED/PARTIALLY_REFUNDED → REFUND_PENDING (완료된 건, 같은 금액으로 진행 중인 건은 그대로 반환)
+     * - 진행 중인 환불과 금액이 다르면 409 (다른 요청을 같은 환불로 취급하지 않음)
+     * @param cancelAmount 환불 금액 (null 이면 남은 금액 전체)
+     */
+    @RetryOnConflict("payment.reserve-refund")
+    @Transactional
+    public Payment reserveRefund(String paymentKey, Long cancelAmount) {
+        Payment payment = paymentRepository.findByPaymentKey(paymentKey)
+                .orElseThrow(ErrorCode.PAYMENT_NOT_FOUND::exception);
+
+        if (payment.getStatus() == PaymentStatus.REFUNDED) {
+            return payment;
+        }
+        long requested = cancelAmount != null ? cancelAmount : payment.getRefundableAmount();
+        if (payment.getStatus() == PaymentStatus.REFUND_PENDING) {
+            if (payment.getRefundPendingAmount() != null && payment.getRefundPendingAmount() != requested) {
+                throw ErrorCode.REFUND_AMOUNT_CONFLICT.exception(payment.getRefundPendingAmount(), requested);
+            }
+            return payment;
+        }
+        payment.beginRefund(requested);
+        return payment;
+    }
+
+    @RetryOnConflict("payment.refunded")
+    @Transactional
+    public Payment recordRefundSuccess(Long paymentId) {
+        Payment payment = getOrThrow(paymentId);
+        if (payment.getStatus() != PaymentStatus.REFUND_PENDING) {
+            return payment; // 웹훅/복구 잡이 먼저 반영한 경우
+        }
+        refund(payment, payment.getRefundPendingAmount());
+        return payment;
+    }
+
+    @RetryOnConflict("payment.refund-rejected")
+    @Transactional
+    public Payment recordRefundRejected(Long paymentId) {
+        Payment payment = getOrThrow(paymentId);
+        payment.cancelRefund();
+        return payment;
+    }
+
+    /* ===================== PG 상태 동기화 ===================== */
+
+    // PG 조회 결과로 결제/주문 상태를 맞춤 (복구 잡용)
+    @RetryOnConflict("payment.pg-sync")
+    @Transactional
+    public boolean syncWithPg(Long paymentId, String pgStatus, Long pgBalanceAmount) {
+        return applyPgStatus(getOrThrow(paymentId), pgStatus, pgBalanceAmount);
+    }
+
+    public boolean applyPgStatus(Payment payment, String pgStatus) {
+        return applyPgStatus(payment, pgStatus, null);
+    }
+
+    /**
+     * 이미 로딩된 결제에 PG 상태를 반영 (호출자 트랜잭션 안에서 사용)
+     * - 검증이 모두 끝난 뒤 주문 → 원장 → 결제 순으로 바꿈: 예외 시 어떤 것도 바뀌지 않음
+     * @param pgBalanceAmount PG 기준 취소 후 잔액 (PARTIAL_CANCELED 반영에 필요, 모르면 null)
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean applyPgStatus(Payment payment, String pgStatus, Long pgBalanceAmount) {
+        if (pgStatus == null) return false;
+
+        PaymentStatus current = payment.getStatus();
+        switch (pgStatus) {
+            case "DONE" -> {
+                if (current == PaymentStatus.INITIATED) {
+                    capture(payment, payment.getPaymentKey());
+                    return true;
+                }
+                if (current == PaymentStatus.REFUND_PENDING) {
+                    payment.cancelRefund(); // 취소가 PG 에 반영되지 않음
+                    return true;
+                }
+            }
+            case "CANCELED" -> {
+                if (isRefundable(current)) {
+                    refund(payment, payment.getRefundableAmount());
+                    return true;
+                }
+            }
+            case "PARTIAL_CANCELED" -> {
+                if (pgBalanceAmount == null || !isRefundable(current)) return false;
+                long delta = (payment.getAmount() - pgBalanceAmount) - payment.getRefundedAmount();
+                if (delta > 0) {
+                    refund(payment, delta);
+                    return true;
+                }
+                if (delta == 0 && current == PaymentStatus.REFUND_PENDING) {
+                    payment.cancelRefund(); // 요청한 추가 환불은 PG 에 반영되지 않음
+                    return true;
+                }
+            }
+            case "ABORTED", "EXPIRED" -> {
+                if (current == PaymentStatus.INITIATED) {
+                    payment.markFailed(pgStatus, "PG 결제 상태: " + pgStatus);
+                    return true;
+                }
+            }
+            default -> {
+                // READY / IN_PROGRESS / WAITING_FOR_DEPOSIT 등은 아직 확정 전
+            }
+        }
+        return false;
+    }
+
+    /* ===================== 내부 전이 ===================== */
+
+    // 매입 확정: reserveConfirm 이 남은 금액 전체만 허용하므로 매입 1건 = 주문 전액 → 주문 PAID
+    private void capture(Payment payment, String paymentKey) {
+        Order order = payment.getOrder();
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw ErrorCode.ORDER_NOT_PAYABLE.exception(order.getStatus());
+        }
+        if (payment.getStatus() != PaymentStatus.INITIATED) {
+            throw ErrorCode.PAYMENT_TRANSITION_NOT_ALLOWED.exception(payment.getStatus(), PaymentStatus.INITIATED);
+        }
+
+        long capturedAfter = ledgerService.capturedAmountOf(order.getId()) + payment.getAmount();
+        if (capturedAfter != order.getAmount()) {
+            // 예약 검증을 거치지 않은 금액(잘못된 웹훅 등)으로는 매입하지 않음
+            throw ErrorCode.AMOUNT_MISMATCH.exception(order.getAmount(), capturedAfter);
+        }
+        order.markPaid();
+        outboxService.recordOrderTransition(order);
+        ledgerService.recordCapture(payment);
+        payment.markSucceeded(paymentKey);
+        outboxService.recordPaymentTransition(payment, PAYMENT_CAPTURED, payment.getAmount());
+    }
+
+    // 환불 반영: 주문 전체가 환불되면 REFUNDED, 아니면 PARTIALLY_REFUNDED
+    private void refund(Payment payment, long amount) {
+        payment.ensureRefundable(amount);
+        ledgerService.ensureCaptured(payment);
+
+        Order order = payment.getOrder();
+        OrderBalance balance = ledgerService.balanceOf(order.getId());
+        balance.ensureRefundable(amount);
+
+        if (balance.isFullyRefundedAfter(amount)) {
+            order.markRefunded();
+        } else {
+            order.markPartiallyRefunded();
+        }
+        outboxService.recordOrderTransition(order);
+        ledgerService.recordRefund(payment, amount, payment.getRefundedAmount());
+        payment.applyRefund(amount);
+        outboxService.recordPaymentTransition(payment, PAYMENT_REFUNDED, amount);
+    }
+
+    private static boolean isRefundable(PaymentStatus status) {
+        return status == PaymentStatus.SUCCEEDED
+                || status == PaymentStatus.REFUND_PENDING
+                || status == PaymentStatus.PARTIALLY_REFUNDED;
+    }
+
+    private Payment getOrThrow(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> ErrorCode.PAYMENT_NOT_FOUND.exception(paymentId));
+    }
+}
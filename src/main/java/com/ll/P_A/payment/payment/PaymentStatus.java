@@ -4,5 +4,7 @@ public enum PaymentStatus {
     INITIATED,  // 결제 요청 시작
     SUCCEEDED,  // 결제 성공
     FAILED,     // 결제 실패
+    REFUND_PENDING, // 환불 요청 PG 전송 중 (결과 확정 전)
+    PARTIALLY_REFUNDED, // 일부 환불 (잔액 남음)
     REFUNDED    // 환불 완료
 }
\ No newline at end of file
@@ -2,5 +2,6 @@ package com.ll.P_A.payment.payment;
 
 public record RefundRequestDto(
         String paymentKey,
-        String reason
+        String reason,
+        Long cancelAmount   // null 이면 남은 금액 전체 환불
 ) { }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.ll.P_A.payment.precheckout;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 인스턴스용 메모리 저장소 (만료 항목은 조회 시 무시, 주기적으로 정리)
+ * - maxEntries 를 넘으면 등록을 건너뜀 → 해당 주문은 DB 검증으로 처리
+ */
+@Component
+@ConditionalOnProperty(name = "trade.precheckout.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPrecheckoutRegistry implements PrecheckoutRegistry {
+
+    private record Entry(long amount, long expiresAtMillis) { }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public InMemoryPrecheckoutRegistry(
+            @Value("${trade.precheckout.ttl-minutes:30}") long ttlMinutes,
+            @Value("${trade.precheckout.max-entries:100000}") int maxEntries
+    ) {
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void register(String orderId, long amount) {
+        if (entries.size() >= maxEntries) return;
+        entries.put(orderId, new Entry(amount, System.currentTimeMillis() + ttlMillis));
+    }
+
+    @Override
+    public OptionalLong expectedAmount(String orderId) {
+        Entry entry = entries.get(orderId);
+        if (entry == null || entry.expiresAtMillis() < System.currentTimeMillis()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(entry.amount());
+    }
+
+    @Override
+    public void remove(String orderId) {
+        entries.remove(orderId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${trade.precheckout.sweep-delay-ms:60000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> e.expiresAtMillis() < now);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ll.P_A.payment.precheckout;
+
+import java.util.OptionalLong;
+
+/**
+ * 주문 생성 시 기대 결제 금액을 등록해 두고, 결제 승인 전에 DB/PG 없이 대조하는 저장소
+ * - 키는 Toss 로 전달되는 orderId 문자열 그대로 (파싱 없이 조회)
+ * - 조회 결과가 없으면(만료/재시작/저장소 장애) 호출자는 DB 검증으로 진행
+ */
+public interface PrecheckoutRegistry {
+
+    void register(String orderId, long amount);
+
+    OptionalLong expectedAmount(String orderId);
+
+    void remove(String orderId);
+}
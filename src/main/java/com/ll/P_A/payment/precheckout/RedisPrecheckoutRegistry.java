@@ -0,0 +1,62 @@
+package com.ll.P_A.payment.precheckout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * 여러 인스턴스 공유용 Redis 저장소 (SET key amount EX ttl)
+ * - Redis 오류는 "등록 없음"으로 취급 → 결제는 DB 검증으로 계속 진행
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "trade.precheckout.store", havingValue = "redis")
+public class RedisPrecheckoutRegistry implements PrecheckoutRegistry {
+
+    private static final String KEY_PREFIX = "precheckout:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisPrecheckoutRegistry(
+            StringRedisTemplate redisTemplate,
+            @Value("${trade.precheckout.ttl-minutes:30}") long ttlMinutes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    @Override
+    public void register(String orderId, long amount) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + orderId, Long.toString(amount), ttl);
+        } catch (RuntimeException e) {
+            log.warn("precheckout 등록 실패: orderId={}, {}", orderId, e.toString());
+        }
+    }
+
+    @Override
+    public OptionalLong expectedAmount(String orderId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + orderId);
+            return value == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(value));
+        } catch (RuntimeException e) {
+            log.warn("precheckout 조회 실패: orderId={}, {}", orderId, e.toString());
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public void remove(String orderId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + orderId);
+        } catch (RuntimeException e) {
+            log.warn("precheckout 삭제 실패: orderId={}, {}", orderId, e.toString());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.ll.P_A.payment.reconcile;
+
+public enum MismatchType {
+    MISSING_IN_DB,    // 정산 파일에는 있으나 우리 DB 에 결제가 없음
+    AMOUNT_MISMATCH,  // 금액 불일치
+    STATUS_DRIFT      // PG 상태와 우리 결제 상태가 다름
+}
@@ -0,0 +1,51 @@
+package com.ll.P_A.payment.reconcile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PG 정산 파일 ↔ Payment 대사
+ * - 파일은 스트리밍으로 읽고, chunkSize 단위로 묶어 IN 조회 (한 줄당 쿼리 X)
+ * - fix=true 면 상태 불일치를 PG 기준으로 보정 (PaymentStateService.applyPgStatus: 매입/환불은 원장·주문 상태까지 함께 전이)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private final ReconciliationChunkProcessor chunkProcessor;
+
+    @Value("${toss.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    public ReconciliationReport reconcile(InputStream in, SettlementFormat format, boolean fix) throws IOException {
+        ReconciliationReport report = new ReconciliationReport();
+
+        try (SettlementFileReader reader = new SettlementFileReader(in, format)) {
+            List<SettlementRecord> chunk = new ArrayList<>(chunkSize);
+            while (reader.hasNext()) {
+                chunk.add(reader.next());
+                if (chunk.size() >= chunkSize) {
+                    chunkProcessor.process(chunk, fix, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkProcessor.process(chunk, fix, report);
+            }
+            report.finish(reader.getSkippedLines());
+        }
+
+        log.info("정산 대사 완료: total={}, matched={}, missing={}, amount={}, status={}, fixed={}, skipped={}",
+                report.getTotalRecords(), report.getMatched(), report.getMissingInDb(),
+                report.getAmountMismatches(), report.getStatusDrifts(), report.getFixed(), report.getSkippedLines());
+        return report;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ll.P_A.payment.reconcile;
+
+import com.ll.P_A.global.exception.DomainException;
+import com.ll.P_A.payment.payment.Payment;
+import com.ll.P_A.payment.payment.PaymentRepository;
+import com.ll.P_A.payment.payment.PaymentStateService;
+import com.ll.P_A.payment.payment.PaymentStatus;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 정산 레코드 묶음(chunk)을 한 번의 IN 조회로 결제와 매칭
+ * - chunk 단위 트랜잭션 → 처리 후 영속성 컨텍스트가 비워져 메모리 일정
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconciliationChunkProcessor {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentStateService paymentStateService;
+
+    @Transactional
+    public void process(List<SettlementRecord> chunk, boolean fix, ReconciliationReport report) {
+        Set<String> keys = new HashSet<>();
+        for (SettlementRecord record : chunk) {
+            keys.add(record.paymentKey());
+        }
+
+        Map<String, Payment> payments = new HashMap<>();
+        for (Payment p : paymentRepository.findWithOrderByPaymentKeyIn(keys)) {
+            payments.put(p.getPaymentKey(), p);
+        }
+
+        for (SettlementRecord record : chunk) {
+            report.countRecord();
+
+            Payment payment = payments.get(record.paymentKey());
+            if (payment == null) {
+                report.mismatch(MismatchType.MISSING_IN_DB, record.paymentKey(),
+                        record.status() + "/" + record.amount(), null);
+                continue;
+            }
+
+            boolean matched = true;
+
+            if (!Long.valueOf(record.amount()).equals(payment.getAmount())) {
+                report.mismatch(MismatchType.AMOUNT_MISMATCH, record.paymentKey(),
+                        String.valueOf(record.amount()), String.valueOf(payment.getAmount()));
+                matched = false;
+            }
+
+            PaymentStatus expected = expectedStatus(record.status());
+            if (expected != null && expected != payment.getStatus()) {
+                report.mismatch(MismatchType.STATUS_DRIFT, record.paymentKey(),
+                        expected.name(), String.valueOf(payment.getStatus()));
+                matched = false;
+
+                if (fix) {
+                    try {
+                        if (paymentStateService.applyPgStatus(payment, record.status())) {
+                            report.countFixed();
+                        }
+                    } catch (DomainException | IllegalStateException e) {
+                        // 주문 상태 등으로 자동 보정 불가 → 수동 확인 대상
+                        report.countFixFailure();
+                    }
+                }
+            }
+
+            if (matched) report.countMatched();
+        }
+    }
+
+    // PG 상태 → 우리 쪽 기대 결제 상태 (확정 전 상태는 비교하지 않음)
+    static PaymentStatus expectedStatus(String pgStatus) {
+        if (pgStatus == null) return null;
+        return switch (pgStatus) {
+            case "DONE" -> PaymentStatus.SUCCEEDED;
+            case "PARTIAL_CANCELED" -> PaymentStatus.PARTIALLY_REFUNDED;
+            case "CANCELED" -> PaymentStatus.REFUNDED;
+            case "ABORTED", "EXPIRED" -> PaymentStatus.FAILED;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.ll.P_A.payment.reconcile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/pay/admin/reconciliations")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+    private final PaymentReconciliationService reconciliationService;
+
+    // 정산 파일 원문을 요청 본문으로 받아 스트리밍 처리 (multipart 크기 제한/임시파일 없이)
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping
+    public ReconciliationReport reconcile(@RequestParam(defaultValue = "CSV") SettlementFormat format,
+                                          @RequestParam(defaultValue = "false") boolean fix,
+                                          HttpServletRequest request) throws IOException {
+        return reconciliationService.reconcile(request.getInputStream(), format, fix);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ll.P_A.payment.reconcile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 야간 정산 대사 잡: inbox 디렉터리에 떨어진 정산 파일을 처리하고 done/ 으로 옮김
+ * - toss.reconcile.inbox-dir 가 비어 있으면 비활성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReconciliationJob {
+
+    private final PaymentReconciliationService reconciliationService;
+
+    @Value("${toss.reconcile.inbox-dir:}")
+    private String inboxDir;
+
+    @Value("${toss.reconcile.fix:false}")
+    private boolean fix;
+
+    @Scheduled(cron = "${toss.reconcile.cron:0 30 4 * * *}")
+    public void reconcileInbox() {
+        if (inboxDir == null || inboxDir.isBlank()) return;
+
+        Path inbox = Path.of(inboxDir);
+        try {
+            Path done = Files.createDirectories(inbox.resolve("done"));
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(inbox, "*.{csv,jsonl,ndjson}")) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    try (InputStream in = Files.newInputStream(file)) {
+                        reconciliationService.reconcile(in, SettlementFormat.fromFileName(name), fix);
+                    }
+                    Files.move(file, done.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("정산 대사 잡 실패: inbox={}", inboxDir, e);
+        }
+    }
+}
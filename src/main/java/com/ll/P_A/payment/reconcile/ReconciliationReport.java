@@ -0,0 +1,54 @@
+package com.ll.P_A.payment.reconcile;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대사 결과 요약
+ * - 건수는 전부 집계하고, 상세 불일치는 앞에서부터 MAX_SAMPLES 건만 보관 (메모리 일정)
+ */
+@Getter
+public class ReconciliationReport {
+
+    private static final int MAX_SAMPLES = 1000;
+
+    public record Mismatch(MismatchType type, String paymentKey, String expected, String actual) { }
+
+    private final Instant startedAt = Instant.now();
+    private Instant finishedAt;
+
+    private long totalRecords;
+    private long matched;
+    private long missingInDb;
+    private long amountMismatches;
+    private long statusDrifts;
+    private long fixed;
+    private long fixFailures;
+    private long skippedLines;
+
+    private final List<Mismatch> samples = new ArrayList<>();
+
+    void countRecord() { totalRecords++; }
+    void countMatched() { matched++; }
+    void countFixed() { fixed++; }
+    void countFixFailure() { fixFailures++; }
+
+    void mismatch(MismatchType type, String paymentKey, String expected, String actual) {
+        switch (type) {
+            case MISSING_IN_DB -> missingInDb++;
+            case AMOUNT_MISMATCH -> amountMismatches++;
+            case STATUS_DRIFT -> statusDrifts++;
+        }
+        if (samples.size() < MAX_SAMPLES) {
+            samples.add(new Mismatch(type, paymentKey, expected, actual));
+        }
+    }
+
+    void finish(long skippedLines) {
+        this.skippedLines = skippedLines;
+        this.finishedAt = Instant.now();
+    }
+}
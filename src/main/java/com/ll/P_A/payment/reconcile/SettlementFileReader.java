@@ -0,0 +1,143 @@
+package com.ll.P_A.payment.reconcile;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 정산 파일을 한 줄씩 읽는 스트리밍 리더 (파일 크기와 무관하게 메모리 일정)
+ * - 형식이 잘못된 줄은 건너뛰고 개수만 집계
+ */
+public class SettlementFileReader implements Iterator<SettlementRecord>, Closeable {
+
+    private final BufferedReader reader;
+    private final SettlementFormat format;
+
+    private Map<String, Integer> csvColumns; // CSV 헤더 → 컬럼 인덱스
+    private SettlementRecord next;
+    private long lineNumber;
+    private long skippedLines;
+
+    public SettlementFileReader(InputStream in, SettlementFormat format) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+    }
+
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                if (format == SettlementFormat.CSV && csvColumns == null) {
+                    csvColumns = parseHeader(line);
+                    continue;
+                }
+
+                SettlementRecord parsed = (format == SettlementFormat.CSV) ? parseCsv(line) : parseJson(line);
+                if (parsed == null) {
+                    skippedLines++;
+                    continue;
+                }
+                next = parsed;
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 파일 읽기 실패(line " + lineNumber + ")", e);
+        }
+    }
+
+    @Override
+    public SettlementRecord next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        SettlementRecord current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /* ===================== 파싱 ===================== */
+
+    private Map<String, Integer> parseHeader(String line) {
+        String[] cols = line.split(",", -1);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < cols.length; i++) {
+            columns.put(unquote(cols[i]), i);
+        }
+        for (String required : new String[]{"paymentKey", "amount", "status"}) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private SettlementRecord parseCsv(String line) {
+        String[] cols = line.split(",", -1);
+        try {
+            String paymentKey = column(cols, "paymentKey");
+            if (paymentKey == null || paymentKey.isEmpty()) return null;
+            return new SettlementRecord(
+                    paymentKey,
+                    column(cols, "orderId"),
+                    Long.parseLong(column(cols, "amount")),
+                    column(cols, "status")
+            );
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private String column(String[] cols, String name) {
+        Integer idx = csvColumns.get(name);
+        if (idx == null || idx >= cols.length) return null;
+        return unquote(cols[idx]);
+    }
+
+    private SettlementRecord parseJson(String line) {
+        try {
+            JSONObject json = new JSONObject(line);
+            String paymentKey = json.optString("paymentKey", null);
+            if (paymentKey == null || paymentKey.isEmpty() || !json.has("amount")) return null;
+            return new SettlementRecord(
+                    paymentKey,
+                    json.optString("orderId", null),
+                    json.getLong("amount"),
+                    json.optString("status", null)
+            );
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    private static String unquote(String value) {
+        String v = value.trim();
+        if (v.length() >= 2 && v.startsWith("\"") && v.endsWith("\"")) {
+            v = v.substring(1, v.length() - 1);
+        }
+        return v;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ll.P_A.payment.reconcile;
+
+public enum SettlementFormat {
+    CSV,    // 헤더 행 필수: paymentKey,orderId,amount,status (순서 무관)
+    JSONL;  // 한 줄에 JSON 객체 하나
+
+    public static SettlementFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".csv")) return CSV;
+        if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) return JSONL;
+        throw new IllegalArgumentException("지원하지 않는 정산 파일 형식: " + fileName);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ll.P_A.payment.reconcile;
+
+/**
+ * PG 정산 파일의 한 줄
+ */
+public record SettlementRecord(
+        String paymentKey,
+        String orderId,
+        long amount,
+        String status        // Toss 결제 상태 (DONE | CANCELED | PARTIAL_CANCELED | ABORTED | EXPIRED ...)
+) { }
@@ -0,0 +1,46 @@
+package com.ll.P_A.payment.report;
+
+import com.ll.P_A.payment.order.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별·상태별 주문 전이 집계 (아웃박스 이벤트로 증분 갱신되는 읽기 전용 테이블)
+ * - orderCount: 그날 해당 상태로 바뀐 주문 수
+ * - amount: 그중 금액이 함께 기록된 전이의 합계 (일괄 만료 등은 금액 없이 건수만)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "report_daily_order_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_order_stat", columnNames = {"day", "status"})
+)
+public class DailyOrderStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OrderStatus status;
+
+    private long orderCount;
+    private long amount;
+
+    DailyOrderStat(LocalDate day, OrderStatus status) {
+        this.day = day;
+        this.status = status;
+    }
+
+    void add(Long amount) {
+        this.orderCount++;
+        if (amount != null) this.amount += amount;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ll.P_A.payment.report;
+
+import com.ll.P_A.payment.order.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyOrderStatRepository extends JpaRepository<DailyOrderStat, Long> {
+
+    Optional<DailyOrderStat> findByDayAndStatus(LocalDate day, OrderStatus status);
+
+    List<DailyOrderStat> findByDayBetweenOrderByDayAsc(LocalDate from, LocalDate to);
+}
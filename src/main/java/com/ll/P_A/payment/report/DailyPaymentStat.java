@@ -0,0 +1,65 @@
+package com.ll.P_A.payment.report;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별·PG사별·결제수단별 매입/환불 집계 (아웃박스 이벤트로 증분 갱신)
+ * - 환불률/평균 금액은 조회 시 합계로 계산
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "report_daily_payment_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_daily_payment_stat", columnNames = {"day", "provider", "method"})
+)
+public class DailyPaymentStat {
+
+    public static final String UNKNOWN = "UNKNOWN";
+    static final int KEY_LENGTH = 30;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false, length = KEY_LENGTH)
+    private String provider;
+
+    @Column(nullable = false, length = KEY_LENGTH)
+    private String method;
+
+    private long capturedCount;
+    private long capturedAmount;
+    private long refundCount;
+    private long refundedAmount;
+
+    DailyPaymentStat(LocalDate day, String provider, String method) {
+        this.day = day;
+        this.provider = provider;
+        this.method = method;
+    }
+
+    // 집계 키 정규화: 결제 쪽 값은 클라이언트 입력이라 길이 제한이 더 넓음 → 공백 제거, 빈 값은 UNKNOWN, 컬럼 길이로 자름
+    static String key(String value) {
+        if (value == null || value.isBlank()) return UNKNOWN;
+        String trimmed = value.trim();
+        return trimmed.length() > KEY_LENGTH ? trimmed.substring(0, KEY_LENGTH) : trimmed;
+    }
+
+    void addCapture(long amount) {
+        this.capturedCount++;
+        this.capturedAmount += amount;
+    }
+
+    void addRefund(long amount) {
+        this.refundCount++;
+        this.refundedAmount += amount;
+    }
+}
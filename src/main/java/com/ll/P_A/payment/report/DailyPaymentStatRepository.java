@@ -0,0 +1,14 @@
+package com.ll.P_A.payment.report;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyPaymentStatRepository extends JpaRepository<DailyPaymentStat, Long> {
+
+    Optional<DailyPaymentStat> findByDayAndProviderAndMethod(LocalDate day, String provider, String method);
+
+    List<DailyPaymentStat> findByDayBetweenOrderByDayAsc(LocalDate from, LocalDate to);
+}
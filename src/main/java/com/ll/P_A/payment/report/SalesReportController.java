@@ -0,0 +1,26 @@
+package com.ll.P_A.payment.report;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/pay/admin/reports")
+@RequiredArgsConstructor
+public class SalesReportController {
+
+    private final SalesReportService salesReportService;
+
+    // 일자별 매출/환불 요약 (예: ?from=2025-01-01&to=2025-01-31)
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/sales")
+    public SalesReportResponseDto sales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return salesReportService.report(from, to);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ll.P_A.payment.report;
+
+import com.ll.P_A.payment.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간 매출 리포트 (집계 테이블만 읽음)
+ * @param refundRate    환불 금액 / 매입 금액 (매입이 없으면 0)
+ * @param averageAmount 매입 1건당 평균 금액
+ */
+public record SalesReportResponseDto(
+        LocalDate from,
+        LocalDate to,
+        long capturedCount,
+        long capturedAmount,
+        long refundCount,
+        long refundedAmount,
+        double refundRate,
+        long averageAmount,
+        List<OrderRow> orders,
+        List<PaymentRow> payments
+) {
+    public record OrderRow(LocalDate day, OrderStatus status, long orderCount, long amount) {
+        static OrderRow from(DailyOrderStat s) {
+            return new OrderRow(s.getDay(), s.getStatus(), s.getOrderCount(), s.getAmount());
+        }
+    }
+
+    public record PaymentRow(LocalDate day, String provider, String method,
+                             long capturedCount, long capturedAmount, long refundCount, long refundedAmount) {
+        static PaymentRow from(DailyPaymentStat s) {
+            return new PaymentRow(s.getDay(), s.getProvider(), s.getMethod(),
+                    s.getCapturedCount(), s.getCapturedAmount(), s.getRefundCount(), s.getRefundedAmount());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ll.P_A.payment.report;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 매출 리포트 조회 (orders/payments 원본 테이블은 읽지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesReportService {
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final DailyOrderStatRepository orderStatRepository;
+    private final DailyPaymentStatRepository paymentStatRepository;
+
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public SalesReportResponseDto report(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        List<DailyOrderStat> orderStats = orderStatRepository.findByDayBetweenOrderByDayAsc(from, to);
+        List<DailyPaymentStat> paymentStats = paymentStatRepository.findByDayBetweenOrderByDayAsc(from, to);
+
+        long capturedCount = 0, capturedAmount = 0, refundCount = 0, refundedAmount = 0;
+        for (DailyPaymentStat s : paymentStats) {
+            capturedCount += s.getCapturedCount();
+            capturedAmount += s.getCapturedAmount();
+            refundCount += s.getRefundCount();
+            refundedAmount += s.getRefundedAmount();
+        }
+
+        return new SalesReportResponseDto(
+                from, to,
+                capturedCount, capturedAmount, refundCount, refundedAmount,
+                capturedAmount == 0 ? 0.0 : (double) refundedAmount / capturedAmount,
+                capturedCount == 0 ? 0 : capturedAmount / capturedCount,
+                orderStats.stream().map(SalesReportResponseDto.OrderRow::from).toList(),
+                paymentStats.stream().map(SalesReportResponseDto.PaymentRow::from).toList()
+        );
+    }
+}
@@ -0,0 +1,236 @@
+package com.ll.P_A.payment.toss;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.HttpHostConnectException;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 공유 커넥션 풀 기반 Toss API 클라이언트
+ * - keep-alive 로 TLS 핸드셰이크 재사용, connect/response 타임아웃 적용
+ * - Idempotency-Key 가 있는 요청(또는 GET)만 제한적으로 재시도
+ * - 연속 실패 시 서킷 오픈 → PG 장애 동안 즉시 실패(fail-fast)
+ */
+@Slf4j
+@Component
+public class HttpTossClient implements TossClient {
+
+    private final String baseUrl;
+    private final String authorizationHeader;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    private final CloseableHttpClient httpClient;
+    private final TossCircuitBreaker circuitBreaker;
+
+    public HttpTossClient(
+            @Value("${toss.api.base-url:https://api.tosspayments.com}") String baseUrl,
+            @Value("${toss.secret-key}") String secretKey,
+            @Value("${toss.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${toss.http.response-timeout-ms:15000}") long responseTimeoutMs,
+            @Value("${toss.http.pool-acquire-timeout-ms:1000}") long poolAcquireTimeoutMs,
+            @Value("${toss.http.max-connections:50}") int maxConnections,
+            @Value("${toss.http.keep-alive-seconds:30}") long keepAliveSeconds,
+            @Value("${toss.http.max-retries:2}") int maxRetries,
+            @Value("${toss.http.retry-backoff-ms:200}") long retryBackoffMs,
+            @Value("${toss.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${toss.circuit.open-ms:30000}") long openMs
+    ) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.authorizationHeader = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMs = retryBackoffMs;
+        this.circuitBreaker = new TossCircuitBreaker(failureThreshold, openMs);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 호스트가 하나뿐이므로 전체 = 라우트당
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .build())
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .disableAutomaticRetries() // 재시도는 아래에서 멱등 요청에 한해 직접 처리
+                .build();
+    }
+
+    /* ===================== API ===================== */
+
+    // PG 왕복 시간 (exception 태그: TossApiException=거절, TossUnavailableException=타임아웃/장애)
+    @Override
+    @Timed(value = "app.pg.request", extraTags = {"op", "confirm"})
+    public TossPaymentResponse confirm(String paymentKey, String orderId, long amount, String idempotencyKey) {
+        JSONObject body = new JSONObject();
+        body.put("paymentKey", paymentKey);
+        body.put("orderId", orderId);
+        body.put("amount", amount);
+
+        HttpPost post = jsonPost("/v1/payments/confirm", body, idempotencyKey);
+        return TossPaymentResponse.from(execute(post, idempotencyKey != null));
+    }
+
+    @Override
+    @Timed(value = "app.pg.request", extraTags = {"op", "cancel"})
+    public TossPaymentResponse cancel(String paymentKey, String cancelReason, Long cancelAmount, String idempotencyKey) {
+        JSONObject body = new JSONObject();
+        body.put("cancelReason", cancelReason);
+        if (cancelAmount != null) {
+            body.put("cancelAmount", cancelAmount);
+        }
+
+        HttpPost post = jsonPost("/v1/payments/" + encode(paymentKey) + "/cancel", body, idempotencyKey);
+        return TossPaymentResponse.from(execute(post, idempotencyKey != null));
+    }
+
+    @Override
+    @Timed(value = "app.pg.request", extraTags = {"op", "get"})
+    public TossPaymentResponse getPayment(String paymentKey) {
+        HttpGet get = new HttpGet(baseUrl + "/v1/payments/" + encode(paymentKey));
+        get.setHeader("Authorization", authorizationHeader);
+        return TossPaymentResponse.from(execute(get, true));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private HttpPost jsonPost(String path, JSONObject body, String idempotencyKey) {
+        HttpPost post = new HttpPost(baseUrl + path);
+        post.setHeader("Authorization", authorizationHeader);
+        post.setHeader("Content-Type", "application/json");
+        if (idempotencyKey != null) {
+            // Toss 는 같은 Idempotency-Key 재요청에 최초 응답을 돌려줌 → 재시도 안전
+            post.setHeader("Idempotency-Key", idempotencyKey);
+        }
+        post.setEntity(new StringEntity(body.toString(), StandardCharsets.UTF_8));
+        return post;
+    }
+
+    /**
+     * 재시도/서킷브레이커를 적용해 요청을 실행하고 2xx 응답 본문을 반환
+     * @param retryable 같은 요청을 다시 보내도 안전한지(GET 또는 Idempotency-Key 포함)
+     */
+    private String execute(HttpUriRequestBase request, boolean retryable) {
+        int attempts = retryable ? maxRetries + 1 : 1;
+        boolean sent = false;
+        TossUnavailableException last = null;
+
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            if (attempt > 1) backoff(attempt, sent);
+
+            if (!circuitBreaker.tryAcquire()) {
+                throw new TossUnavailableException("circuit open", sent, last);
+            }
+
+            RawResponse response;
+            try {
+                response = httpClient.execute(request, r -> new RawResponse(
+                        r.getCode(),
+                        r.getEntity() == null ? "" : EntityUtils.toString(r.getEntity(), StandardCharsets.UTF_8)
+                ));
+            } catch (IOException e) {
+                circuitBreaker.onFailure();
+                boolean notSent = e instanceof ConnectTimeoutException || e instanceof HttpHostConnectException;
+                sent |= !notSent;
+                last = new TossUnavailableException(e.getClass().getSimpleName() + ": " + e.getMessage(), sent, e);
+                log.warn("Toss 요청 실패 {} {} (attempt {}/{}): {}",
+                        request.getMethod(), request.getPath(), attempt, attempts, e.toString());
+                continue;
+            } catch (RuntimeException e) {
+                // 응답 처리 중 예외 등 → 결과 불명(sent 로 간주), 서킷 결과를 반드시 기록해 HALF_OPEN 시험 요청이 남지 않게 함
+                circuitBreaker.onFailure();
+                sent = true;
+                last = new TossUnavailableException(e.getClass().getSimpleName() + ": " + e.getMessage(), true, e);
+                log.warn("Toss 요청 처리 실패 {} {} (attempt {}/{}): {}",
+                        request.getMethod(), request.getPath(), attempt, attempts, e.toString());
+                continue;
+            }
+
+            sent = true;
+            int code = response.status();
+            if (code >= 200 && code < 300) {
+                circuitBreaker.onSuccess();
+                return response.body();
+            }
+            if (code >= 500 || code == 429) {
+                // 429 도 실패로 기록: 호출량을 줄여야 하는 상태이고, HALF_OPEN 시험 요청이면 결과가 있어야 서킷이 다시 열리거나 닫힘
+                circuitBreaker.onFailure();
+                last = new TossUnavailableException("HTTP " + code + " " + response.body(), true, null);
+                log.warn("Toss 응답 {} {} → {} (attempt {}/{})",
+                        request.getMethod(), request.getPath(), code, attempt, attempts);
+                continue;
+            }
+
+            // 4xx: PG 는 정상 동작 중이고 요청이 거절된 것
+            circuitBreaker.onSuccess();
+            throw toApiException(code, response.body());
+        }
+        throw last;
+    }
+
+    // sent: 이전 시도에서 이미 PG 에 도달했을 수 있으면 true (중단돼도 결과 불명으로 전달)
+    private void backoff(int attempt, boolean sent) {
+        long base = retryBackoffMs * (1L << (attempt - 2));
+        long jitter = ThreadLocalRandom.current().nextLong(base / 2 + 1);
+        try {
+            Thread.sleep(base + jitter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TossUnavailableException("interrupted", sent, e);
+        }
+    }
+
+    private TossApiException toApiException(int status, String body) {
+        try {
+            JSONObject json = new JSONObject(body);
+            return new TossApiException(status, json.optString("code", "UNKNOWN"), json.optString("message", body));
+        } catch (JSONException e) {
+            return new TossApiException(status, "UNKNOWN", body);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private record RawResponse(int status, String body) {}
+}
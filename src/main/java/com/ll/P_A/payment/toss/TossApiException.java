@@ -0,0 +1,52 @@
+package com.ll.P_A.payment.toss;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Toss 가 에러 응답(4xx)을 명확히 돌려준 경우 → 이 요청은 실패
+ * - 단, 모든 4xx 가 결제 자체의 거절은 아님 (같은 paymentKey 동시 승인 중, 일시적 처리 오류 등)
+ *   → 결제를 FAILED 로 확정할 수 있는 코드는 isConfirmRejection 으로만 판단
+ */
+@Getter
+public class TossApiException extends IllegalStateException {
+
+    // 승인 요청에 대해 결제가 확정적으로 거절/불가함을 뜻하는 코드 (카드사 거절, 한도/잔액, 세션 만료 등)
+    private static final Set<String> CONFIRM_REJECTION_CODES = Set.of(
+            "REJECT_CARD_PAYMENT",
+            "REJECT_CARD_COMPANY",
+            "REJECT_ACCOUNT_PAYMENT",
+            "REJECT_TOSSPAY_INVALID_ACCOUNT",
+            "INVALID_CARD_EXPIRATION",
+            "INVALID_STOPPED_CARD",
+            "INVALID_CARD_LOST_OR_STOLEN",
+            "INVALID_CARD_NUMBER",
+            "INVALID_REJECT_CARD",
+            "INVALID_PASSWORD",
+            "INVALID_ACCOUNT_INFO_RE_REGISTER",
+            "RESTRICTED_TRANSFER_ACCOUNT",
+            "EXCEED_MAX_DAILY_PAYMENT_COUNT",
+            "EXCEED_MAX_PAYMENT_AMOUNT",
+            "EXCEED_MAX_AMOUNT",
+            "EXCEED_MAX_AUTH_COUNT",
+            "NOT_SUPPORTED_INSTALLMENT_PLAN_CARD_OR_MERCHANT",
+            "NOT_AVAILABLE_PAYMENT",
+            "NOT_FOUND_PAYMENT_SESSION",
+            "BELOW_MINIMUM_AMOUNT"
+    );
+
+    private final int httpStatus;
+    private final String code;
+
+    public TossApiException(int httpStatus, String code, String message) {
+        super("TOSS_API_ERROR[" + code + "]: " + message);
+        this.httpStatus = httpStatus;
+        this.code = code;
+    }
+
+    /** 승인 거절이 확정된 응답인지 (false 면 결과 불명으로 보고 PG 조회로 확정해야 함) */
+    public boolean isConfirmRejection() {
+        return CONFIRM_REJECTION_CODES.contains(code);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ll.P_A.payment.toss;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연속 실패 기반의 단순 서킷브레이커 (락 없이 Atomic 으로만 상태 관리)
+ * CLOSED → (연속 실패 threshold 도달) → OPEN → (openMillis 경과) → HALF_OPEN(시험 요청 1건) → CLOSED/OPEN
+ * - tryAcquire 로 통과한 요청은 결과와 관계없이 onSuccess/onFailure 중 하나를 반드시 호출해야 함
+ *   (HALF_OPEN 시험 요청이 결과 없이 끝나면 trialInFlight 가 남아 서킷이 영구히 열린 상태가 됨)
+ */
+class TossCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openUntil = new AtomicLong(0L); // 0 = CLOSED
+    private final AtomicBoolean trialInFlight = new AtomicBoolean(false);
+
+    TossCircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+    }
+
+    /** 요청을 보내도 되는지 확인 (HALF_OPEN 에서는 한 건만 통과) */
+    boolean tryAcquire() {
+        long until = openUntil.get();
+        if (until == 0L) return true;
+        if (System.currentTimeMillis() < until) return false;
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        openUntil.set(0L);
+        trialInFlight.set(false);
+    }
+
+    void onFailure() {
+        if (openUntil.get() != 0L) {
+            // HALF_OPEN 시험 요청 실패 → 다시 OPEN
+            openUntil.set(System.currentTimeMillis() + openMillis);
+            trialInFlight.set(false);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntil.set(System.currentTimeMillis() + openMillis);
+        }
+    }
+
+    State state() {
+        long until = openUntil.get();
+        if (until == 0L) return State.CLOSED;
+        return System.currentTimeMillis() < until ? State.OPEN : State.HALF_OPEN;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ll.P_A.payment.toss;
+
+/**
+ * Toss Payments API 호출 추상화.
+ * - 운영: {@link HttpTossClient} (커넥션 풀 + 타임아웃 + 재시도 + 서킷브레이커)
+ * - 테스트: toss.api.base-url 을 로컬 스텁 서버로 바꾸거나 구현체를 교체
+ */
+public interface TossClient {
+
+    /** 결제 승인 (POST /v1/payments/confirm) */
+    TossPaymentResponse confirm(String paymentKey, String orderId, long amount, String idempotencyKey);
+
+    /** 결제 취소 (POST /v1/payments/{paymentKey}/cancel), cancelAmount 가 null 이면 전액 취소 */
+    TossPaymentResponse cancel(String paymentKey, String cancelReason, Long cancelAmount, String idempotencyKey);
+
+    /** 결제 단건 조회 (GET /v1/payments/{paymentKey}) */
+    TossPaymentResponse getPayment(String paymentKey);
+}
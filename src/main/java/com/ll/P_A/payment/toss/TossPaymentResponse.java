@@ -0,0 +1,31 @@
+package com.ll.P_A.payment.toss;
+
+import org.json.JSONObject;
+
+/**
+ * Toss Payment 객체 중 우리 쪽에서 사용하는 필드만 추린 값 객체
+ */
+public record TossPaymentResponse(
+        String paymentKey,
+        String orderId,
+        String status,          // READY | IN_PROGRESS | WAITING_FOR_DEPOSIT | DONE | CANCELED | PARTIAL_CANCELED | ABORTED | EXPIRED
+        long totalAmount,
+        long balanceAmount,
+        String method
+) {
+    public static TossPaymentResponse from(String body) {
+        JSONObject json = new JSONObject(body);
+        return new TossPaymentResponse(
+                json.optString("paymentKey", null),
+                json.optString("orderId", null),
+                json.optString("status", null),
+                json.optLong("totalAmount", 0L),
+                json.optLong("balanceAmount", 0L),
+                json.optString("method", null)
+        );
+    }
+
+    public boolean isDone() {
+        return "DONE".equals(status);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ll.P_A.payment.toss;
+
+import lombok.Getter;
+
+/**
+ * 타임아웃/네트워크 오류/5xx/서킷 오픈 등으로 PG 결과를 알 수 없는 경우
+ * - requestSent=false 이면 요청이 PG 에 도달하지 않았음이 확실함
+ */
+@Getter
+public class TossUnavailableException extends IllegalStateException {
+
+    private final boolean requestSent;
+
+    public TossUnavailableException(String message, boolean requestSent, Throwable cause) {
+        super("TOSS_UNAVAILABLE: " + message, cause);
+        this.requestSent = requestSent;
+    }
+}
@@ -0,0 +1,97 @@
+package com.ll.P_A.payment.webhook;
+
+import com.ll.P_A.global.retry.RetryOnConflict;
+import com.ll.P_A.payment.payment.Payment;
+import com.ll.P_A.payment.payment.PaymentRepository;
+import com.ll.P_A.payment.payment.PaymentStateService;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기 중인 웹훅 이벤트 묶음을 한 트랜잭션에서 결제/주문 상태에 반영
+ * - paymentKey 별로 묶어 수신 순서(id)대로 적용, 결제는 IN 조회 한 번으로 로딩
+ * - 어떤 이벤트가 반영에 실패하면 같은 paymentKey 의 뒤 이벤트는 다음 배치로 미룸 (순서 보장)
+ */
+@Service
+@RequiredArgsConstructor
+public class WebhookBatchApplier {
+
+    private final WebhookEventRepository eventRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentStateService paymentStateService;
+
+    /** @return 이번 배치에서 처리가 끝난(RECEIVED 를 벗어난) 이벤트 수 */
+    @RetryOnConflict("webhook.batch")
+    @Transactional
+    public int applyNextBatch(int batchSize, int maxAttempts) {
+        List<WebhookEvent> events = eventRepository.findByStatusOrderByIdAsc(
+                WebhookEventStatus.RECEIVED, Limit.of(batchSize));
+        if (events.isEmpty()) return 0;
+
+        Map<String, List<WebhookEvent>> byPaymentKey = new LinkedHashMap<>();
+        for (WebhookEvent event : events) {
+            if (event.getPaymentKey() == null || event.getPgStatus() == null) {
+                event.markProcessed(); // 결제 상태와 무관한 이벤트는 보관만
+                continue;
+            }
+            byPaymentKey.computeIfAbsent(event.getPaymentKey(), k -> new ArrayList<>()).add(event);
+        }
+
+        Map<String, Payment> payments = new HashMap<>();
+        if (!byPaymentKey.isEmpty()) {
+            for (Payment p : paymentRepository.findWithOrderByPaymentKeyIn(byPaymentKey.keySet())) {
+                payments.put(p.getPaymentKey(), p);
+            }
+        }
+
+        for (Map.Entry<String, List<WebhookEvent>> entry : byPaymentKey.entrySet()) {
+            Payment payment = payments.get(entry.getKey());
+            List<WebhookEvent> group = entry.getValue();
+
+            if (payment == null) {
+                // 승인 기록보다 웹훅이 먼저 온 경우 등 → 재시도
+                group.forEach(e -> e.markRetry("payment not found", maxAttempts));
+                continue;
+            }
+
+            for (WebhookEvent event : group) {
+                try {
+                    paymentStateService.applyPgStatus(payment, event.getPgStatus(), event.getPgBalanceAmount());
+                    event.markProcessed();
+                } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                    throw e; // 동시 수정 → 배치 전체 재시도(@RetryOnConflict)
+                } catch (RuntimeException e) {
+                    // 그 외 예외는 이 이벤트만 재시도 집계 → maxAttempts 초과 시 IGNORED (독 이벤트가 배치를 막지 않음)
+                    event.markRetry(e.toString(), maxAttempts);
+                    break;
+                }
+            }
+        }
+
+        int completed = 0;
+        for (WebhookEvent event : events) {
+            if (event.getStatus() != WebhookEventStatus.RECEIVED) completed++;
+        }
+        return completed;
+    }
+
+    /**
+     * 단건 배치조차 커밋에 실패할 때(flush 시 제약 위반 등) 맨 앞 이벤트의 시도 횟수만 별도 트랜잭션으로 올림
+     * - 같은 이벤트가 매 주기 배치를 통째로 롤백시키며 무한 재실행되는 것을 막음
+     */
+    @Transactional
+    public void recordHeadFailure(String error, int maxAttempts) {
+        eventRepository.findByStatusOrderByIdAsc(WebhookEventStatus.RECEIVED, Limit.of(1))
+                .forEach(e -> e.markRetry(error, maxAttempts));
+    }
+}
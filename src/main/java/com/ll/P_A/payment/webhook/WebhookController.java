@@ -0,0 +1,31 @@
+package com.ll.P_A.payment.webhook;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class WebhookController {
+
+    private final WebhookSignatureVerifier signatureVerifier;
+    private final WebhookIngestService ingestService;
+
+    // 서명 검증 + 저장만 하고 바로 200 (PG 재전송 타임아웃 방지)
+    @PostMapping("${trade.webhook.endpointPath}")
+    public ResponseEntity<Void> receive(
+            @RequestBody byte[] body,
+            @RequestHeader(value = "tosspayments-webhook-signature", required = false) String signature,
+            @RequestHeader(value = "tosspayments-webhook-transmission-time", required = false) String transmissionTime
+    ) {
+        if (!signatureVerifier.verify(body, signature, transmissionTime)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        ingestService.ingest(body, transmissionTime);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.ll.P_A.payment.webhook;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(
+        name = "webhook_events",
+        indexes = {
+                @Index(name = "idx_webhook_event_id", columnList = "eventId", unique = true),
+                @Index(name = "idx_webhook_status_id", columnList = "status, id")
+        }
+)
+public class WebhookEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // PG 전송 ID (없으면 본문 SHA-256) → 재전송 중복 제거
+    @Column(nullable = false, unique = true, length = 100)
+    private String eventId;
+
+    @Column(length = 50)
+    private String eventType;
+
+    @Column(length = 200)
+    private String paymentKey;
+
+    // PG 기준 결제 상태 (DONE / CANCELED / WAITING_FOR_DEPOSIT ...)
+    @Column(length = 30)
+    private String pgStatus;
+
+    // 취소 후 잔액 (부분 취소 반영용, 없으면 null)
+    private Long pgBalanceAmount;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookEventStatus status;
+
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Instant receivedAt;
+
+    private Instant processedAt;
+
+    public static WebhookEvent received(String eventId, String eventType, String paymentKey,
+                                        String pgStatus, Long pgBalanceAmount, String payload) {
+        return WebhookEvent.builder()
+                .eventId(eventId)
+                .eventType(eventType)
+                .paymentKey(paymentKey)
+                .pgStatus(pgStatus)
+                .pgBalanceAmount(pgBalanceAmount)
+                .payload(payload)
+                .status(WebhookEventStatus.RECEIVED)
+                .receivedAt(Instant.now())
+                .build();
+    }
+
+    public void markProcessed() {
+        this.status = WebhookEventStatus.PROCESSED;
+        this.processedAt = Instant.now();
+    }
+
+    // 반영 실패: 최대 시도 횟수까지는 RECEIVED 로 남겨 다음 배치에서 재시도
+    public void markRetry(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null ? null : error.substring(0, Math.min(500, error.length()));
+        if (this.attempts >= maxAttempts) {
+            this.status = WebhookEventStatus.IGNORED;
+            this.processedAt = Instant.now();
+        }
+    }
+}
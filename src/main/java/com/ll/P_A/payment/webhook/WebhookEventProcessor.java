@@ -0,0 +1,61 @@
+package com.ll.P_A.payment.webhook;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 웹훅 이벤트를 스케줄러 스레드에서 배치로 반영
+ * - 정산 시점 폭주 시에도 주기당 최대 maxBatchesPerRun 배치만 처리 → 사용자 트래픽과 DB 경합 완화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookEventProcessor {
+
+    private final WebhookBatchApplier batchApplier;
+
+    @Value("${trade.webhook.batch-size:200}")
+    private int batchSize;
+
+    @Value("${trade.webhook.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${trade.webhook.max-attempts:10}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${trade.webhook.process-delay-ms:1000}")
+    public void processPending() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int completed;
+            try {
+                completed = batchApplier.applyNextBatch(batchSize, maxAttempts);
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                // 재시도 후에도 낙관적 락 충돌 → 배치 전체 롤백, 다음 주기에 재시도
+                log.warn("웹훅 배치 반영 실패: {}", e.toString());
+                return;
+            } catch (RuntimeException e) {
+                // 이벤트 단위로 잡히지 않은 실패(커밋 시점 예외 등) → 맨 앞 이벤트만 따로 처리해 원인 격리
+                isolateHead(e);
+                return;
+            }
+            // 덜 찼거나 재시도 대기 이벤트가 섞여 있으면 이번 주기는 종료
+            if (completed < batchSize) return;
+        }
+    }
+
+    private void isolateHead(RuntimeException batchFailure) {
+        log.warn("웹훅 배치 반영 실패, 단건으로 재시도: {}", batchFailure.toString());
+        try {
+            batchApplier.applyNextBatch(1, maxAttempts);
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            log.warn("웹훅 단건 반영 충돌: {}", e.toString());
+        } catch (RuntimeException e) {
+            batchApplier.recordHeadFailure(e.toString(), maxAttempts);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ll.P_A.payment.webhook;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface WebhookEventRepository extends JpaRepository<WebhookEvent, Long> {
+
+    // 수신 순서(id)대로 반영 대기 이벤트 조회
+    List<WebhookEvent> findByStatusOrderByIdAsc(WebhookEventStatus status, Limit limit);
+}
@@ -0,0 +1,7 @@
+package com.ll.P_A.payment.webhook;
+
+public enum WebhookEventStatus {
+    RECEIVED,   // 수신/저장 완료, 반영 대기
+    PROCESSED,  // 결제/주문 상태에 반영 완료 (변화 없음 포함)
+    IGNORED     // 대상 결제를 끝내 찾지 못했거나 반영 불가
+}
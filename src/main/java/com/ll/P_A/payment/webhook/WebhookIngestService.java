@@ -0,0 +1,79 @@
+package com.ll.P_A.payment.webhook;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 웹훅 수신 → 최소 파싱 후 webhook_events 에 저장만 하고 즉시 반환
+ * - 상태 반영은 WebhookEventProcessor 가 비동기로 수행 (요청 스레드에서 결제/주문 락 경합 X)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebhookIngestService {
+
+    private final WebhookEventRepository eventRepository;
+
+    /**
+     * 중복 판단 키는 서명 대상(본문 + 전송 시각)의 해시
+     * - 서명되지 않는 transmission-id 헤더는 재전송 시 마음대로 바꿀 수 있어 키로 쓰지 않음
+     * @param transmissionTime PG 전송 시각 (서명 생략 환경에서 없으면 본문만 해시)
+     * @return 새로 저장했으면 true, 이미 받은 이벤트면 false
+     */
+    public boolean ingest(byte[] body, String transmissionTime) {
+        String payload = new String(body, StandardCharsets.UTF_8);
+
+        JSONObject json;
+        try {
+            json = new JSONObject(payload);
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("웹훅 본문이 JSON 이 아닙니다.");
+        }
+
+        // PAYMENT_STATUS_CHANGED 는 data 하위, 가상계좌 입금 콜백은 최상위에 상태가 옴
+        JSONObject data = json.optJSONObject("data");
+        JSONObject source = data != null ? data : json;
+
+        String eventId = sha256(body, transmissionTime);
+
+        WebhookEvent event = WebhookEvent.received(
+                eventId,
+                json.optString("eventType", null),
+                source.optString("paymentKey", null),
+                source.optString("status", null),
+                source.has("balanceAmount") ? source.optLong("balanceAmount") : null,
+                payload
+        );
+
+        try {
+            eventRepository.saveAndFlush(event);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // PG 재전송 → 이미 저장된 이벤트 (정상 응답으로 재전송 중단)
+            log.debug("중복 웹훅 무시: eventId={}", eventId);
+            return false;
+        }
+    }
+
+    private static String sha256(byte[] body, String transmissionTime) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(body);
+            if (transmissionTime != null) {
+                digest.update((":" + transmissionTime).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ll.P_A.payment.webhook;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+/**
+ * 웹훅 서명 검증
+ * - 서명 헤더: "v1:<base64>" 목록(콤마 구분), 서명 대상: "{본문}:{전송 시각}" 의 HMAC-SHA256
+ * - 전송 시각이 현재와 maxSkew 이상 차이 나면 거부 → 캡처한 서명 웹훅을 나중에 재전송(replay)하는 공격 차단
+ *   (창 안의 재전송은 서명 대상(본문+전송 시각) 해시로 중복 제거: WebhookIngestService)
+ * - 시크릿 미설정 시 기본은 모든 웹훅 거부 (fail closed)
+ * - 서명 없는 웹훅 허용은 trade.webhook.allow-unsigned=true 로 명시한 dev/test 에서만, prod 프로필이면 기동 실패
+ */
+@Slf4j
+@Component
+public class WebhookSignatureVerifier {
+
+    private final byte[] secret;
+    private final boolean allowUnsigned;
+    private final long maxSkewSeconds;
+
+    public WebhookSignatureVerifier(
+            @Value("${trade.pg.webhookSecret:}") String webhookSecret,
+            @Value("${trade.webhook.allow-unsigned:false}") boolean allowUnsigned,
+            @Value("${trade.webhook.max-skew-seconds:300}") long maxSkewSeconds,
+            Environment environment
+    ) {
+        if (allowUnsigned && environment.acceptsProfiles(Profiles.of("prod"))) {
+            throw new IllegalStateException("prod 프로필에서는 trade.webhook.allow-unsigned 를 켤 수 없습니다.");
+        }
+        this.secret = webhookSecret == null || webhookSecret.isBlank()
+                ? null
+                : webhookSecret.getBytes(StandardCharsets.UTF_8);
+        this.allowUnsigned = allowUnsigned;
+        this.maxSkewSeconds = maxSkewSeconds;
+        if (secret == null) {
+            log.warn(allowUnsigned
+                    ? "trade.pg.webhookSecret 미설정 + allow-unsigned → 웹훅 서명 검증 생략 (dev/test 전용)"
+                    : "trade.pg.webhookSecret 미설정 → 모든 웹훅 거부");
+        }
+    }
+
+    public boolean verify(byte[] body, String signatureHeader, String transmissionTime) {
+        if (secret == null) {
+            return allowUnsigned;
+        }
+        if (signatureHeader == null || transmissionTime == null) return false;
+        if (!isFresh(transmissionTime)) {
+            log.warn("웹훅 전송 시각이 허용 범위를 벗어남: {}", transmissionTime);
+            return false;
+        }
+
+        byte[] expected = sign(body, transmissionTime);
+        for (String part : signatureHeader.split(",")) {
+            String candidate = part.trim();
+            if (!candidate.startsWith("v1:")) continue;
+            try {
+                byte[] given = Base64.getDecoder().decode(candidate.substring(3));
+                if (MessageDigest.isEqual(expected, given)) return true; // 상수 시간 비교
+            } catch (IllegalArgumentException ignored) {
+                // 잘못된 base64 → 다음 후보
+            }
+        }
+        return false;
+    }
+
+    // 전송 시각: ISO-8601(오프셋 포함) 또는 epoch 초
+    private boolean isFresh(String transmissionTime) {
+        Instant sentAt;
+        try {
+            String value = transmissionTime.trim();
+            sentAt = value.chars().allMatch(Character::isDigit)
+                    ? Instant.ofEpochSecond(Long.parseLong(value))
+                    : OffsetDateTime.parse(value).toInstant();
+        } catch (RuntimeException e) {
+            return false;
+        }
+        return Math.abs(Duration.between(sentAt, Instant.now()).getSeconds()) <= maxSkewSeconds;
+    }
+
+    private byte[] sign(byte[] body, String transmissionTime) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            mac.update(body);
+            mac.update((":" + transmissionTime).getBytes(StandardCharsets.UTF_8));
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 사용 불가", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ll.P_A.post;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+
+/**
+ * 게시글/댓글 응답용 strong ETag
+ * - 본문이 아니라 버전 값(수정 시각 + 카운터)을 64bit FNV-1a 로 합침
+ * - 같은 값을 넣으면 DTO 경로(200 응답)와 버전 조회 경로(If-None-Match 판단)에서 같은 ETag 가 나옴
+ */
+public final class ContentETag {
+
+    // 브라우저가 저장은 하되 매번 ETag 로 재검증 (likedByMe 가 사용자마다 달라 private)
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String kind;
+    private long hash = FNV_OFFSET;
+
+    private ContentETag(String kind) {
+        this.kind = kind;
+    }
+
+    public static ContentETag of(String kind) {
+        return new ContentETag(kind);
+    }
+
+    /**
+     * If-None-Match 가 현재 버전과 같으면 true (응답은 304 + ETag 로 설정됨)
+     * - 헤더가 없으면 버전 조회 자체를 하지 않음
+     */
+    public static boolean notModified(WebRequest webRequest, Supplier<String> currentETag) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(currentETag.get());
+    }
+
+    public ContentETag add(long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return this;
+    }
+
+    public ContentETag add(Long value) {
+        return add(value != null ? value : -1L);
+    }
+
+    public ContentETag add(boolean value) {
+        return add(value ? 1L : 0L);
+    }
+
+    // null(수정 이력 없음)은 0 으로 취급
+    public ContentETag add(LocalDateTime value) {
+        if (value == null) {
+            return add(0L);
+        }
+        return add(value.toEpochSecond(ZoneOffset.UTC)).add(value.getNano());
+    }
+
+    public String build() {
+        return "\"" + kind + "-" + Long.toHexString(hash) + "\"";
+    }
+}
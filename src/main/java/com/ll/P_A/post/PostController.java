@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.net.URI;
@@ -42,9 +43,14 @@ public class PostController {
         return userService.findById(requireLoginUserId(loginUser));
     }
 
+    /** 로그인 선택: ID or null (DB 조회 없음) */
+    private Long optionalLoginUserId(CustomUserDetails loginUser) {
+        return (loginUser != null) ? loginUser.getUser().getId() : null;
+    }
+
     /** 로그인 선택: 엔티티 or null */
     private User optionalLoginUser(CustomUserDetails loginUser) {
-        Long userId = (loginUser != null) ? loginUser.getUser().getId() : null;
+        Long userId = optionalLoginUserId(loginUser);
         return (userId != null) ? userService.findById(userId) : null;
     }
 
@@ -53,21 +59,37 @@ public class PostController {
     public ResponseEntity<Page<PostResponseDto>> getAllPosts(
             @AuthenticationPrincipal CustomUserDetails loginUser,
             @RequestParam(name = "keyword", required = false) String keyword,
-            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest
     ) {
+        Long loginUserId = optionalLoginUserId(loginUser);
+        if (ContentETag.notModified(webRequest, () -> postService.currentListETag(loginUserId, pageable, keyword))) {
+            return null;
+        }
         User loginUserEntity = optionalLoginUser(loginUser);
         Page<PostResponseDto> posts = postService.getAll(loginUserEntity, pageable, keyword);
-        return ResponseEntity.ok(posts);
+        return ResponseEntity.ok()
+                .cacheControl(ContentETag.REVALIDATE)
+                .eTag(PostService.eTagOf(posts))
+                .body(posts);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PostResponseDto> getPost(
             @PathVariable Long id,
-            @AuthenticationPrincipal CustomUserDetails loginUser
+            @AuthenticationPrincipal CustomUserDetails loginUser,
+            WebRequest webRequest
     ) {
+        // 이미 가진 버전이면 본문 로딩/조회수 증가 없이 304 (새로고침은 조회수에 넣지 않음)
+        if (ContentETag.notModified(webRequest, () -> postService.currentETag(id, optionalLoginUserId(loginUser)))) {
+            return null;
+        }
         User loginUserEntity = optionalLoginUser(loginUser);
         PostResponseDto post = postService.getById(id, loginUserEntity);
-        return ResponseEntity.ok(post);
+        return ResponseEntity.ok()
+                .cacheControl(ContentETag.REVALIDATE)
+                .eTag(PostService.eTagOf(post))
+                .body(post);
     }
 
     @PostMapping
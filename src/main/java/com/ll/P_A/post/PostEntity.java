@@ -51,18 +51,15 @@ public class PostEntity {
         this.likeCount = 0;
     }
 
-    @PreUpdate
-    public void preUpdate() {
-        this.updatedAt = LocalDateTime.now();
-    }
-
     public void increaseViewCount() {
         this.viewCount++;
     }
 
+    // updatedAt 은 본문 수정 시각: 조회수/좋아요로는 바뀌지 않음 (ETag 버전으로 사용)
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.updatedAt = LocalDateTime.now();
     }
 
     public void like(User user) {
@@ -79,7 +76,9 @@ public class PostEntity {
         }
     }
 
+    // 요청마다 다른 영속성 컨텍스트에서 온 User 일 수 있어 id 로 비교
     public boolean isLikedBy(User user) {
-        return likedUsers.contains(user);
+        if (user == null || user.getId() == null) return false;
+        return likedUsers.stream().anyMatch(u -> user.getId().equals(u.getId()));
     }
 }
\ No newline at end of file
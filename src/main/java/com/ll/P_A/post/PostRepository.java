@@ -3,8 +3,14 @@ package com.ll.P_A.post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
@@ -14,4 +20,28 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
             String content,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    /* ---------- ETag 버전 조회 (본문/작성자 로딩 없이) ---------- */
+
+    @Query("select new com.ll.P_A.post.PostVersion(p.id, p.updatedAt, p.viewCount, p.likeCount) "
+            + "from PostEntity p where p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    @Query(value = "select new com.ll.P_A.post.PostVersion(p.id, p.updatedAt, p.viewCount, p.likeCount) "
+            + "from PostEntity p",
+            countQuery = "select count(p) from PostEntity p")
+    Page<PostVersion> findAllVersions(Pageable pageable);
+
+    // findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase 와 같은 조건
+    String KEYWORD_MATCH = " where upper(p.title) like upper(concat('%', :keyword, '%'))"
+            + " or upper(p.content) like upper(concat('%', :keyword, '%'))";
+
+    @Query(value = "select new com.ll.P_A.post.PostVersion(p.id, p.updatedAt, p.viewCount, p.likeCount) "
+            + "from PostEntity p" + KEYWORD_MATCH,
+            countQuery = "select count(p) from PostEntity p" + KEYWORD_MATCH)
+    Page<PostVersion> searchVersions(@Param("keyword") String keyword, Pageable pageable);
+
+    // 주어진 게시글 중 사용자가 좋아요 누른 것 (likedByMe 를 컬렉션 로딩 없이 판단)
+    @Query("select p.id from PostEntity p join p.likedUsers u where u.id = :userId and p.id in :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+}
@@ -1,13 +1,20 @@
 package com.ll.P_A.post;
 
 import com.ll.P_A.global.exception.AuthorizationValidator;
+import com.ll.P_A.global.exception.ErrorCode;
 import com.ll.P_A.security.User;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class PostService {
@@ -26,6 +33,7 @@ public class PostService {
     }
 
    //게시글 목록: 페이징/정렬/검색 지원 (likedByMe 판단 포함)
+    @Timed(value = "app.post.list", description = "게시글 목록 조회 시간")
     @Transactional(readOnly = true)
     public Page<PostResponseDto> getAll(User loginUser, Pageable pageable, String keyword) {
         Page<PostEntity> page = (keyword == null || keyword.isBlank())
@@ -64,7 +72,7 @@ public class PostService {
     @Transactional(readOnly = true)
     public PostEntity getEntityById(Long id) {
         return postRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+                .orElseThrow(ErrorCode.POST_NOT_FOUND::exception);
     }
 
     //좋아요 추가
@@ -72,7 +80,7 @@ public class PostService {
     public void like(Long postId, User user) {
         PostEntity post = getEntityById(postId);
         if (post.getAuthor().getId().equals(user.getId())) {
-            throw new IllegalArgumentException("본인 게시글에는 좋아요를 누를 수 없습니다.");
+            throw ErrorCode.SELF_LIKE_NOT_ALLOWED.exception();
         }
         post.like(user);
     }
@@ -90,4 +98,53 @@ public class PostService {
         PostEntity post = getEntityById(postId);
         return post.isLikedBy(user);
     }
-}
\ No newline at end of file
+
+    /* ---------- ETag (조건부 요청) ---------- */
+
+    // If-None-Match 판단용: 버전 값만 조회 (본문 로딩/DTO 변환/조회수 증가 없음)
+    @Transactional(readOnly = true)
+    public String currentETag(Long id, Long loginUserId) {
+        PostVersion version = postRepository.findVersionById(id)
+                .orElseThrow(ErrorCode.POST_NOT_FOUND::exception);
+        boolean liked = loginUserId != null
+                && !postRepository.findLikedPostIds(loginUserId, List.of(id)).isEmpty();
+        return addPost(ContentETag.of("post"), version.id(), version.updatedAt(),
+                version.viewCount(), version.likeCount(), liked).build();
+    }
+
+    @Transactional(readOnly = true)
+    public String currentListETag(Long loginUserId, Pageable pageable, String keyword) {
+        Page<PostVersion> page = (keyword == null || keyword.isBlank())
+                ? postRepository.findAllVersions(pageable)
+                : postRepository.searchVersions(keyword, pageable);
+        Set<Long> liked = (loginUserId == null || page.isEmpty())
+                ? Set.of()
+                : new HashSet<>(postRepository.findLikedPostIds(
+                        loginUserId, page.getContent().stream().map(PostVersion::id).toList()));
+
+        ContentETag etag = ContentETag.of("posts").add(page.getTotalElements());
+        for (PostVersion v : page) {
+            addPost(etag, v.id(), v.updatedAt(), v.viewCount(), v.likeCount(), liked.contains(v.id()));
+        }
+        return etag.build();
+    }
+
+    // 200 응답용: 이미 만든 DTO 에서 같은 방식으로 계산
+    public static String eTagOf(PostResponseDto post) {
+        return addPost(ContentETag.of("post"), post.id(), post.updatedAt(),
+                post.viewCount(), post.likeCount(), post.likedByMe()).build();
+    }
+
+    public static String eTagOf(Page<PostResponseDto> page) {
+        ContentETag etag = ContentETag.of("posts").add(page.getTotalElements());
+        for (PostResponseDto p : page) {
+            addPost(etag, p.id(), p.updatedAt(), p.viewCount(), p.likeCount(), p.likedByMe());
+        }
+        return etag.build();
+    }
+
+    private static ContentETag addPost(ContentETag etag, Long id, LocalDateTime updatedAt,
+                                       int viewCount, int likeCount, boolean likedByMe) {
+        return etag.add(id).add(updatedAt).add(viewCount).add(likeCount).add(likedByMe);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ll.P_A.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * ETag 계산에 필요한 게시글 버전 값만 담은 프로젝션 (본문/작성자 로딩 없음)
+ */
+public record PostVersion(
+        Long id,
+        LocalDateTime updatedAt,
+        int viewCount,
+        int likeCount
+) {
+}
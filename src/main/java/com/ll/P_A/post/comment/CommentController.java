@@ -1,5 +1,6 @@
 package com.ll.P_A.post.comment;
 
+import com.ll.P_A.post.ContentETag;
 import com.ll.P_A.security.User;
 import com.ll.P_A.security.UserService;
 import com.ll.P_A.security.jwt.CustomUserDetails;
@@ -9,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.net.URI;
@@ -50,8 +52,15 @@ public class CommentController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getAll(@PathVariable Long postId) {
-        return ResponseEntity.ok(commentService.getComments(postId));
+    public ResponseEntity<List<CommentResponseDto>> getAll(@PathVariable Long postId, WebRequest webRequest) {
+        if (ContentETag.notModified(webRequest, () -> commentService.currentETag(postId))) {
+            return null;
+        }
+        List<CommentResponseDto> comments = commentService.getComments(postId);
+        return ResponseEntity.ok()
+                .cacheControl(ContentETag.REVALIDATE)
+                .eTag(CommentService.eTagOf(comments))
+                .body(comments);
     }
 
     @DeleteMapping("/{commentId}")
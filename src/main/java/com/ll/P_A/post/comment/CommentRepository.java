@@ -1,9 +1,16 @@
 package com.ll.P_A.post.comment;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
     List<CommentEntity> findByPostIdOrderByCreatedAtAsc(Long postId);
-}
\ No newline at end of file
+
+    // ETag 버전 조회: 댓글 본문/작성자 로딩 없이 집계 1건
+    @Query("select new com.ll.P_A.post.comment.CommentVersion(count(c), max(c.id), max(coalesce(c.updatedAt, c.createdAt))) "
+            + "from CommentEntity c where c.post.id = :postId")
+    CommentVersion findVersionByPostId(@Param("postId") Long postId);
+}
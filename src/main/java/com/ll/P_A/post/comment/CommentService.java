@@ -1,13 +1,17 @@
 package com.ll.P_A.post.comment;
 
 import com.ll.P_A.global.exception.AuthorizationValidator;
+import com.ll.P_A.global.exception.ErrorCode;
+import com.ll.P_A.post.ContentETag;
 import com.ll.P_A.post.PostEntity;
 import com.ll.P_A.post.PostRepository;
 import com.ll.P_A.security.User;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -22,7 +26,7 @@ public class CommentService {
     @Transactional
     public Long create(Long postId, CommentRequestDto dto, User user) {
         PostEntity post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
+                .orElseThrow(ErrorCode.POST_NOT_FOUND::exception);
 
         CommentEntity comment = CommentEntity.builder()
                 .content(dto.content())
@@ -34,6 +38,7 @@ public class CommentService {
     }
 
     /** 게시글에 달린 댓글 조회 */
+    @Timed(value = "app.comment.list", description = "게시글 댓글 조회 시간")
     @Transactional(readOnly = true)
     public List<CommentResponseDto> getComments(Long postId) {
         return commentRepository.findByPostIdOrderByCreatedAtAsc(postId)
@@ -46,7 +51,7 @@ public class CommentService {
     @Transactional
     public void deleteByUser(Long commentId, Long userId) {
         CommentEntity comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글이 존재하지 않습니다."));
+                .orElseThrow(ErrorCode.COMMENT_NOT_FOUND::exception);
         authValidator.validateAuthor(comment.getAuthor(), userId);
         commentRepository.delete(comment);
     }
@@ -55,8 +60,35 @@ public class CommentService {
     @Transactional
     public void updateByUser(Long commentId, Long userId, String newContent) {
         CommentEntity comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글이 존재하지 않습니다."));
+                .orElseThrow(ErrorCode.COMMENT_NOT_FOUND::exception);
         authValidator.validateAuthor(comment.getAuthor(), userId);
         comment.updateContent(newContent);
     }
-}
\ No newline at end of file
+
+    /** If-None-Match 판단용 댓글 목록 버전 (본문/작성자 로딩 없이 집계 1건) */
+    @Transactional(readOnly = true)
+    public String currentETag(Long postId) {
+        CommentVersion version = commentRepository.findVersionByPostId(postId);
+        return commentsETag(version.count(), version.lastId(), version.lastModifiedAt());
+    }
+
+    /** 200 응답용: 조회한 댓글 목록에서 같은 방식으로 계산 */
+    public static String eTagOf(List<CommentResponseDto> comments) {
+        Long lastId = null;
+        LocalDateTime lastModifiedAt = null;
+        for (CommentResponseDto c : comments) {
+            if (lastId == null || c.id() > lastId) {
+                lastId = c.id();
+            }
+            LocalDateTime modifiedAt = (c.updatedAt() != null) ? c.updatedAt() : c.createdAt();
+            if (modifiedAt != null && (lastModifiedAt == null || modifiedAt.isAfter(lastModifiedAt))) {
+                lastModifiedAt = modifiedAt;
+            }
+        }
+        return commentsETag((long) comments.size(), lastId, lastModifiedAt);
+    }
+
+    private static String commentsETag(Long count, Long lastId, LocalDateTime lastModifiedAt) {
+        return ContentETag.of("comments").add(count).add(lastId).add(lastModifiedAt).build();
+    }
+}
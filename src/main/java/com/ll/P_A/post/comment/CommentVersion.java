@@ -0,0 +1,14 @@
+package com.ll.P_A.post.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 댓글 목록의 버전: 개수 + 마지막 id + 마지막 작성/수정 시각
+ * - 추가 → lastId, 삭제 → count, 수정 → lastModifiedAt 이 바뀜
+ */
+public record CommentVersion(
+        Long count,
+        Long lastId,
+        LocalDateTime lastModifiedAt
+) {
+}
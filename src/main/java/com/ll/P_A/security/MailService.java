@@ -1,5 +1,6 @@
 package com.ll.P_A.security;
 
+import com.ll.P_A.mail.MailQueue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
@@ -12,10 +13,13 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class MailService {
 
+    private static final String VERIFICATION_SUBJECT = "이메일 인증을 완료해주세요";
+
     @Value("${app.verify.base-url}")
     private String verifyBaseUrl;
 
     private final Environment env;
+    private final MailQueue mailQueue;
 
     public void sendVerificationEmail(User user, String rawToken) {
         if (verifyBaseUrl == null || verifyBaseUrl.isBlank()) {
@@ -29,10 +33,14 @@ public class MailService {
         if (env.acceptsProfiles("dev", "local", "test")) {
             System.out.printf("[MAIL] to=%s, subject=%s, link=%s%n",
                     user.getEmail(),
-                    "이메일 인증을 완료해주세요",
+                    VERIFICATION_SUBJECT,
                     link
             );
         }
+
+        // 호출한 트랜잭션(가입/이메일 변경)과 함께 큐에 기록 → 실제 SMTP 발송은 커밋 후 MailDispatcher 가 수행
+        mailQueue.enqueue(user.getEmail(), VERIFICATION_SUBJECT,
+                user.getNickname() + "님, 아래 링크를 눌러 이메일 인증을 완료해주세요.\n\n" + link);
     }
 
     @Deprecated
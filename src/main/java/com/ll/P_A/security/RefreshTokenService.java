@@ -1,5 +1,6 @@
 package com.ll.P_A.security;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.beans.factory.ObjectProvider;
@@ -33,6 +34,15 @@ public class RefreshTokenService {
         this.useRedis = (this.redisTemplate != null);
     }
 
+    public boolean isRedisBacked() {
+        return useRedis;
+    }
+
+    // In-Memory 폴백에 저장된 토큰 해시 수 (게이지용)
+    public int memorySize() {
+        return memHash.size();
+    }
+
     /* ===================== 유틸 ===================== */
 
     private String hash(String token) {
@@ -55,6 +65,7 @@ public class RefreshTokenService {
      * ACTIVE 상태의 Refresh 토큰 저장
      * - user 인덱스, family 인덱스에 해시를 같이 등록
      */
+    @Timed(value = "app.refresh.store", extraTags = {"op", "store"})
     public void storeActiveToken(String refreshToken,
                                  Long userId,
                                  String jti,
@@ -102,6 +113,7 @@ public class RefreshTokenService {
     /**
      * 해시 키에 저장된 메타를 조회
      */
+    @Timed(value = "app.refresh.store", extraTags = {"op", "find"})
     public RefreshRecord findByToken(String refreshToken) {
         String h = hash(refreshToken);
         return findByHash(h);
@@ -122,6 +134,7 @@ public class RefreshTokenService {
     /**
      * 로테이션 처리: 이전 토큰은 ROTATED로 표시(재사용 감지용으로 잠시 보관)
      */
+    @Timed(value = "app.refresh.store", extraTags = {"op", "rotate"})
     public void markRotatedByHash(String hash) {
         String key = "refresh:" + hash;
         hPut(key, "status", "ROTATED");
@@ -148,6 +161,7 @@ public class RefreshTokenService {
     /**
      * 특정 사용자(userId)의 모든 Refresh 폐기
      */
+    @Timed(value = "app.refresh.store", extraTags = {"op", "revoke-all"})
     public void revokeAllForUser(Long userId) {
         String idx = "user:" + userId + ":refresh";
         Set<Object> hashes = sMembers(idx);
@@ -1,5 +1,7 @@
 package com.ll.P_A.security;
 
+import com.ll.P_A.global.ratelimit.RateLimitFilter;
+import com.ll.P_A.global.ratelimit.RateLimitService;
 import com.ll.P_A.security.jwt.CustomUserDetailsService;
 import com.ll.P_A.security.jwt.JwtAuthenticationFilter;
 import com.ll.P_A.security.jwt.JwtTokenProvider;
@@ -34,26 +36,7 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider; // JWT 제공자
     private final CustomUserDetailsService customUserDetailsService; // 사용자 조회
     private final Environment environment; // 프로필/프로퍼티 확인용
-
-    // Swagger 경로 화이트리스트
-    private static final String[] SWAGGER_WHITELIST = {
-            "/swagger-ui.html", "/swagger-ui/**",
-            "/v3/api-docs", "/v3/api-docs/**", "/v3/api-docs.yaml", //yaml 경로 포함
-            "/api-docs/**",
-            "/swagger-resources", "/swagger-resources/**",
-            "/webjars/**"
-    };
-
-    // H2 콘솔 경로
-    private static final String[] H2_WHITELIST = {
-            "/h2-console/**"
-    };
-
-    // 정적/공용 경로
-    private static final String[] PUBLIC_WHITELIST = {
-            "/", "/error", "/actuator/health", "/favicon.ico",
-            "/css/**", "/js/**", "/images/**"
-    };
+    private final RateLimitService rateLimitService; // 요청 수 제한
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
@@ -74,9 +57,22 @@ public class SecurityConfig {
         return false;
     }
 
+    /**
+     * 관리 서버가 애플리케이션과 다른 포트로 분리돼 있으면 그 포트 번호, 아니면 null
+     * - 0(임의 포트)/-1(비활성)/미설정은 분리로 보지 않음
+     */
+    private Integer separateManagementPort() {
+        Integer managementPort = environment.getProperty("management.server.port", Integer.class);
+        int serverPort = environment.getProperty("server.port", Integer.class, 8080);
+        if (managementPort == null || managementPort <= 0 || managementPort == serverPort) return null;
+        return managementPort;
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        Integer managementPort = separateManagementPort();
         boolean h2Enabled = environment.getProperty("spring.h2.console.enabled", Boolean.class, false);
+        String webhookPath = environment.getProperty("trade.webhook.endpointPath", "/api/trade/payments/webhook");
 
         http
                 // H2 콘솔 iframe 허용
@@ -119,24 +115,29 @@ public class SecurityConfig {
                     auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
 
                     // 공개 API (정확히 필요한 것만 허용)
-                    auth.requestMatchers(
-                            "/api/auth/signup",
-                            "/api/auth/login",
-                            "/api/auth/reissue",
-                            "/api/auth/verify-email"
-                    ).permitAll();
+                    auth.requestMatchers(SecurityPaths.AUTH_PUBLIC).permitAll();
+
+                    // PG 웹훅 (JWT 대신 서명으로 검증)
+                    auth.requestMatchers(HttpMethod.POST, webhookPath).permitAll();
 
                     // 예: 게시글 조회 공개
                     auth.requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll();
 
                     // 정적/공용 리소스
-                    auth.requestMatchers(PUBLIC_WHITELIST).permitAll();
+                    auth.requestMatchers(SecurityPaths.PUBLIC).permitAll();
+
+                    // 메트릭 스크레이프: 분리된 관리 포트로 들어온 요청만 공개, 그 외(같은 포트)는 관리자만
+                    if (managementPort != null) {
+                        auth.requestMatchers(request -> request.getLocalPort() == managementPort
+                                && isMetricsPath(request.getRequestURI())).permitAll();
+                    }
+                    auth.requestMatchers(SecurityPaths.METRICS).hasRole("ADMIN");
 
                     // Swagger 문서/리소스는 항상 허용
-                    auth.requestMatchers(SWAGGER_WHITELIST).permitAll();
+                    auth.requestMatchers(SecurityPaths.SWAGGER).permitAll();
 
                     // H2 콘솔은 설정 시에만 허용
-                    if (h2Enabled) auth.requestMatchers(H2_WHITELIST).permitAll();
+                    if (h2Enabled) auth.requestMatchers(SecurityPaths.H2).permitAll();
 
                     // 나머지 전부 인증 필요
                     auth.anyRequest().authenticated();
@@ -148,9 +149,19 @@ public class SecurityConfig {
                 UsernamePasswordAuthenticationFilter.class
         );
 
+        // 요청 수 제한은 JWT 검증/사용자 조회보다 먼저
+        http.addFilterBefore(new RateLimitFilter(rateLimitService), JwtAuthenticationFilter.class);
+
         return http.build();
     }
 
+    private static boolean isMetricsPath(String uri) {
+        for (String path : SecurityPaths.METRICS) {
+            if (path.equals(uri)) return true;
+        }
+        return false;
+    }
+
     // CORS 정책
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -0,0 +1,48 @@
+package com.ll.P_A.security;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록 (SecurityConfig permitAll 과 JWT 필터 건너뛰기 목록이 같이 사용)
+ * - 두 곳이 같은 배열을 쓰므로 목록이 서로 어긋나지 않음
+ */
+public final class SecurityPaths {
+
+    private SecurityPaths() { }
+
+    // 인증 전 호출하는 Auth API (로그인/회원가입/재발급/이메일 인증)
+    public static final String[] AUTH_PUBLIC = {
+            "/api/auth/signup",
+            "/api/auth/login",
+            "/api/auth/reissue",
+            "/api/auth/verify-email"
+    };
+
+    // Swagger 경로 화이트리스트
+    public static final String[] SWAGGER = {
+            "/swagger-ui.html", "/swagger-ui/**",
+            "/v3/api-docs", "/v3/api-docs/**", "/v3/api-docs.yaml", //yaml 경로 포함
+            "/api-docs/**",
+            "/swagger-resources", "/swagger-resources/**",
+            "/webjars/**"
+    };
+
+    // H2 콘솔 경로
+    public static final String[] H2 = {
+            "/h2-console/**"
+    };
+
+    // 정적/공용 경로
+    public static final String[] PUBLIC = {
+            "/", "/error", "/actuator/health", "/favicon.ico",
+            "/css/**", "/js/**", "/images/**"
+    };
+
+    // Prometheus 스크레이프 (분리된 관리 포트에서는 공개, 애플리케이션 포트에서는 ADMIN 만)
+    public static final String[] METRICS = {
+            "/actuator/prometheus"
+    };
+
+    // 어느 경로에 있든 JWT 검사가 필요 없는 정적 파일 확장자
+    public static final String[] STATIC_EXTENSIONS = {
+            "css", "js", "png", "jpg", "jpeg", "gif", "svg"
+    };
+}
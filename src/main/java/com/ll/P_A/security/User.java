@@ -18,6 +18,10 @@ import java.util.Base64;
 @Builder
 public class User {
 
+    // 연속 실패 허용 횟수 / 잠금 시간 (LoginAttemptStore 와 공유)
+    public static final int MAX_LOGIN_FAILURES = 5;
+    public static final long LOCK_MINUTES = 30;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -107,7 +111,7 @@ public class User {
     // 로그인 실패시 잠금처리
     public void increaseLoginFailCount() {
         this.loginFailCount++;
-        if (this.loginFailCount >= 5) {
+        if (this.loginFailCount >= MAX_LOGIN_FAILURES) {
             this.accountNonLocked = false;
             this.lockTime = LocalDateTime.now();
         }
@@ -118,7 +122,7 @@ public class User {
     }
 
     public void unlockIfTimePassed() {
-        if (this.lockTime != null && this.lockTime.plusMinutes(30).isBefore(LocalDateTime.now())) {
+        if (this.lockTime != null && this.lockTime.plusMinutes(LOCK_MINUTES).isBefore(LocalDateTime.now())) {
             this.accountNonLocked = true;
             this.loginFailCount = 0;
             this.lockTime = null;
@@ -129,9 +133,19 @@ public class User {
         return !this.accountNonLocked;
     }
 
+    // 잠금 기간이 아직 남아 있는지 (상태를 바꾸지 않고 확인)
+    public boolean isLockActive() {
+        return isCurrentlyLocked() && getLockRemainingSeconds() > 0;
+    }
+
+    // DB 에 남은 실패/잠금 흔적이 있는지 (성공 시 이 경우에만 초기화 쓰기)
+    public boolean hasLoginFailureState() {
+        return this.loginFailCount > 0 || !this.accountNonLocked || this.lockTime != null;
+    }
+
     public long getLockRemainingSeconds() {
         if (this.lockTime == null) return 0;
-        long seconds = Duration.between(LocalDateTime.now(), this.lockTime.plusMinutes(30)).getSeconds();
+        long seconds = Duration.between(LocalDateTime.now(), this.lockTime.plusMinutes(LOCK_MINUTES)).getSeconds();
         return Math.max(seconds, 0);
     }
 
@@ -3,6 +3,7 @@ package com.ll.P_A.security;
 import com.ll.P_A.security.jwt.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -48,8 +49,8 @@ public class UserController {
 
     @Operation(summary = "로그인", description = "인증 성공 시 Access/Refresh 토큰을 반환합니다.")
     @PostMapping("/login")
-    public LoginResponse login(@Valid @RequestBody LoginRequest request) {
-        return userService.login(request);
+    public LoginResponse login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        return userService.login(request, httpRequest.getRemoteAddr());
     }
 
     @Operation(summary = "로그아웃", description = "로그인 사용자의 모든 세션(Refresh)을 무효화합니다.")
@@ -1,10 +1,19 @@
 package com.ll.P_A.security;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -12,10 +21,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
 
+    // 회원가입 중복 확인 (엔티티 로딩 없이 존재 여부만)
+    boolean existsByUsername(String username);
+    boolean existsByEmail(String email);
+
+    // signup Bloom filter 웜업용 스트리밍 조회 (호출자 트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.username AS username, u.email AS email FROM User u")
+    Stream<UserIdentifiers> streamAllIdentifiers();
+
+    interface UserIdentifiers {
+        String getUsername();
+        String getEmail();
+    }
+
     // 이메일 인증 토큰은 '원문'이 아니라 '해시'로 조회
     Optional<User> findByEmailVerificationTokenHash(String tokenHash);
 
     // 관리자 전용 사용자 요약 조회
     @Query("SELECT u.id AS id, u.username AS username, u.email AS email FROM User u")
     List<UserSummary> findAllUserSummaries();
+
+    // 로그인 잠금 전환 시에만 기록 (실패 카운트 자체는 LoginAttemptStore 에서 관리)
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.accountNonLocked = false, u.lockTime = :lockTime WHERE u.id = :id")
+    int lockAccount(@Param("id") Long id, @Param("lockTime") LocalDateTime lockTime);
+
+    // 남아 있는 실패/잠금 흔적 초기화 (흔적이 있을 때만 호출)
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.accountNonLocked = true, u.loginFailCount = 0, u.lockTime = null WHERE u.id = :id")
+    int clearLoginFailures(@Param("id") Long id);
 }
\ No newline at end of file
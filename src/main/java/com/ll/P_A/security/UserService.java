@@ -1,9 +1,17 @@
 package com.ll.P_A.security;
 
 import com.ll.P_A.global.exception.AuthorizationValidator;
+import com.ll.P_A.global.exception.DomainException;
+import com.ll.P_A.global.exception.ErrorCode;
 import com.ll.P_A.security.jwt.JwtTokenProvider;
 import com.ll.P_A.security.jwt.JwtTokenProvider.RefreshPayload;
+import com.ll.P_A.security.login.LoginAttemptStore;
+import com.ll.P_A.security.login.LoginThrottledException;
+import com.ll.P_A.security.signup.TakenIdentifierFilter;
+import com.ll.P_A.security.signup.TakenIdentifierFilter.IdentifierType;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -12,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.HexFormat;
 import java.util.List;
 
@@ -25,6 +34,9 @@ public class UserService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final AuthorizationValidator authValidator;
+    private final LoginAttemptStore loginAttemptStore;
+    private final TakenIdentifierFilter takenIdentifierFilter;
+    private final MeterRegistry meterRegistry;
 
     /* ==========
        유틸: 이메일 인증 토큰 해시(SHA-256)
@@ -41,11 +53,14 @@ public class UserService {
 
     @Transactional
     public void signup(UserSignupRequest request) {
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 아이디입니다.");
+        // Bloom filter 가 "확실히 없음"이면 DB 조회 생략, "있을 수 있음"이면 existsBy 로 확인 (최종 보장은 unique 제약)
+        if (takenIdentifierFilter.mightBeTaken(IdentifierType.USERNAME, request.getUsername())
+                && userRepository.existsByUsername(request.getUsername())) {
+            throw ErrorCode.DUPLICATE_USERNAME.exception();
         }
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        if (takenIdentifierFilter.mightBeTaken(IdentifierType.EMAIL, request.getEmail())
+                && userRepository.existsByEmail(request.getEmail())) {
+            throw ErrorCode.DUPLICATE_EMAIL.exception();
         }
 
         User user = User.builder()
@@ -59,40 +74,74 @@ public class UserService {
         // 안전한 인증 토큰 생성: DB에는 해시/만료 저장, 반환값은 '원문 토큰'
         String rawToken = user.generateVerificationToken();
 
-        userRepository.save(user);
+        try {
+            // 필터가 인스턴스별이거나 동시 가입이면 existsBy 를 지나칠 수 있음 → unique 제약 위반을 중복 응답으로 변환
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOf(request, e);
+        }
+        takenIdentifierFilter.add(IdentifierType.USERNAME, user.getUsername());
+        takenIdentifierFilter.add(IdentifierType.EMAIL, user.getEmail());
         // 메일 발송은 '원문 토큰'으로 링크 구성
         mailService.sendVerificationEmail(user, rawToken);
     }
 
-    @Transactional
-    public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다."));
+    // 위반 메시지에는 충돌한 값이 들어 있음 (MySQL: Duplicate entry '...', H2/PostgreSQL 도 값 포함)
+    private static DomainException duplicateOf(UserSignupRequest request, DataIntegrityViolationException e) {
+        String detail = e.getMostSpecificCause().getMessage();
+        if (detail != null && request.getEmail() != null && detail.contains(request.getEmail())) {
+            return ErrorCode.DUPLICATE_EMAIL.exception();
+        }
+        return ErrorCode.DUPLICATE_USERNAME.exception();
+    }
+
+    /**
+     * 로그인: 실패 카운트/잠금/시도 제한은 LoginAttemptStore 에서 처리
+     * - 트랜잭션 없이 실행: 시도마다 users 행을 쓰지 않고, 잠금 전환 시에만 단건 UPDATE
+     * - 저장소 잠금이 사라져도(재시작/Redis 장애) DB 에 기록된 잠금은 유지됨
+     */
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        String username = request.getUsername();
+
+        // BCrypt 비교 전에 아이디/IP 별 시도 횟수 제한
+        long retryAfter = loginAttemptStore.acquireAttempt(username, clientIp);
+        if (retryAfter > 0) {
+            throw new LoginThrottledException(retryAfter);
+        }
 
-        // 잠금 해제 타이밍 확인
-        user.unlockIfTimePassed();
+        long storeLockSeconds = loginAttemptStore.lockRemainingSeconds(username);
+        if (storeLockSeconds > 0) {
+            throw locked(storeLockSeconds);
+        }
+
+        User user = userRepository.findByUsername(username).orElse(null);
+        if (user == null) {
+            loginAttemptStore.recordFailure(username); // 없는 아이디도 같은 방식으로 집계
+            throw ErrorCode.INVALID_CREDENTIALS.exception();
+        }
 
-        if (user.isCurrentlyLocked()) {
-            long remaining = user.getLockRemainingSeconds();
-            long minutes = remaining / 60;
-            long seconds = remaining % 60;
-            throw new LockedException(String.format("계정이 잠겨 있습니다. %d분 %d초 후 다시 시도해주세요.", minutes, seconds));
+        if (user.isLockActive()) {
+            throw locked(user.getLockRemainingSeconds());
         }
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            user.increaseLoginFailCount();
-            userRepository.save(user);
-            throw new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다.");
+            // 이번 실패로 잠금이 새로 걸린 경우에만 DB 기록
+            if (loginAttemptStore.recordFailure(username) > 0) {
+                userRepository.lockAccount(user.getId(), LocalDateTime.now());
+            }
+            throw ErrorCode.INVALID_CREDENTIALS.exception();
         }
 
         // 미인증 계정 로그인 차단(이미 구현되어 있던 정책 유지)
         if (!user.isEmailVerified()) {
-            throw new IllegalStateException("이메일 인증을 완료해주세요.");
+            throw ErrorCode.EMAIL_NOT_VERIFIED.exception();
         }
 
-        // 로그인 성공: 실패 카운트 리셋
-        user.resetLoginFailCount();
-        userRepository.save(user);
+        // 로그인 성공: 실패 카운트 리셋 (DB 는 남은 흔적이 있을 때만)
+        loginAttemptStore.reset(username);
+        if (user.hasLoginFailureState()) {
+            userRepository.clearLoginFailures(user.getId());
+        }
 
         // Access/Refresh 발급 (리프레시 회전/재사용 감지 구조)
         String accessToken = jwtTokenProvider.generateAccessToken(user.getUsername());
@@ -111,27 +160,34 @@ public class UserService {
         return new LoginResponse(accessToken, rp.token());
     }
 
+    private static LockedException locked(long remainingSeconds) {
+        return new LockedException(String.format("계정이 잠겨 있습니다. %d분 %d초 후 다시 시도해주세요.",
+                remainingSeconds / 60, remainingSeconds % 60));
+    }
+
     @Transactional
     public LoginResponse reissueToken(String refreshToken) {
         // 형식/서명 검증 + 타입 확인
         if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않는 접근 방식입니다.");
+            throw ErrorCode.INVALID_REFRESH_TOKEN.exception();
         }
         String typ = jwtTokenProvider.getTokenType(refreshToken);
         if (!"refresh".equalsIgnoreCase(typ)) {
-            throw new IllegalArgumentException("유효하지 않는 접근 방식입니다.");
+            throw ErrorCode.INVALID_REFRESH_TOKEN.exception();
         }
 
         // 사용자 로드
         String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
+                .orElseThrow(ErrorCode.MEMBER_NOT_FOUND::exception);
 
         // 재사용 감지/회전 처리
         RefreshTokenService.RefreshRecord rec = refreshTokenService.findByToken(refreshToken);
         if (rec == null || !rec.isActive()) {
+            // 회전/폐기된 토큰 재사용 = 탈취 의심, 기록 없음 = 만료/위조
+            meterRegistry.counter("app.auth.refresh.rejected", "reason", rec == null ? "unknown" : "reused").increment();
             refreshTokenService.revokeAllForUser(user.getId());
-            throw new IllegalArgumentException("세션이 만료되었거나 보안상 재로그인이 필요합니다.");
+            throw ErrorCode.REAUTHENTICATION_REQUIRED.exception();
         }
 
         // 정상 요청 → 기존 토큰 ROTATED 표시
@@ -161,7 +217,7 @@ public class UserService {
     public void logout(String username) {
         // 전달된 username의 모든 기기 세션 종료(전체 무효화)
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
+                .orElseThrow(ErrorCode.MEMBER_NOT_FOUND::exception);
         refreshTokenService.revokeAllForUser(user.getId());
     }
 
@@ -172,11 +228,11 @@ public class UserService {
 
         // 레포지토리는 '해시'로 조회하도록 변경 필요
         User user = userRepository.findByEmailVerificationTokenHash(hash)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 접근 방식입니다."));
+                .orElseThrow(ErrorCode.INVALID_VERIFICATION_TOKEN::exception);
 
         // 만료 확인 (24시간 등)
         if (user.isVerificationExpired()) {
-            throw new IllegalStateException("인증 링크가 만료되었습니다. 인증 메일을 다시 요청해 주세요.");
+            throw ErrorCode.VERIFICATION_TOKEN_EXPIRED.exception();
         }
 
         // 성공 → 1회용 소진 + 인증 완료
@@ -186,12 +242,12 @@ public class UserService {
 
     public User findById(Long id) {
         return userRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
+                .orElseThrow(ErrorCode.MEMBER_NOT_FOUND::exception);
     }
 
     public User findByUsername(String username) {
         return userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
+                .orElseThrow(ErrorCode.MEMBER_NOT_FOUND::exception);
     }
 
     public UserProfileResponse getMyProfile(Long id) {
@@ -210,7 +266,7 @@ public class UserService {
 
         if (request.getNewPassword() != null && !request.getNewPassword().isBlank()) {
             if (request.getCurrentPassword() == null || !passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
-                throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+                throw ErrorCode.PASSWORD_MISMATCH.exception();
             }
             user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
         }
@@ -218,6 +274,7 @@ public class UserService {
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
             // 이메일 변경 시: 새 토큰 생성(해시/만료 저장) + 원문 토큰으로 메일 발송
             String raw = user.changeEmail(request.getEmail());
+            takenIdentifierFilter.add(IdentifierType.EMAIL, request.getEmail());
             mailService.sendVerificationEmail(user, raw);
         }
 
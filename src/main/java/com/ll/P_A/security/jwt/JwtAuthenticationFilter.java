@@ -1,6 +1,6 @@
 package com.ll.P_A.security.jwt;
 
-import io.jsonwebtoken.ExpiredJwtException;
+import com.ll.P_A.security.SecurityPaths;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,12 +11,12 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
 
 @RequiredArgsConstructor
@@ -25,44 +25,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
 
-    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
-
-    /** JWT 검증을 건너뛸(permitAll/문서/H2/정적 리소스 등) 경로들 */
-    private static final String[] SKIP_PATHS = {
-            "/", "/error", "/favicon.ico", "/actuator/health",
-
-            // Auth 공개 엔드포인트 (로그인/회원가입/재발급 등)
-            "/api/auth/**",
-
-            // 공개 조회 API(예: 게시글 목록/상세) — 프로젝트 정책 따라 조정
-            "/api/posts/**",
-
-            // Swagger / OpenAPI
-            "/swagger-ui.html", "/swagger-ui/**",
-            "/v3/api-docs", "/v3/api-docs/**", "/api-docs/**",
-            "/swagger-resources", "/swagger-resources/**",
-            "/webjars/**",
-
-            // H2 콘솔
-            "/h2-console/**",
-
-            // 정적 리소스
-            "/css/**", "/js/**", "/images/**",
-            "**/*.css", "**/*.js", "**/*.png", "**/*.jpg", "**/*.jpeg", "**/*.gif", "**/*.svg"
-    };
+    /**
+     * JWT 검증을 건너뛸(permitAll/문서/H2/정적 리소스 등) 경로들 — SecurityConfig 와 같은 SecurityPaths 사용
+     * - /api/posts/** 등 토큰이 있으면 사용자 정보를 쓰는 공개 API 는 건너뛰지 않음 (토큰 없으면 익명 통과)
+     * - 메트릭 경로도 건너뛰지 않음 (관리 포트가 분리되지 않은 환경에서는 ADMIN 토큰으로 접근)
+     */
+    private static final SkipPathMatcher SKIP_PATHS = new SkipPathMatcher(
+            List.of(SecurityPaths.PUBLIC, SecurityPaths.AUTH_PUBLIC, SecurityPaths.SWAGGER, SecurityPaths.H2),
+            SecurityPaths.STATIC_EXTENSIONS
+    );
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         // CORS preflight(OPTIONS)은 필터 건너뜀
         if (HttpMethod.OPTIONS.matches(request.getMethod())) return true;
 
-        String path = request.getRequestURI();
-        for (String pattern : SKIP_PATHS) {
-            if (PATH_MATCHER.match(pattern, path)) {
-                return true; // 화이트리스트 경로는 JWT 검사 스킵
-            }
-        }
-        return false;
+        // 화이트리스트 경로는 JWT 검사 스킵
+        return SKIP_PATHS.matches(request.getRequestURI());
     }
 
     @Override
@@ -88,17 +67,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             // 토큰이 있으면: 유효성 검사만 하고, 유효할 때만 인증 세팅
-            if (jwtTokenProvider.validateToken(token)) {
+            // (요청 수 제한 필터가 이미 검증했으면 그 결과를 재사용 → 요청당 서명 검증 1회)
+            VerifiedJwt jwt = VerifiedJwt.resolve(request, jwtTokenProvider, token);
+            if (jwt != null) {
                 // (선택 정책) 보호 API에서는 Access Token만 허용
-                String typ = jwtTokenProvider.getTokenType(token);
-                if (!"access".equals(typ)) {
+                if (!"access".equals(jwt.type())) {
                     // 타입이 access가 아니면 인증 세팅 없이 익명으로 통과
                     filterChain.doFilter(request, response);
                     return;
                 }
 
-                String username = jwtTokenProvider.getUsernameFromToken(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = userDetailsService.loadUserByUsername(jwt.subject());
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -107,11 +86,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
-                // 유효하지 않은 토큰 — 익명으로 통과 (여기서 401/에러 X)
+                // 만료/유효하지 않은 토큰 — 익명으로 통과 (여기서 401/에러 X)
             }
-        } catch (ExpiredJwtException e) {
-            // 만료 토큰 — 익명으로 통과
-            SecurityContextHolder.clearContext();
         } catch (Exception e) {
             // 예외 발생 — 컨텍스트 비우고 익명으로 통과 (스웨거 문서 생성 방해 금지)
             SecurityContextHolder.clearContext();
@@ -3,6 +3,9 @@ package com.ll.P_A.security.jwt;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.WeakKeyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -20,6 +23,11 @@ public class JwtTokenProvider {
     private final long accessTokenValidityMs;
     private final long refreshTokenValidityMs;
 
+    // 메트릭: 서명 검증/파싱 시간, 거부 사유별 횟수
+    private final Timer parseTimer;
+    private final Counter expiredCounter;
+    private final Counter invalidCounter;
+
     // 시계 오차 허용(초): 분산 환경/컨테이너 시간 차 예방
     private static final long ALLOWED_CLOCK_SKEW_SECONDS = 30;
 
@@ -33,12 +41,26 @@ public class JwtTokenProvider {
             @Value("${jwt.previous-secret-base64:}") String prevSecretBase64,
 
             @Value("${jwt.access-token-validity-ms:900000}") long accessTtlMs,
-            @Value("${jwt.refresh-token-validity-ms:2592000000}") long refreshTtlMs
+            @Value("${jwt.refresh-token-validity-ms:2592000000}") long refreshTtlMs,
+
+            MeterRegistry meterRegistry
     ) {
         this.secretKey = buildKeyOrThrow(secretRaw, secretBase64, true);
         this.previousSecretKey = buildKeyOrNull(prevSecretRaw, prevSecretBase64);
         this.accessTokenValidityMs = accessTtlMs;
         this.refreshTokenValidityMs = refreshTtlMs;
+
+        this.parseTimer = Timer.builder("app.jwt.parse")
+                .description("JWT 서명 검증 + 클레임 파싱 시간")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("app.jwt.rejected")
+                .description("거부된 JWT 수")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+        this.invalidCounter = Counter.builder("app.jwt.rejected")
+                .description("거부된 JWT 수")
+                .tag("reason", "invalid")
+                .register(meterRegistry);
     }
 
     /* ===================== 키 빌더 ===================== */
@@ -122,8 +144,12 @@ public class JwtTokenProvider {
 
     /* ===================== 파싱/검증 ===================== */
 
-    /** 현재 키로 검증 실패 시, 이전 키가 설정돼 있으면 한 번 더 검증 시도 */
     private Claims parse(String token) {
+        return parseTimer.record(() -> parseWithKeys(token));
+    }
+
+    /** 현재 키로 검증 실패 시, 이전 키가 설정돼 있으면 한 번 더 검증 시도 */
+    private Claims parseWithKeys(String token) {
         try {
             return Jwts.parserBuilder()
                     .setSigningKey(secretKey)
@@ -176,12 +202,31 @@ public class JwtTokenProvider {
             parse(token);
             return true;
         } catch (ExpiredJwtException e) {
+            expiredCounter.increment();
             throw e; // 만료는 위로 전달
         } catch (JwtException | IllegalArgumentException e) {
+            invalidCounter.increment();
             return false; // 무효
         }
     }
 
+    /**
+     * 서명/만료를 한 번만 검증하고 필요한 클레임을 함께 반환 (만료/무효면 null, 거부 메트릭은 validateToken 과 동일)
+     * - 요청 필터에서는 VerifiedJwt.resolve 로 요청 단위 재사용
+     */
+    public VerifiedJwt verify(String token) {
+        try {
+            Claims claims = parse(token);
+            return new VerifiedJwt(token, claims.getSubject(), claims.get("typ", String.class));
+        } catch (ExpiredJwtException e) {
+            expiredCounter.increment();
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidCounter.increment();
+            return null;
+        }
+    }
+
     // Value Object
     public record RefreshPayload(String token, String jti, Date expiresAt) {}
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.ll.P_A.security.jwt;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * JWT 필터를 건너뛸 경로 판정기 (생성 시 한 번 컴파일, 요청마다 패턴 평가 없음)
+ * - "/a/b"     → 정확히 일치 (HashSet 조회 1회)
+ * - "/a/b/**"  → 접두사 일치 (경로의 '/' 위치마다 HashSet 조회: 세그먼트 수만큼)
+ * - 확장자 목록 → 마지막 세그먼트 확장자 조회 1회
+ * - 그 외 와일드카드 패턴은 PathPattern 으로 처리
+ */
+public final class SkipPathMatcher {
+
+    private final Set<String> exact = new HashSet<>();
+    private final Set<String> prefixes = new HashSet<>();
+    private final Set<String> extensions = new HashSet<>();
+    private final List<PathPattern> patterns = new ArrayList<>();
+
+    public SkipPathMatcher(List<String[]> pathGroups, String[] staticExtensions) {
+        for (String[] group : pathGroups) {
+            for (String path : group) {
+                add(path);
+            }
+        }
+        for (String ext : staticExtensions) {
+            extensions.add(ext.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private void add(String path) {
+        if (path.endsWith("/**") && path.indexOf('*') == path.length() - 2) {
+            String prefix = path.substring(0, path.length() - 3);
+            prefixes.add(prefix.isEmpty() ? "/" : prefix);
+        } else if (path.indexOf('*') < 0 && path.indexOf('{') < 0 && path.indexOf('?') < 0) {
+            exact.add(path);
+        } else {
+            patterns.add(PathPatternParser.defaultInstance.parse(path));
+        }
+    }
+
+    public boolean matches(String path) {
+        if (path == null || path.isEmpty()) return false;
+        if (exact.contains(path)) return true;
+        if (matchesPrefix(path)) return true;
+        if (matchesExtension(path)) return true;
+        if (!patterns.isEmpty()) {
+            PathContainer container = PathContainer.parsePath(path);
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(container)) return true;
+            }
+        }
+        return false;
+    }
+
+    // "/a/b/**" 는 "/a/b" 자신과 그 하위 경로 모두 일치 (AntPathMatcher 와 같은 의미)
+    private boolean matchesPrefix(String path) {
+        if (prefixes.isEmpty()) return false;
+        if (prefixes.contains("/")) return true;
+        for (int i = path.indexOf('/', 1); i > 0; i = path.indexOf('/', i + 1)) {
+            if (prefixes.contains(path.substring(0, i))) return true;
+        }
+        return prefixes.contains(path);
+    }
+
+    private boolean matchesExtension(String path) {
+        if (extensions.isEmpty()) return false;
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || dot < path.lastIndexOf('/')) return false;
+        return extensions.contains(path.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,29 @@
+package com.ll.P_A.security.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 서명/만료 검증을 통과한 토큰의 클레임
+ * - 요청 속성에 보관해 같은 요청 안의 필터들(요청 수 제한 → JWT 인증)이 토큰을 한 번만 파싱하게 함
+ * - 검증 실패도 기록해 두어 무효 토큰을 반복 검증하지 않음
+ */
+public record VerifiedJwt(String token, String subject, String type) {
+
+    private static final String ATTRIBUTE = VerifiedJwt.class.getName();
+
+    /** @return 검증된 토큰, 만료/무효면 null */
+    public static VerifiedJwt resolve(HttpServletRequest request, JwtTokenProvider provider, String token) {
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached instanceof VerifiedJwt jwt && jwt.token().equals(token)) {
+            return jwt;
+        }
+        if (cached instanceof Invalid invalid && invalid.token().equals(token)) {
+            return null;
+        }
+        VerifiedJwt verified = provider.verify(token);
+        request.setAttribute(ATTRIBUTE, verified != null ? verified : new Invalid(token));
+        return verified;
+    }
+
+    private record Invalid(String token) { }
+}
@@ -0,0 +1,27 @@
+package com.ll.P_A.security.login;
+
+/**
+ * 로그인 실패 카운트/잠금/시도 횟수 제한을 users 테이블 밖에서 관리하는 저장소
+ * - 로그인 시도마다 DB 쓰기가 일어나지 않도록 카운터는 전부 여기서 관리
+ * - DB 에는 잠금 상태가 실제로 바뀔 때만 기록 (UserService 참고)
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * 아이디/IP 별 슬라이딩 윈도우 시도 횟수 제한 (BCrypt 비교 전에 호출)
+     * @return 허용되면 0, 한도를 넘으면 다시 시도할 수 있을 때까지 남은 초 (이번 시도는 집계되지 않음)
+     */
+    long acquireAttempt(String username, String clientIp);
+
+    // 잠금이 남아 있으면 남은 초, 아니면 0
+    long lockRemainingSeconds(String username);
+
+    /**
+     * 실패 1회 기록
+     * @return 이번 실패로 잠금이 새로 걸렸으면 잠금 초, 아니면 0 (잠금 전환 시 한 번만 양수)
+     */
+    long recordFailure(String username);
+
+    // 로그인 성공: 실패 카운트 초기화
+    void reset(String username);
+}
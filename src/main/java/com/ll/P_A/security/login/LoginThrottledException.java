@@ -0,0 +1,17 @@
+package com.ll.P_A.security.login;
+
+import lombok.Getter;
+
+/**
+ * 아이디/IP 별 로그인 시도 한도 초과 (429 로 응답)
+ */
+@Getter
+public class LoginThrottledException extends IllegalStateException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
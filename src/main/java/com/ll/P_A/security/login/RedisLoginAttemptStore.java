@@ -0,0 +1,141 @@
+package com.ll.P_A.security.login;
+
+import com.ll.P_A.security.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스 공유용 Redis 저장소 (판정/갱신은 Lua 스크립트로 원자적으로 처리)
+ * - 시도 제한: ZSET 슬라이딩 윈도우 (score = 시각)
+ * - 실패 카운트: INCR + 윈도우 만료, 한도 도달 시 잠금 키 SET PX
+ * - Redis 오류 시 인스턴스 로컬 메모리 저장소로 대신 판정 → 장애 중에도 잠금 전환이 보고되어 DB 잠금이 기록됨
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.login.store", havingValue = "redis")
+public class RedisLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String ATTEMPTS_PREFIX = "login:attempts:";
+    private static final String FAILS_PREFIX = "login:fails:";
+    private static final String LOCK_PREFIX = "login:lock:";
+
+    // KEYS = [ip, user], ARGV = [now, windowMs, ipLimit, userLimit, member] → 허용 0, 거부 시 남은 ms
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            for i, key in ipairs(KEYS) do
+              redis.call('ZREMRANGEBYSCORE', key, 0, now - window)
+              if redis.call('ZCARD', key) >= tonumber(ARGV[2 + i]) then
+                local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                return math.max(1, tonumber(oldest[2]) + window - now)
+              end
+            end
+            for _, key in ipairs(KEYS) do
+              redis.call('ZADD', key, now, ARGV[5])
+              redis.call('PEXPIRE', key, window)
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS = [fails, lock], ARGV = [maxFailures, failureWindowMs, lockMs] → 새로 잠기면 lockMs, 아니면 0
+    private static final RedisScript<Long> RECORD_FAILURE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end
+            local n = redis.call('INCR', KEYS[1])
+            if n == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end
+            if n < tonumber(ARGV[1]) then return 0 end
+            redis.call('SET', KEYS[2], '1', 'PX', ARGV[3])
+            redis.call('DEL', KEYS[1])
+            return tonumber(ARGV[3])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMillis;
+    private final int maxPerIp;
+    private final int maxPerUsername;
+    private final long failureWindowMillis;
+    private final StripedLoginAttemptStore fallback;
+
+    public RedisLoginAttemptStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.login.throttle-window-seconds:60}") long windowSeconds,
+            @Value("${app.login.max-attempts-per-ip:30}") int maxPerIp,
+            @Value("${app.login.max-attempts-per-username:10}") int maxPerUsername,
+            @Value("${app.login.failure-window-minutes:30}") long failureWindowMinutes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = windowSeconds * 1000L;
+        this.maxPerIp = maxPerIp;
+        this.maxPerUsername = maxPerUsername;
+        this.failureWindowMillis = failureWindowMinutes * 60_000L;
+        this.fallback = new StripedLoginAttemptStore(windowSeconds, maxPerIp, maxPerUsername, failureWindowMinutes);
+    }
+
+    @Override
+    public long acquireAttempt(String username, String clientIp) {
+        try {
+            // IP 를 모르면 한도를 아이디와 같게 두어 아이디 키만 실질적으로 판정
+            String ipKey = ATTEMPTS_PREFIX + "ip:" + (clientIp != null ? clientIp : "unknown");
+            int ipLimit = clientIp != null ? maxPerIp : Integer.MAX_VALUE;
+            Long waitMillis = redisTemplate.execute(ACQUIRE,
+                    List.of(ipKey, ATTEMPTS_PREFIX + "user:" + username),
+                    Long.toString(System.currentTimeMillis()),
+                    Long.toString(windowMillis),
+                    Integer.toString(ipLimit),
+                    Integer.toString(maxPerUsername),
+                    UUID.randomUUID().toString());
+            return waitMillis == null ? 0 : toSeconds(waitMillis);
+        } catch (RuntimeException e) {
+            log.warn("로그인 시도 제한 확인 실패 → 로컬 판정: username={}, {}", username, e.toString());
+            return fallback.acquireAttempt(username, clientIp);
+        }
+    }
+
+    @Override
+    public long lockRemainingSeconds(String username) {
+        try {
+            Long ttlMillis = redisTemplate.getExpire(LOCK_PREFIX + username, TimeUnit.MILLISECONDS);
+            return ttlMillis == null ? 0 : toSeconds(ttlMillis);
+        } catch (RuntimeException e) {
+            log.warn("로그인 잠금 조회 실패 → 로컬 판정: username={}, {}", username, e.toString());
+            return fallback.lockRemainingSeconds(username);
+        }
+    }
+
+    @Override
+    public long recordFailure(String username) {
+        try {
+            Long lockMillis = redisTemplate.execute(RECORD_FAILURE,
+                    List.of(FAILS_PREFIX + username, LOCK_PREFIX + username),
+                    Integer.toString(User.MAX_LOGIN_FAILURES),
+                    Long.toString(failureWindowMillis),
+                    Long.toString(User.LOCK_MINUTES * 60_000L));
+            return lockMillis == null ? 0 : lockMillis / 1000;
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록 실패 → 로컬 집계: username={}, {}", username, e.toString());
+            return fallback.recordFailure(username);
+        }
+    }
+
+    @Override
+    public void reset(String username) {
+        try {
+            redisTemplate.delete(FAILS_PREFIX + username);
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 카운트 초기화 실패: username={}, {}", username, e.toString());
+        }
+        fallback.reset(username); // 장애 중 쌓인 로컬 카운트도 함께 정리
+    }
+
+    private static long toSeconds(long millis) {
+        return millis > 0 ? (millis + 999) / 1000 : 0;
+    }
+}
@@ -0,0 +1,181 @@
+package com.ll.P_A.security.login;
+
+import com.ll.P_A.security.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 인스턴스용 메모리 저장소 (키 해시로 나눈 스트라이프마다 락 하나)
+ * - 서로 다른 아이디/IP 는 대부분 다른 스트라이프라 경합하지 않음
+ * - synchronized 대신 ReentrantLock: 가상 스레드 고정(pinning) 방지
+ * - 재시작하면 카운터는 사라지지만 DB 에 기록된 잠금은 유지됨
+ */
+@Component
+@ConditionalOnProperty(name = "app.login.store", havingValue = "memory", matchIfMissing = true)
+public class StripedLoginAttemptStore implements LoginAttemptStore {
+
+    private static final int STRIPES = 64;
+
+    private static final class Failures {
+        int count;
+        long windowStartMillis;
+        long lockedUntilMillis;
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<String, Failures> failures = new HashMap<>();
+        final Map<String, ArrayDeque<Long>> attempts = new HashMap<>();
+    }
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final long windowMillis;
+    private final int maxPerIp;
+    private final int maxPerUsername;
+    private final long failureWindowMillis;
+
+    public StripedLoginAttemptStore(
+            @Value("${app.login.throttle-window-seconds:60}") long windowSeconds,
+            @Value("${app.login.max-attempts-per-ip:30}") int maxPerIp,
+            @Value("${app.login.max-attempts-per-username:10}") int maxPerUsername,
+            @Value("${app.login.failure-window-minutes:30}") long failureWindowMinutes
+    ) {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.windowMillis = windowSeconds * 1000L;
+        this.maxPerIp = maxPerIp;
+        this.maxPerUsername = maxPerUsername;
+        this.failureWindowMillis = failureWindowMinutes * 60_000L;
+    }
+
+    @Override
+    public long acquireAttempt(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        // IP 한도를 먼저 확인: 한 IP 의 대량 시도가 다른 사용자의 아이디 한도를 소모하지 않게
+        if (clientIp != null) {
+            long waitMillis = acquire("ip:" + clientIp, maxPerIp, now);
+            if (waitMillis > 0) return toSeconds(waitMillis);
+        }
+        return toSeconds(acquire("user:" + username, maxPerUsername, now));
+    }
+
+    @Override
+    public long lockRemainingSeconds(String username) {
+        Stripe stripe = stripeOf(username);
+        stripe.lock.lock();
+        try {
+            Failures f = stripe.failures.get(username);
+            if (f == null) return 0;
+            return toSeconds(f.lockedUntilMillis - System.currentTimeMillis());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public long recordFailure(String username) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeOf(username);
+        stripe.lock.lock();
+        try {
+            Failures f = stripe.failures.computeIfAbsent(username, k -> new Failures());
+            if (f.lockedUntilMillis > now) return 0; // 이미 잠김
+            if (now - f.windowStartMillis > failureWindowMillis) {
+                f.count = 0;
+                f.windowStartMillis = now;
+            }
+            if (++f.count < User.MAX_LOGIN_FAILURES) return 0;
+
+            long lockMillis = User.LOCK_MINUTES * 60_000L;
+            f.count = 0;
+            f.lockedUntilMillis = now + lockMillis;
+            return lockMillis / 1000;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void reset(String username) {
+        Stripe stripe = stripeOf(username);
+        stripe.lock.lock();
+        try {
+            stripe.failures.remove(username);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 만료된 카운터/윈도우 정리 (메모리 상한 유지)
+    @Scheduled(fixedDelayString = "${app.login.sweep-delay-ms:60000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.failures.values().removeIf(f ->
+                        f.lockedUntilMillis <= now && now - f.windowStartMillis > failureWindowMillis);
+                stripe.attempts.values().removeIf(q -> {
+                    evictOlderThan(q, now - windowMillis);
+                    return q.isEmpty();
+                });
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    // 추적 중인 키 수 (실패 카운터 + 시도 윈도우)
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.failures.size() + stripe.attempts.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    /* ===================== 내부 ===================== */
+
+    // 허용되면 0, 아니면 가장 오래된 시도가 윈도우를 벗어날 때까지 남은 ms
+    private long acquire(String key, int limit, long now) {
+        Stripe stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            ArrayDeque<Long> q = stripe.attempts.computeIfAbsent(key, k -> new ArrayDeque<>());
+            evictOlderThan(q, now - windowMillis);
+            if (q.size() >= limit) return q.peekFirst() + windowMillis - now;
+            q.addLast(now);
+            return 0;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static long toSeconds(long millis) {
+        return millis > 0 ? (millis + 999) / 1000 : 0;
+    }
+
+    private static void evictOlderThan(ArrayDeque<Long> q, long threshold) {
+        while (!q.isEmpty() && q.peekFirst() <= threshold) {
+            q.pollFirst();
+        }
+    }
+
+    private Stripe stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+}
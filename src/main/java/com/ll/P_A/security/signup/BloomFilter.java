@@ -0,0 +1,92 @@
+package com.ll.P_A.security.signup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (false negative 없음, false positive 비율 ≈ fpp)
+ * - 비트 배열은 AtomicLongArray: 여러 스레드가 동시에 추가/조회해도 락 없음
+ * - 해시는 64비트 FNV-1a + fmix64 두 값을 이용한 double hashing (g_i = h1 + i*h2)
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        this(optimalBits(expectedInsertions, fpp), optimalHashes(expectedInsertions, optimalBits(expectedInsertions, fpp)));
+    }
+
+    BloomFilter(long bitCount, int hashCount) {
+        long words = (bitCount + 63) / 64;
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter 크기가 너무 큽니다: bits=" + bitCount);
+        }
+        this.words = new AtomicLongArray((int) words);
+        this.bitCount = words * 64;
+        this.hashCount = hashCount;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public void put(String value) {
+        for (long index : bitIndexes(value, bitCount, hashCount)) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) break;
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        for (long index : bitIndexes(value, bitCount, hashCount)) {
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * value 가 차지하는 비트 위치 (Redis 비트맵 구현도 같은 계산 사용)
+     */
+    public static long[] bitIndexes(String value, long bitCount, int hashCount) {
+        long h1 = fmix64(fnv1a64(value));
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L; // 홀수로 두어 같은 위치 반복 방지
+        long[] indexes = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            indexes[i] = Math.floorMod(h1 + i * h2, bitCount);
+        }
+        return indexes;
+    }
+
+    public static long optimalBits(long n, double fpp) {
+        return (long) Math.ceil(-Math.max(n, 1) * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    }
+
+    public static int optimalHashes(long n, long bits) {
+        return Math.max(1, (int) Math.round((double) bits / Math.max(n, 1) * Math.log(2)));
+    }
+
+    private static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb93fe53e87c3L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ll.P_A.security.signup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인스턴스별 메모리 Bloom filter (아이디/이메일 각각)
+ * - 다른 인스턴스에서 가입한 값은 모름 → 확인 없이 통과해도 unique 제약에서 걸림
+ */
+@Component
+@ConditionalOnProperty(name = "app.signup-filter.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTakenIdentifierFilter implements TakenIdentifierFilter {
+
+    private final BloomFilter usernames;
+    private final BloomFilter emails;
+    private volatile boolean ready;
+
+    public InMemoryTakenIdentifierFilter(
+            @Value("${app.signup-filter.expected-users:1000000}") long expectedUsers,
+            @Value("${app.signup-filter.fpp:0.01}") double fpp
+    ) {
+        this.usernames = new BloomFilter(expectedUsers, fpp);
+        this.emails = new BloomFilter(expectedUsers, fpp);
+    }
+
+    @Override
+    public boolean mightBeTaken(IdentifierType type, String value) {
+        if (!ready || value == null) return true;
+        return filterOf(type).mightContain(TakenIdentifierFilter.normalize(value));
+    }
+
+    @Override
+    public void add(IdentifierType type, String value) {
+        if (value == null) return;
+        filterOf(type).put(TakenIdentifierFilter.normalize(value));
+    }
+
+    @Override
+    public void markReady() {
+        this.ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    private BloomFilter filterOf(IdentifierType type) {
+        return type == IdentifierType.USERNAME ? usernames : emails;
+    }
+}
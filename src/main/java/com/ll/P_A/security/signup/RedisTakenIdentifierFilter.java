@@ -0,0 +1,141 @@
+package com.ll.P_A.security.signup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 인스턴스 공유용 Bloom filter (Redis 비트맵, 비트 위치는 BloomFilter.bitIndexes 와 같은 계산)
+ * - 다른 인스턴스의 가입도 바로 반영됨
+ * - Redis 오류 시 "있을 수 있음"으로 취급 → DB 확인
+ * - 추가 실패한 값은 보관했다가 주기적으로 다시 넣고, 모두 들어가면 필터 판정 재개
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.signup-filter.store", havingValue = "redis")
+public class RedisTakenIdentifierFilter implements TakenIdentifierFilter {
+
+    private static final String KEY_PREFIX = "signup:bloom:";
+    private static final int MAX_PENDING = 10_000;
+
+    private record PendingAdd(IdentifierType type, String value) {
+    }
+
+    // KEYS = [bitmap], ARGV = 비트 위치들 → 모두 1 이면 1
+    private static final RedisScript<Long> CHECK = new DefaultRedisScript<>("""
+            for _, offset in ipairs(ARGV) do
+              if redis.call('GETBIT', KEYS[1], offset) == 0 then return 0 end
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> ADD = new DefaultRedisScript<>("""
+            for _, offset in ipairs(ARGV) do
+              redis.call('SETBIT', KEYS[1], offset, 1)
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long bitCount;
+    private final int hashCount;
+    private final Queue<PendingAdd> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private volatile boolean warmedUp;
+    private volatile boolean ready;
+
+    public RedisTakenIdentifierFilter(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.signup-filter.expected-users:1000000}") long expectedUsers,
+            @Value("${app.signup-filter.fpp:0.01}") double fpp
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.bitCount = BloomFilter.optimalBits(expectedUsers, fpp);
+        this.hashCount = BloomFilter.optimalHashes(expectedUsers, bitCount);
+    }
+
+    @Override
+    public boolean mightBeTaken(IdentifierType type, String value) {
+        if (!ready || value == null) return true;
+        try {
+            Long hit = redisTemplate.execute(CHECK, List.of(keyOf(type)), offsets(type, value));
+            return hit == null || hit == 1L;
+        } catch (RuntimeException e) {
+            log.warn("signup Bloom filter 조회 실패: {}", e.toString());
+            return true;
+        }
+    }
+
+    @Override
+    public void add(IdentifierType type, String value) {
+        if (value == null) return;
+        try {
+            redisTemplate.execute(ADD, List.of(keyOf(type)), offsets(type, value));
+        } catch (RuntimeException e) {
+            // 추가 실패 시 이후 조회가 false negative 가 될 수 있음 → 다시 넣을 때까지 이 인스턴스는 DB 확인으로 전환
+            log.warn("signup Bloom filter 추가 실패, DB 확인으로 전환: {}", e.toString());
+            ready = false;
+            if (pendingCount.incrementAndGet() <= MAX_PENDING) {
+                pendingAdds.add(new PendingAdd(type, value));
+            } else {
+                // 보관 한도 초과분은 버림 → 남는 false negative 는 가입 시 unique 제약 위반으로 걸러짐 (UserService)
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void markReady() {
+        this.warmedUp = true;
+        this.ready = pendingAdds.isEmpty();
+    }
+
+    // 추가 실패분 재시도: 전부 들어가면 판정 재개, 하나라도 실패하면 다음 주기에 이어서
+    @Scheduled(fixedDelayString = "${app.signup-filter.retry-delay-ms:30000}")
+    public void retryPendingAdds() {
+        PendingAdd pending;
+        while ((pending = pendingAdds.peek()) != null) {
+            try {
+                redisTemplate.execute(ADD, List.of(keyOf(pending.type())), offsets(pending.type(), pending.value()));
+            } catch (RuntimeException e) {
+                log.warn("signup Bloom filter 재추가 실패 ({}건 대기): {}", pendingCount.get(), e.toString());
+                return;
+            }
+            pendingAdds.poll();
+            pendingCount.decrementAndGet();
+        }
+        if (warmedUp && !ready) {
+            ready = true;
+            log.info("signup Bloom filter 재추가 완료, 필터 판정 재개");
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    private Object[] offsets(IdentifierType type, String value) {
+        long[] indexes = BloomFilter.bitIndexes(TakenIdentifierFilter.normalize(value), bitCount, hashCount);
+        Object[] args = new Object[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            args[i] = Long.toString(indexes[i]);
+        }
+        return args;
+    }
+
+    private static String keyOf(IdentifierType type) {
+        return KEY_PREFIX + type.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ll.P_A.security.signup;
+
+import java.util.Locale;
+
+/**
+ * 가입된 아이디/이메일 Bloom filter (회원가입 중복 확인 전 DB 조회 생략용)
+ * - mightBeTaken=false 는 "확실히 없음" → DB 조회 생략
+ * - true 는 "있을 수 있음" → existsBy 쿼리로 확인
+ * - 웜업 전(ready=false)에는 항상 true 를 반환해 DB 로 확인하게 함
+ * - 최종 중복 방지는 users 테이블 unique 제약
+ */
+public interface TakenIdentifierFilter {
+
+    boolean mightBeTaken(IdentifierType type, String value);
+
+    void add(IdentifierType type, String value);
+
+    // 웜업 완료 표시 (이후부터 "확실히 없음" 판정 사용)
+    void markReady();
+
+    boolean isReady();
+
+    // MySQL 기본 collation 은 대소문자 구분 없음 → 소문자로 맞춰 false negative 방지
+    static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    enum IdentifierType {
+        USERNAME, EMAIL
+    }
+}
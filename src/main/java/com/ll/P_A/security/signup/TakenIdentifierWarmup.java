@@ -0,0 +1,42 @@
+package com.ll.P_A.security.signup;
+
+import com.ll.P_A.security.UserRepository;
+import com.ll.P_A.security.signup.TakenIdentifierFilter.IdentifierType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 기동 시 users 테이블을 스트리밍으로 읽어 Bloom filter 채우기 (엔티티 로딩 없이 아이디/이메일만)
+ * - 완료 전까지 필터는 항상 "있을 수 있음" → 회원가입은 DB 확인으로 계속 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TakenIdentifierWarmup {
+
+    private final UserRepository userRepository;
+    private final TakenIdentifierFilter filter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        AtomicLong count = new AtomicLong();
+        try (Stream<UserRepository.UserIdentifiers> rows = userRepository.streamAllIdentifiers()) {
+            rows.forEach(row -> {
+                filter.add(IdentifierType.USERNAME, row.getUsername());
+                filter.add(IdentifierType.EMAIL, row.getEmail());
+                count.incrementAndGet();
+            });
+        }
+        filter.markReady();
+        log.info("signup Bloom filter 웜업 완료: users={}, {}ms", count.get(), System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ll.P_A;
+
+import com.ll.P_A.security.signup.BloomFilter;
+import com.ll.P_A.security.signup.InMemoryTakenIdentifierFilter;
+import com.ll.P_A.security.signup.RedisTakenIdentifierFilter;
+import com.ll.P_A.security.signup.TakenIdentifierFilter.IdentifierType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BloomFilterTest {
+
+    @Test
+    void noFalseNegatives_andFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other" + i)) falsePositives++;
+        }
+        assertThat(falsePositives).isLessThan(300); // 목표 1% (여유 3%)
+    }
+
+    @Test
+    void takenFilter_reportsMaybeTakenUntilWarmedUp_andIgnoresCase() {
+        InMemoryTakenIdentifierFilter filter = new InMemoryTakenIdentifierFilter(1000, 0.01);
+        assertThat(filter.mightBeTaken(IdentifierType.USERNAME, "anyone")).isTrue(); // 웜업 전
+
+        filter.add(IdentifierType.EMAIL, "June@Example.com");
+        filter.markReady();
+
+        assertThat(filter.mightBeTaken(IdentifierType.EMAIL, "june@example.com")).isTrue();
+        assertThat(filter.mightBeTaken(IdentifierType.USERNAME, "june@example.com")).isFalse(); // 종류별 분리
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisFilter_recoversAfterFailedAddIsReapplied() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        RedisTakenIdentifierFilter filter = new RedisTakenIdentifierFilter(redis, 1000, 0.01);
+        filter.markReady();
+
+        when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        filter.add(IdentifierType.USERNAME, "june");
+        assertThat(filter.isReady()).isFalse();
+
+        filter.retryPendingAdds(); // 아직 장애 중 → 계속 DB 확인
+        assertThat(filter.isReady()).isFalse();
+
+        reset(redis);
+        when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+        filter.retryPendingAdds();
+
+        assertThat(filter.isReady()).isTrue();
+    }
+}
@@ -8,6 +8,7 @@ import com.ll.P_A.security.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -114,4 +115,24 @@ class CommentServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("작성자만 삭제할 수 있습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void eTag_aggregateVersionMatchesServedList() {
+        // given
+        User author = User.builder().id(1L).username("user").build();
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime edited = created.plusMinutes(5);
+        List<CommentResponseDto> served = List.of(
+                new CommentResponseDto(CommentEntity.builder().id(1L).content("a").author(author)
+                        .createdAt(created).updatedAt(edited).build()),
+                new CommentResponseDto(CommentEntity.builder().id(2L).content("b").author(author)
+                        .createdAt(created.plusMinutes(1)).build()));
+
+        when(commentRepository.findVersionByPostId(10L)).thenReturn(new CommentVersion(2L, 2L, edited));
+        when(commentRepository.findVersionByPostId(11L)).thenReturn(new CommentVersion(1L, 2L, edited));
+
+        // then: 집계 버전과 응답 목록의 ETag 가 같고, 개수가 바뀌면 달라짐
+        assertThat(commentService.currentETag(10L)).isEqualTo(CommentService.eTagOf(served));
+        assertThat(commentService.currentETag(11L)).isNotEqualTo(CommentService.eTagOf(served));
+    }
+}
@@ -0,0 +1,51 @@
+package com.ll.P_A;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.P_A.global.exception.DomainException;
+import com.ll.P_A.global.exception.ErrorCode;
+import com.ll.P_A.global.exception.GlobalExceptionHandler;
+import com.ll.P_A.global.exception.InvalidStateException;
+import com.ll.P_A.global.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainExceptionTest {
+
+    @Test
+    void fixedCode_reusesStacklessInstance() {
+        DomainException ex = ErrorCode.POST_NOT_FOUND.exception();
+
+        assertThat(ex).isSameAs(ErrorCode.POST_NOT_FOUND.exception()).isInstanceOf(NotFoundException.class);
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getMessage()).isEqualTo("존재하지 않는 게시글입니다.");
+    }
+
+    @Test
+    void detailedCode_formatsMessageOnDemand() {
+        DomainException ex = ErrorCode.REFUND_EXCEEDS_BALANCE.exception(20_000L, 5_000L);
+
+        assertThat(ex).isInstanceOf(InvalidStateException.class);
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getMessage()).isEqualTo("환불 가능 금액 초과: 요청=20000, 가능=5000");
+    }
+
+    @Test
+    void handler_returnsPrecomputedBodyPerCode() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(new ObjectMapper());
+
+        ResponseEntity<byte[]> first = handler.handleDomain(ErrorCode.ORDER_NOT_FOUND.exception(1L));
+        ResponseEntity<byte[]> second = handler.handleDomain(ErrorCode.ORDER_NOT_FOUND.exception(2L));
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(first.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"status\":404,\"code\":\"ORDER_NOT_FOUND\",\"message\":\"주문을 찾을 수 없습니다.\"}");
+    }
+}
@@ -0,0 +1,125 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.toss.HttpTossClient;
+import com.ll.P_A.payment.toss.TossApiException;
+import com.ll.P_A.payment.toss.TossPaymentResponse;
+import com.ll.P_A.payment.toss.TossUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpTossClientTest {
+
+    private HttpServer stub;
+    private HttpTossClient client;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<String> idempotencyHeader = new AtomicReference<>();
+
+    // 스텁 응답 (status, body)
+    private volatile int stubStatus = 200;
+    private volatile String stubBody = "{}";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/v1/payments", this::handle);
+        stub.start();
+
+        String baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        client = new HttpTossClient(baseUrl, "test_sk", 1000, 1000, 500, 4, 30, 2, 1, 3, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        stub.stop(0);
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        calls.incrementAndGet();
+        idempotencyHeader.set(ex.getRequestHeaders().getFirst("Idempotency-Key"));
+        ex.getRequestBody().readAllBytes();
+        byte[] bytes = stubBody.getBytes(StandardCharsets.UTF_8);
+        ex.sendResponseHeaders(stubStatus, bytes.length);
+        ex.getResponseBody().write(bytes);
+        ex.close();
+    }
+
+    @Test
+    void confirm_returnsParsedPayment_andSendsIdempotencyKey() {
+        stubBody = "{\"paymentKey\":\"pk_1\",\"orderId\":\"10\",\"status\":\"DONE\",\"totalAmount\":5000,\"balanceAmount\":5000,\"method\":\"카드\"}";
+
+        TossPaymentResponse res = client.confirm("pk_1", "10", 5000, "confirm-pk_1");
+
+        assertThat(res.isDone()).isTrue();
+        assertThat(res.totalAmount()).isEqualTo(5000);
+        assertThat(idempotencyHeader.get()).isEqualTo("confirm-pk_1");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void confirm_4xx_throwsApiException_withoutRetry() {
+        stubStatus = 400;
+        stubBody = "{\"code\":\"INVALID_REQUEST\",\"message\":\"잘못된 요청\"}";
+
+        assertThatThrownBy(() -> client.confirm("pk_1", "10", 5000, "confirm-pk_1"))
+                .isInstanceOf(TossApiException.class)
+                .hasMessageContaining("INVALID_REQUEST");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void confirm_5xx_retriesThenOpensCircuit() {
+        stubStatus = 500;
+        stubBody = "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}";
+
+        // 1차 호출: 최초 + 재시도 2회 = 3회 실패 → 임계치(3) 도달로 서킷 오픈
+        assertThatThrownBy(() -> client.confirm("pk_1", "10", 5000, "confirm-pk_1"))
+                .isInstanceOf(TossUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(3);
+
+        // 2차 호출: 서킷 오픈 상태라 스텁까지 가지 않음
+        assertThatThrownBy(() -> client.getPayment("pk_1"))
+                .isInstanceOf(TossUnavailableException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void halfOpenTrial_answered429_reopensCircuit_insteadOfStickingOpen() throws Exception {
+        HttpTossClient shortOpen = new HttpTossClient(
+                "http://127.0.0.1:" + stub.getAddress().getPort(), "test_sk", 1000, 1000, 500, 4, 30, 0, 1, 1, 50);
+        try {
+            stubStatus = 500;
+            assertThatThrownBy(() -> shortOpen.getPayment("pk_1")).isInstanceOf(TossUnavailableException.class);
+
+            // HALF_OPEN 시험 요청이 429 → 다시 OPEN (시험 요청 해제)
+            Thread.sleep(80);
+            stubStatus = 429;
+            assertThatThrownBy(() -> shortOpen.getPayment("pk_1"))
+                    .isInstanceOf(TossUnavailableException.class)
+                    .hasMessageContaining("HTTP 429");
+
+            // 다음 시험 요청은 통과해 서킷이 닫힘
+            Thread.sleep(80);
+            stubStatus = 200;
+            stubBody = "{\"paymentKey\":\"pk_1\",\"orderId\":\"10\",\"status\":\"DONE\",\"totalAmount\":5000,\"balanceAmount\":5000}";
+            assertThat(shortOpen.getPayment("pk_1").isDone()).isTrue();
+            assertThat(calls.get()).isEqualTo(3);
+        } finally {
+            shortOpen.close();
+        }
+    }
+}
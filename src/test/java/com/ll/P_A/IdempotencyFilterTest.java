@@ -0,0 +1,153 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.idempotency.IdempotencyFilter;
+import com.ll.P_A.payment.idempotency.IdempotencyRecord;
+import com.ll.P_A.payment.idempotency.IdempotencyRecordRepository;
+import com.ll.P_A.payment.idempotency.IdempotencyService;
+import com.ll.P_A.payment.idempotency.IdempotencyStatus;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"orderId\":1,\"amount\":5000}";
+
+    private IdempotencyService idempotencyService;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = mock(IdempotencyService.class);
+        filter = new IdempotencyFilter(idempotencyService, 1024);
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/pay/toss/confirm");
+        request.addHeader(IdempotencyFilter.HEADER, "key-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String sha256(String body) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static IdempotencyRecord completed(String requestHash, String responseBody) {
+        return IdempotencyRecord.builder()
+                .keyHash("k").requestHash(requestHash).status(IdempotencyStatus.COMPLETED)
+                .responseStatus(200).responseContentType("application/json")
+                .responseBody(responseBody.getBytes(StandardCharsets.UTF_8))
+                .createdAt(Instant.now()).expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+
+    @Test
+    void firstRequest_runsHandlerAndStoresResponse() throws Exception {
+        when(idempotencyService.reserve(anyString(), anyString()))
+                .thenReturn(new IdempotencyService.Reservation(true, null));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res)
+                    throws IOException {
+                assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+                res.setStatus(200);
+                res.getWriter().write("{\"paid\":true}");
+            }
+        });
+
+        filter.doFilter(request(BODY), response, chain);
+
+        verify(idempotencyService).complete(anyString(), eq(200), any(), eq("{\"paid\":true}".getBytes(StandardCharsets.UTF_8)));
+        verify(idempotencyService, never()).release(anyString());
+        assertThat(response.getContentAsString()).isEqualTo("{\"paid\":true}");
+    }
+
+    @Test
+    void retry_replaysStoredResponseWithoutCallingHandler() throws Exception {
+        when(idempotencyService.reserve(anyString(), anyString()))
+                .thenReturn(new IdempotencyService.Reservation(false, completed(sha256(BODY), "{\"paid\":true}")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(BODY), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"paid\":true}");
+    }
+
+    @Test
+    void concurrentRequestWithSameKey_isRejectedWhileInProgress() throws Exception {
+        IdempotencyRecord inProgress = IdempotencyRecord.inProgress("k", sha256(BODY), Instant.now().plusSeconds(60));
+        when(idempotencyService.reserve(anyString(), anyString()))
+                .thenReturn(new IdempotencyService.Reservation(false, inProgress));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(BODY), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_IN_PROGRESS");
+    }
+
+    @Test
+    void sameKeyWithDifferentBody_isRejected() throws Exception {
+        when(idempotencyService.reserve(anyString(), anyString()))
+                .thenReturn(new IdempotencyService.Reservation(false, completed(sha256(BODY), "{}")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("{\"orderId\":1,\"amount\":1}"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    void oversizedBody_isRejectedBeforeBufferingOrReserving() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("x".repeat(2048)), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    void expiredRecord_isPurgedAndKeyReservedAgain() {
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        IdempotencyService service = new IdempotencyService(repository, 86400, 120);
+        IdempotencyRecord expired = IdempotencyRecord.inProgress("k", "h", Instant.now().minusSeconds(1));
+        when(repository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenAnswer(inv -> inv.getArgument(0));
+        when(repository.findByKeyHash("k")).thenReturn(Optional.of(expired));
+
+        IdempotencyService.Reservation reservation = service.reserve("k", "h");
+
+        assertThat(reservation.acquired()).isTrue();
+        verify(repository).deleteExpiredByKeyHash(eq("k"), any());
+    }
+}
@@ -0,0 +1,68 @@
+package com.ll.P_A;
+
+import com.ll.P_A.security.User;
+import com.ll.P_A.security.login.RedisLoginAttemptStore;
+import com.ll.P_A.security.login.StripedLoginAttemptStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LoginAttemptStoreTest {
+
+    private final StripedLoginAttemptStore store = new StripedLoginAttemptStore(60, 3, 2, 30);
+
+    @Test
+    void recordFailure_reportsLockOnlyOnTransition() {
+        for (int i = 1; i < User.MAX_LOGIN_FAILURES; i++) {
+            assertThat(store.recordFailure("tester")).isZero();
+        }
+        assertThat(store.recordFailure("tester")).isEqualTo(User.LOCK_MINUTES * 60);
+        assertThat(store.lockRemainingSeconds("tester")).isPositive();
+
+        // 잠긴 동안의 추가 실패는 다시 잠금 전환으로 보고되지 않음 (DB 쓰기 없음)
+        assertThat(store.recordFailure("tester")).isZero();
+    }
+
+    @Test
+    void reset_clearsFailureCount() {
+        for (int i = 1; i < User.MAX_LOGIN_FAILURES; i++) {
+            store.recordFailure("tester");
+        }
+        store.reset("tester");
+
+        assertThat(store.recordFailure("tester")).isZero();
+        assertThat(store.lockRemainingSeconds("tester")).isZero();
+    }
+
+    @Test
+    void acquireAttempt_limitsPerUsernameAndPerIp() {
+        assertThat(store.acquireAttempt("a", "10.0.0.1")).isZero();
+        assertThat(store.acquireAttempt("a", "10.0.0.1")).isZero();
+        assertThat(store.acquireAttempt("a", "10.0.0.2")).isPositive(); // 아이디 한도(2)
+
+        assertThat(store.acquireAttempt("b", "10.0.0.1")).isZero();
+        assertThat(store.acquireAttempt("c", "10.0.0.1")).isPositive(); // IP 한도(3)
+        assertThat(store.acquireAttempt("c", "10.0.0.3")).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisDown_fallsBackToLocalCountSoLockIsStillReported() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(redis.getExpire(anyString(), any())).thenThrow(new RedisConnectionFailureException("down"));
+        RedisLoginAttemptStore redisStore = new RedisLoginAttemptStore(redis, 60, 3, 2, 30);
+
+        for (int i = 1; i < User.MAX_LOGIN_FAILURES; i++) {
+            assertThat(redisStore.recordFailure("tester")).isZero();
+        }
+        assertThat(redisStore.recordFailure("tester")).isEqualTo(User.LOCK_MINUTES * 60);
+        assertThat(redisStore.lockRemainingSeconds("tester")).isPositive();
+    }
+}
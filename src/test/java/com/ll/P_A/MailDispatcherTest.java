@@ -0,0 +1,116 @@
+package com.ll.P_A;
+
+import com.ll.P_A.mail.MailBatchResult;
+import com.ll.P_A.mail.MailDispatchService;
+import com.ll.P_A.mail.MailDispatcher;
+import com.ll.P_A.mail.MailTransport;
+import com.ll.P_A.mail.OutboundMail;
+import com.ll.P_A.mail.OutboundMailStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class MailDispatcherTest {
+
+    /** 메모리 SMTP 대역: 연결(sendBatch 호출)별 수신 메일 기록, 지정 도메인은 일시 장애 */
+    static class InMemorySmtp implements MailTransport {
+        final List<List<String>> connections = Collections.synchronizedList(new ArrayList<>());
+        final Set<String> unavailableDomains;
+
+        InMemorySmtp(Set<String> unavailableDomains) {
+            this.unavailableDomains = unavailableDomains;
+        }
+
+        @Override
+        public Map<Long, Exception> sendBatch(List<OutboundMail> mails) {
+            connections.add(mails.stream().map(OutboundMail::getRecipient).toList());
+            Map<Long, Exception> failures = new HashMap<>();
+            for (OutboundMail mail : mails) {
+                if (unavailableDomains.contains(mail.getDomain())) {
+                    failures.put(mail.getId(), new IllegalStateException("421 try again later"));
+                }
+            }
+            return failures;
+        }
+    }
+
+    private MailDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) dispatcher.shutdown();
+    }
+
+    private static OutboundMail mail(long id, String recipient) {
+        return OutboundMail.builder().id(id).recipient(recipient)
+                .domain(recipient.substring(recipient.indexOf('@') + 1))
+                .subject("s").body("b").status(OutboundMailStatus.PENDING)
+                .nextAttemptAt(Instant.now()).createdAt(Instant.now()).build();
+    }
+
+    private MailBatchResult dispatch(List<OutboundMail> claimed, InMemorySmtp smtp, int perConnection, int perDomainPerMinute) {
+        MailDispatchService dispatchService = mock(MailDispatchService.class);
+        when(dispatchService.claim(anyInt())).thenReturn(claimed);
+        dispatcher = new MailDispatcher(dispatchService, smtp, new SimpleMeterRegistry(),
+                2, 100, perConnection, 1, perDomainPerMinute, 7);
+
+        dispatcher.dispatchOnce();
+
+        ArgumentCaptor<MailBatchResult> captor = ArgumentCaptor.forClass(MailBatchResult.class);
+        verify(dispatchService).record(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void groupsByDomain_andReusesOneConnectionPerChunk() {
+        InMemorySmtp smtp = new InMemorySmtp(Set.of());
+        List<OutboundMail> claimed = List.of(
+                mail(1, "a@gmail.com"), mail(2, "b@naver.com"), mail(3, "c@gmail.com"),
+                mail(4, "d@gmail.com"), mail(5, "e@naver.com"));
+
+        MailBatchResult result = dispatch(claimed, smtp, 2, 100);
+
+        assertThat(result.sent()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        // gmail 3건 → 2 + 1, naver 2건 → 2 : 연결 3개, 연결마다 한 도메인만
+        assertThat(smtp.connections).hasSize(3);
+        assertThat(smtp.connections).allSatisfy(recipients ->
+                assertThat(recipients.stream().map(r -> r.substring(r.indexOf('@'))).distinct()).hasSize(1));
+    }
+
+    @Test
+    void domainOverLimit_isDeferredWithoutSending() {
+        InMemorySmtp smtp = new InMemorySmtp(Set.of());
+        List<OutboundMail> claimed = List.of(
+                mail(1, "a@gmail.com"), mail(2, "b@gmail.com"), mail(3, "c@gmail.com"), mail(4, "d@naver.com"));
+
+        MailBatchResult result = dispatch(claimed, smtp, 50, 2);
+
+        assertThat(result.sent()).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(result.deferred()).containsExactly(3L);
+    }
+
+    @Test
+    void transientSmtpFailure_isRecordedForRetry_notPermanent() {
+        InMemorySmtp smtp = new InMemorySmtp(Set.of("daum.net"));
+        List<OutboundMail> claimed = List.of(mail(1, "a@daum.net"), mail(2, "b@gmail.com"));
+
+        MailBatchResult result = dispatch(claimed, smtp, 50, 100);
+
+        assertThat(result.sent()).containsExactly(2L);
+        assertThat(result.failed()).containsOnlyKeys(1L);
+        assertThat(result.permanent()).isEmpty();
+    }
+}
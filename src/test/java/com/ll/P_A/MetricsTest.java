@@ -0,0 +1,53 @@
+package com.ll.P_A;
+
+import com.ll.P_A.global.metrics.TagCardinalityLimiter;
+import com.ll.P_A.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsTest {
+
+    @Test
+    void tagLimiter_dropsIdentifierTags_andFoldsOverflowValues() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new TagCardinalityLimiter(Set.of("userId"), 2, 100));
+
+        registry.counter("app.test", "userId", "42", "policy", "a").increment();
+        registry.counter("app.test", "policy", "b").increment();
+        registry.counter("app.test", "policy", "c").increment();
+        registry.counter("app.test", "policy", "d").increment();
+
+        assertThat(registry.find("app.test").tagKeys("userId").counter()).isNull();
+        assertThat(registry.get("app.test").tag("policy", "a").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("app.test").tag("policy", "OTHER").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void tagLimiter_capsTrackedMetricTagKeys() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new TagCardinalityLimiter(Set.of(), 10, 1));
+
+        registry.counter("app.first", "policy", "a").increment();
+        registry.counter("app.second", "policy", "b").increment();
+
+        assertThat(registry.get("app.first").tag("policy", "a").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("app.second").tag("policy", "OTHER").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void jwtProvider_recordsParseTimeAndRejects() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtTokenProvider provider = new JwtTokenProvider(
+                "ThisIsALongEnoughJwtSecretForTests_AtLeast32Chars!!", "", "", "", 900_000, 1_209_600_000, registry);
+
+        provider.validateToken(provider.generateAccessToken("tester"));
+        provider.validateToken("not-a-jwt");
+
+        assertThat(registry.get("app.jwt.parse").timer().count()).isEqualTo(2);
+        assertThat(registry.get("app.jwt.rejected").tag("reason", "invalid").counter().count()).isEqualTo(1.0);
+    }
+}
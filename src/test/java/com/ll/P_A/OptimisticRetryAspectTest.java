@@ -0,0 +1,68 @@
+package com.ll.P_A;
+
+import com.ll.P_A.global.retry.OptimisticRetryAspect;
+import com.ll.P_A.global.retry.RetryOnConflict;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticRetryAspectTest {
+
+    static class Transitions {
+        final AtomicInteger calls = new AtomicInteger();
+        int conflictsBeforeSuccess;
+
+        @RetryOnConflict(value = "order.paid", maxAttempts = 3, backoffMs = 1)
+        public String markPaid() {
+            if (calls.incrementAndGet() <= conflictsBeforeSuccess) {
+                throw new ObjectOptimisticLockingFailureException("Order", 1L);
+            }
+            return "ok";
+        }
+    }
+
+    private SimpleMeterRegistry registry;
+    private Transitions target;
+    private Transitions proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        target = new Transitions();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new OptimisticRetryAspect(registry));
+        proxy = factory.getProxy();
+    }
+
+    private double conflicts(String outcome) {
+        var counter = registry.find("app.optimistic.conflicts")
+                .tags("transition", "order.paid", "outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void conflict_isRetried_untilSuccess() {
+        target.conflictsBeforeSuccess = 2;
+
+        assertThat(proxy.markPaid()).isEqualTo("ok");
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(conflicts("retried")).isEqualTo(2);
+    }
+
+    @Test
+    void conflict_afterMaxAttempts_isRethrown() {
+        target.conflictsBeforeSuccess = 10;
+
+        assertThatThrownBy(proxy::markPaid).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(conflicts("exhausted")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.order.BulkOrderTransitionRequestDto.Item;
+import com.ll.P_A.payment.order.BulkOrderTransitionResponseDto;
+import com.ll.P_A.payment.order.Order;
+import com.ll.P_A.payment.order.OrderBulkTransitionApplier;
+import com.ll.P_A.payment.order.OrderBulkTransitionService;
+import com.ll.P_A.payment.order.OrderRepository;
+import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.order.OrderTransitionResult;
+import com.ll.P_A.payment.order.OrderTransitionResult.Outcome;
+import com.ll.P_A.payment.outbox.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderBulkTransitionTest {
+
+    private OrderRepository orderRepository;
+    private OutboxService outboxService;
+    private OrderBulkTransitionService service;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        outboxService = mock(OutboxService.class);
+        service = new OrderBulkTransitionService(new OrderBulkTransitionApplier(orderRepository, outboxService), 2, 10);
+    }
+
+    private Order order(long id, OrderStatus status) {
+        return Order.builder().id(id).amount(1000L).status(status).version(3L).build();
+    }
+
+    @Test
+    void appliesValidTransitions_andReportsFailuresPerItem() {
+        Order paid = order(1, OrderStatus.PAID);
+        Order pending = order(2, OrderStatus.PENDING);
+        when(orderRepository.findAllById(anyIterable())).thenReturn(List.of(paid, pending));
+
+        BulkOrderTransitionResponseDto res = service.transition(List.of(
+                new Item(1L, OrderStatus.SHIPPED, 3L),
+                new Item(2L, OrderStatus.SHIPPED, null)));
+
+        assertThat(res.applied()).isEqualTo(1);
+        assertThat(res.results()).extracting(OrderTransitionResult::outcome)
+                .containsExactly(Outcome.APPLIED, Outcome.INVALID_TRANSITION);
+        assertThat(paid.getStatus()).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(pending.getStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(outboxService).recordOrderTransition(paid);
+        verify(outboxService, never()).recordOrderTransition(pending);
+    }
+
+    @Test
+    void staleVersionAndMissingOrder_areRejectedWithoutTransition() {
+        Order paid = order(1, OrderStatus.PAID);
+        when(orderRepository.findAllById(anyIterable())).thenReturn(List.of(paid));
+
+        BulkOrderTransitionResponseDto res = service.transition(List.of(
+                new Item(1L, OrderStatus.SHIPPED, 2L),
+                new Item(99L, OrderStatus.SHIPPED, null)));
+
+        assertThat(res.results()).extracting(OrderTransitionResult::outcome)
+                .containsExactly(Outcome.STALE_VERSION, Outcome.NOT_FOUND);
+        assertThat(paid.getStatus()).isEqualTo(OrderStatus.PAID);
+        verifyNoInteractions(outboxService);
+        verify(orderRepository, never()).flush();
+    }
+
+    @Test
+    void conflictingChunk_isReportedAsConflict_otherChunksStillApplied() {
+        Order paid1 = order(1, OrderStatus.PAID);
+        Order paid2 = order(2, OrderStatus.PAID);
+        Order shipped3 = order(3, OrderStatus.SHIPPED);
+        when(orderRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(paid1, paid2))
+                .thenReturn(List.of(shipped3));
+        doThrow(new OptimisticLockingFailureException("version"))
+                .doNothing()
+                .when(orderRepository).flush();
+
+        BulkOrderTransitionResponseDto res = service.transition(List.of(
+                new Item(1L, OrderStatus.SHIPPED, null),
+                new Item(2L, OrderStatus.SHIPPED, null),
+                new Item(3L, OrderStatus.COMPLETED, null)));
+
+        assertThat(res.results()).extracting(OrderTransitionResult::outcome)
+                .containsExactly(Outcome.CONFLICT, Outcome.CONFLICT, Outcome.APPLIED);
+        verify(orderRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void tooManyItems_rejected() {
+        List<Item> items = LongStream.rangeClosed(1, 11)
+                .mapToObj(id -> new Item(id, OrderStatus.SHIPPED, null))
+                .toList();
+
+        assertThatThrownBy(() -> service.transition(items))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderRepository);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.order.Order;
+import com.ll.P_A.payment.order.OrderRepository;
+import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.payment.Payment;
+import com.ll.P_A.payment.payment.PaymentStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 만료 쿼리(잠금/UPDATE/재조회)와 version 증가를 실제 JPQL 로 확인 (H2)
+@DataJpaTest
+class OrderExpiryRepositoryTest {
+
+    private static final List<PaymentStatus> SETTLED = List.of(
+            PaymentStatus.SUCCEEDED, PaymentStatus.REFUND_PENDING,
+            PaymentStatus.PARTIALLY_REFUNDED, PaymentStatus.REFUNDED);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Order pendingOrder() {
+        return em.persistAndFlush(Order.builder().buyerId(1L).amount(5000L).status(OrderStatus.PENDING).build());
+    }
+
+    @Test
+    void lockExpirable_excludesOrdersWithInFlightOrSettledPayment() {
+        Order free = pendingOrder();
+        Order inFlight = pendingOrder();
+        Order paid = em.persistAndFlush(Order.builder().buyerId(1L).amount(5000L).status(OrderStatus.PAID).build());
+        em.persistAndFlush(Payment.builder().order(inFlight).amount(5000L)
+                .status(PaymentStatus.INITIATED).pgRequestedAt(Instant.now()).build());
+        List<Long> ids = List.of(free.getId(), inFlight.getId(), paid.getId());
+
+        List<Long> locked = orderRepository.lockExpirable(
+                ids, OrderStatus.PENDING, Instant.now().plusSeconds(60), PaymentStatus.INITIATED, SETTLED);
+
+        assertThat(locked).containsExactly(free.getId());
+    }
+
+    @Test
+    void expire_cancelsAndBumpsVersion_soStaleConfirmFails() {
+        Order order = pendingOrder();
+        Long id = order.getId();
+        em.clear();
+        Order staleForConfirm = orderRepository.findById(id).orElseThrow();
+        em.detach(staleForConfirm);
+
+        int updated = orderRepository.expire(List.of(id), OrderStatus.PENDING, OrderStatus.CANCELLED,
+                Instant.now(), PaymentStatus.INITIATED, SETTLED);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(orderRepository.findIdsByIdInAndStatus(List.of(id), OrderStatus.CANCELLED)).containsExactly(id);
+
+        staleForConfirm.markPaid();
+        assertThatThrownBy(() -> orderRepository.saveAndFlush(staleForConfirm))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.order.OrderExpiryJob;
+import com.ll.P_A.payment.order.OrderExpiryService;
+import com.ll.P_A.payment.order.OrderRepository;
+import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.outbox.OutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderExpiryServiceTest {
+
+    private OrderRepository orderRepository;
+    private OutboxService outboxService;
+    private OrderExpiryService expiryService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        outboxService = mock(OutboxService.class);
+        expiryService = new OrderExpiryService(orderRepository, outboxService);
+    }
+
+    @Test
+    void expire_cancelsLockedOrders_andRecordsOutboxForEach() {
+        when(orderRepository.lockExpirable(anyCollection(), eq(OrderStatus.PENDING), any(), any(), anyCollection()))
+                .thenReturn(List.of(1L, 2L));
+        when(orderRepository.expire(eq(List.of(1L, 2L)), eq(OrderStatus.PENDING), eq(OrderStatus.CANCELLED),
+                any(), any(), anyCollection())).thenReturn(2);
+
+        int expired = expiryService.expire(List.of(1L, 2L, 3L), Instant.now());
+
+        assertThat(expired).isEqualTo(2);
+        verify(outboxService).recordOrderTransitions(List.of(1L, 2L), "CANCELLED");
+        verify(orderRepository, never()).findIdsByIdInAndStatus(anyCollection(), any());
+    }
+
+    @Test
+    void expire_whenPaymentSentAfterLock_recordsOnlyOrdersActuallyCancelled() {
+        when(orderRepository.lockExpirable(anyCollection(), any(), any(), any(), anyCollection()))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(orderRepository.expire(anyCollection(), any(), any(), any(), any(), anyCollection())).thenReturn(2);
+        when(orderRepository.findIdsByIdInAndStatus(List.of(1L, 2L, 3L), OrderStatus.CANCELLED))
+                .thenReturn(List.of(1L, 3L));
+
+        int expired = expiryService.expire(List.of(1L, 2L, 3L), Instant.now());
+
+        assertThat(expired).isEqualTo(2);
+        verify(outboxService).recordOrderTransitions(List.of(1L, 3L), "CANCELLED");
+    }
+
+    @Test
+    void expire_whenConcurrentConfirmAlreadyMovedOrders_doesNothing() {
+        when(orderRepository.lockExpirable(anyCollection(), any(), any(), any(), anyCollection()))
+                .thenReturn(List.of());
+
+        assertThat(expiryService.expire(List.of(1L), Instant.now())).isZero();
+        verify(orderRepository, never()).expire(anyCollection(), any(), any(), any(), any(), anyCollection());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void job_walksCandidatesInKeysetChunks_andCountsExpired() {
+        OrderExpiryService service = mock(OrderExpiryService.class);
+        when(service.findExpirableIds(any(), eq(0L), eq(2))).thenReturn(List.of(1L, 2L));
+        when(service.findExpirableIds(any(), eq(2L), eq(2))).thenReturn(List.of(5L));
+        when(service.expire(anyList(), any())).thenReturn(2, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OrderExpiryJob job = new OrderExpiryJob(service, registry, 30, 2, 10);
+
+        job.expireStaleOrders();
+
+        verify(service).expire(eq(List.of(1L, 2L)), any());
+        verify(service).expire(eq(List.of(5L)), any());
+        assertThat(registry.get("app.orders.expired").counter().count()).isEqualTo(3.0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.order.OrderHistoryResponseDto;
+import com.ll.P_A.payment.order.OrderRepository;
+import com.ll.P_A.payment.order.OrderService;
+import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.order.OrderSummary;
+import com.ll.P_A.payment.outbox.OutboxService;
+import com.ll.P_A.payment.precheckout.PrecheckoutRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderHistoryTest {
+
+    private OrderRepository orderRepository;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderService = new OrderService(orderRepository, mock(OutboxService.class), mock(PrecheckoutRegistry.class));
+    }
+
+    private OrderSummary summary(long id) {
+        OrderSummary s = mock(OrderSummary.class);
+        when(s.getId()).thenReturn(id);
+        return s;
+    }
+
+    @Test
+    void firstPage_readsOneExtraRow_andReturnsCursor() {
+        when(orderRepository.findByBuyerIdAndIdLessThanOrderByIdDesc(1L, Long.MAX_VALUE, Limit.of(3)))
+                .thenReturn(List.of(summary(30), summary(20), summary(10)));
+
+        OrderHistoryResponseDto page = orderService.getHistory(1L, null, null, 2);
+
+        assertThat(page.items()).extracting(OrderSummary::getId).containsExactly(30L, 20L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(20L);
+    }
+
+    @Test
+    void lastPage_withStatusFilter_hasNoCursor() {
+        when(orderRepository.findByBuyerIdAndStatusAndIdLessThanOrderByIdDesc(
+                eq(1L), eq(OrderStatus.PAID), eq(20L), any(Limit.class)))
+                .thenReturn(List.of(summary(10)));
+
+        OrderHistoryResponseDto page = orderService.getHistory(1L, OrderStatus.PAID, 20L, 2);
+
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(orderRepository, never()).findByBuyerIdAndIdLessThanOrderByIdDesc(anyLong(), anyLong(), any());
+    }
+}
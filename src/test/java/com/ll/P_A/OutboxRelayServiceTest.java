@@ -0,0 +1,157 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.outbox.InProcessOutboxPublisher;
+import com.ll.P_A.payment.outbox.OutboxEvent;
+import com.ll.P_A.payment.outbox.OutboxEventRepository;
+import com.ll.P_A.payment.outbox.OutboxEventStatus;
+import com.ll.P_A.payment.outbox.OutboxMessage;
+import com.ll.P_A.payment.outbox.OutboxPublisher;
+import com.ll.P_A.payment.outbox.OutboxRelay;
+import com.ll.P_A.payment.outbox.OutboxRelayLockRepository;
+import com.ll.P_A.payment.outbox.OutboxRelayService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayServiceTest {
+
+    private OutboxEventRepository eventRepository;
+    private OutboxRelayLockRepository lockRepository;
+    private final List<OutboxEvent> table = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(OutboxEventRepository.class);
+        when(eventRepository.findByStatusOrderByIdAsc(eq(OutboxEventStatus.PENDING), any()))
+                .thenAnswer(inv -> table.stream()
+                        .filter(e -> e.getStatus() == OutboxEventStatus.PENDING)
+                        .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                        .limit(inv.<Limit>getArgument(1).max())
+                        .toList());
+        when(eventRepository.findById(anyLong()))
+                .thenAnswer(inv -> table.stream().filter(e -> e.getId().equals(inv.getArgument(0))).findFirst());
+
+        lockRepository = mock(OutboxRelayLockRepository.class);
+        when(lockRepository.findForUpdate(anyString())).thenReturn(Optional.empty());
+        when(lockRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    private OutboxEvent event(long id) {
+        OutboxEvent e = OutboxEvent.builder().id(id).aggregateType("ORDER").aggregateId(id)
+                .eventType("ORDER_PAID").payload("{}").status(OutboxEventStatus.PENDING)
+                .createdAt(Instant.now()).build();
+        table.add(e);
+        return e;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void publishesPendingInIdOrder_andMarksPublished() {
+        OutboxPublisher publisher = mock(OutboxPublisher.class);
+        OutboxRelayService relayService = new OutboxRelayService(eventRepository, lockRepository, publisher);
+        OutboxEvent first = event(1);
+        OutboxEvent second = event(2);
+
+        int published = relayService.relayBatch(100);
+
+        assertThat(published).isEqualTo(2);
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publish(captor.capture());
+        assertThat(captor.getValue()).extracting(OutboxMessage::id).containsExactly(1L, 2L);
+        assertThat(first.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+        assertThat(second.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    void publishFailure_leavesEventsPending() {
+        OutboxPublisher publisher = mock(OutboxPublisher.class);
+        OutboxRelayService relayService = new OutboxRelayService(eventRepository, lockRepository, publisher);
+        OutboxEvent first = event(1);
+        doThrow(new IllegalStateException("redis down")).when(publisher).publish(anyList());
+
+        assertThatThrownBy(() -> relayService.relayBatch(100)).isInstanceOf(IllegalStateException.class);
+        assertThat(first.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(first.getAttempts()).isZero();
+    }
+
+    @Test
+    void lateCommittedLowerId_isStillPublishedAfterHigherIds() {
+        OutboxPublisher publisher = mock(OutboxPublisher.class);
+        OutboxRelayService relayService = new OutboxRelayService(eventRepository, lockRepository, publisher);
+        OutboxEvent later = event(5);
+        relayService.relayBatch(100);
+
+        // id 3 은 먼저 INSERT 됐지만 긴 트랜잭션이라 id 5 발행 이후에 커밋됨
+        OutboxEvent lateCommit = event(3);
+        int published = relayService.relayBatch(100);
+
+        assertThat(published).isEqualTo(1);
+        assertThat(later.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+        assertThat(lateCommit.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+    }
+
+    @Test
+    void poisonSubscriber_isIsolatedAfterMaxAttempts_andLaterEventsFlow() {
+        ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+        doAnswer(inv -> {
+            if (((OutboxMessage) inv.getArgument(0)).id() == 2L) throw new NullPointerException("subscriber bug");
+            return null;
+        }).when(events).publishEvent(any(Object.class));
+        OutboxRelayService relayService =
+                new OutboxRelayService(eventRepository, lockRepository, new InProcessOutboxPublisher(events));
+        OutboxRelay relay = new OutboxRelay(relayService, eventRepository, 100, 10, 2, 7);
+        OutboxEvent first = event(1);
+        OutboxEvent poison = event(2);
+        OutboxEvent third = event(3);
+
+        relay.relay();
+        assertThat(poison.getAttempts()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(OutboxEventStatus.PENDING); // 배치 롤백 → 다음 주기에 다시 발행
+
+        relay.relay();
+        assertThat(poison.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+        assertThat(poison.getLastError()).contains("subscriber bug");
+
+        relay.relay();
+        assertThat(first.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+        assertThat(third.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+    }
+
+    @Test
+    void unattributedBatchFailure_isolatesHeadEvent_andLaterEventsFlow() {
+        // 이벤트를 특정하지 않는 실패(커밋 시점 제약 위반 등)가 id 1 이 포함된 배치마다 발생
+        OutboxPublisher publisher = mock(OutboxPublisher.class);
+        doAnswer(inv -> {
+            List<OutboxMessage> messages = inv.getArgument(0);
+            if (messages.stream().anyMatch(m -> m.id() == 1L)) throw new IllegalStateException("constraint violation");
+            return null;
+        }).when(publisher).publish(anyList());
+        OutboxRelayService relayService = new OutboxRelayService(eventRepository, lockRepository, publisher);
+        OutboxRelay relay = new OutboxRelay(relayService, eventRepository, 100, 10, 2, 7);
+        OutboxEvent poison = event(1);
+        OutboxEvent next = event(2);
+
+        relay.relay();
+        assertThat(poison.getAttempts()).isEqualTo(1);
+        assertThat(next.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+
+        relay.relay();
+        assertThat(poison.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+        assertThat(poison.getLastError()).contains("constraint violation");
+
+        relay.relay();
+        assertThat(next.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+    }
+}
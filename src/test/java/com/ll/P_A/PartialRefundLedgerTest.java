@@ -0,0 +1,151 @@
+package com.ll.P_A;
+
+import com.ll.P_A.global.exception.DomainException;
+import com.ll.P_A.global.exception.InvalidStateException;
+import com.ll.P_A.payment.ledger.LedgerEntry;
+import com.ll.P_A.payment.ledger.LedgerEntryRepository;
+import com.ll.P_A.payment.ledger.OrderBalance;
+import com.ll.P_A.payment.ledger.OrderBalanceRepository;
+import com.ll.P_A.payment.ledger.PaymentLedgerService;
+import com.ll.P_A.payment.order.Order;
+import com.ll.P_A.payment.order.OrderRepository;
+import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.outbox.OutboxService;
+import com.ll.P_A.payment.payment.Payment;
+import com.ll.P_A.payment.payment.PaymentRepository;
+import com.ll.P_A.payment.payment.PaymentStateService;
+import com.ll.P_A.payment.payment.PaymentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PartialRefundLedgerTest {
+
+    private final List<LedgerEntry> entries = new ArrayList<>();
+    private final Map<Long, OrderBalance> balances = new HashMap<>();
+
+    private Order order;
+    private Payment payment;
+    private PaymentStateService stateService;
+
+    @BeforeEach
+    void setUp() {
+        // 원장/잔액 저장소는 메모리로 흉내냄
+        LedgerEntryRepository entryRepository = mock(LedgerEntryRepository.class);
+        when(entryRepository.save(any())).thenAnswer(inv -> {
+            entries.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        when(entryRepository.existsByReference(anyString())).thenAnswer(inv ->
+                entries.stream().anyMatch(e -> e.getReference().equals(inv.getArgument(0))));
+
+        OrderBalanceRepository balanceRepository = mock(OrderBalanceRepository.class);
+        when(balanceRepository.findById(anyLong())).thenAnswer(inv ->
+                Optional.ofNullable(balances.get(inv.<Long>getArgument(0))));
+        when(balanceRepository.save(any())).thenAnswer(inv -> {
+            OrderBalance b = inv.getArgument(0);
+            balances.put(b.getOrderId(), b);
+            return b;
+        });
+
+        order = Order.builder().id(10L).amount(10_000L).status(OrderStatus.PAID).build();
+        payment = Payment.builder().id(1L).order(order).paymentKey("pk")
+                .amount(10_000L).status(PaymentStatus.SUCCEEDED).build();
+
+        PaymentRepository paymentRepository = mock(PaymentRepository.class);
+        when(paymentRepository.findByPaymentKey("pk")).thenReturn(Optional.of(payment));
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+
+        stateService = new PaymentStateService(paymentRepository, mock(OrderRepository.class),
+                new PaymentLedgerService(entryRepository, balanceRepository), mock(OutboxService.class));
+    }
+
+    @Test
+    void partialThenRemainingRefund_updatesBalanceIncrementally() {
+        stateService.reserveRefund("pk", 3_000L);
+        stateService.recordRefundSuccess(1L);
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PARTIALLY_REFUNDED);
+        assertThat(payment.getRefundableAmount()).isEqualTo(7_000L);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PARTIALLY_REFUNDED);
+        assertThat(balances.get(10L).getRefundedAmount()).isEqualTo(3_000L);
+
+        stateService.reserveRefund("pk", null);
+        stateService.recordRefundSuccess(1L);
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.REFUNDED);
+        OrderBalance balance = balances.get(10L);
+        assertThat(balance.getCapturedAmount()).isEqualTo(10_000L);
+        assertThat(balance.getRefundedAmount()).isEqualTo(10_000L);
+        // 원장 도입 전 결제 → 승인/매입 보충 + 환불 2건
+        assertThat(entries).extracting(LedgerEntry::getReference)
+                .containsExactly("auth-1", "capture-1", "refund-1-0", "refund-1-3000");
+    }
+
+    @Test
+    void refundOverRemainingAmount_isRejectedBeforeAnyChange() {
+        assertThatThrownBy(() -> stateService.reserveRefund("pk", 20_000L))
+                .isInstanceOf(InvalidStateException.class)
+                .hasMessageContaining("환불 가능 금액 초과");
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.SUCCEEDED);
+        assertThat(entries).isEmpty();
+    }
+
+    @Test
+    void pgPartialCancel_appliesOnlyTheDelta() {
+        boolean changed = stateService.applyPgStatus(payment, "PARTIAL_CANCELED", 8_000L);
+
+        assertThat(changed).isTrue();
+        assertThat(payment.getRefundedAmount()).isEqualTo(2_000L);
+        assertThat(stateService.applyPgStatus(payment, "PARTIAL_CANCELED", 8_000L)).isFalse();
+    }
+
+    @Test
+    void pendingRefund_replayWithSameAmountReturnsIt_butDifferentAmountIsConflict() {
+        stateService.reserveRefund("pk", 3_000L);
+
+        assertThat(stateService.reserveRefund("pk", 3_000L).getRefundPendingAmount()).isEqualTo(3_000L);
+        assertThatThrownBy(() -> stateService.reserveRefund("pk", 5_000L))
+                .isInstanceOf(InvalidStateException.class)
+                .hasMessageContaining("진행중=3000, 요청=5000");
+        assertThat(payment.getRefundPendingAmount()).isEqualTo(3_000L);
+    }
+
+    @Test
+    void capture_rejectsAmountThatDoesNotCoverTheOrder() {
+        Order pending = Order.builder().id(20L).amount(10_000L).status(OrderStatus.PENDING).build();
+        Payment partial = Payment.builder().id(2L).order(pending).paymentKey("pk-2")
+                .amount(4_000L).status(PaymentStatus.INITIATED).build();
+
+        assertThatThrownBy(() -> stateService.applyPgStatus(partial, "DONE"))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("금액 불일치");
+        assertThat(pending.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(partial.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+        assertThat(entries).isEmpty();
+    }
+
+    @Test
+    void confirmReplay_returnsExistingOnlyForSameOrderAndAmount() {
+        assertThat(stateService.reserveConfirm("pk", "10", 10_000L)).isSameAs(payment);
+
+        assertThatThrownBy(() -> stateService.reserveConfirm("pk", "11", 10_000L))
+                .isInstanceOf(InvalidStateException.class)
+                .hasMessageContaining("기존 orderId=10, 요청 orderId=11");
+        assertThatThrownBy(() -> stateService.reserveConfirm("pk", "10", 1_000L))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("expected=10000 request=1000");
+    }
+}
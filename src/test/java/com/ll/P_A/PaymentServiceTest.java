@@ -0,0 +1,125 @@
+package com.ll.P_A;
+
+import com.ll.P_A.global.exception.DomainException;
+import com.ll.P_A.payment.ledger.PaymentLedgerService;
+import com.ll.P_A.payment.order.OrderRepository;
+import com.ll.P_A.payment.payment.Payment;
+import com.ll.P_A.payment.payment.PaymentRepository;
+import com.ll.P_A.payment.payment.PaymentService;
+import com.ll.P_A.payment.payment.PaymentStateService;
+import com.ll.P_A.payment.payment.PaymentStatus;
+import com.ll.P_A.payment.precheckout.InMemoryPrecheckoutRegistry;
+import com.ll.P_A.payment.toss.TossApiException;
+import com.ll.P_A.payment.toss.TossClient;
+import com.ll.P_A.payment.toss.TossUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PaymentServiceTest {
+
+    private PaymentStateService paymentStateService;
+    private TossClient tossClient;
+    private InMemoryPrecheckoutRegistry precheckoutRegistry;
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        paymentStateService = mock(PaymentStateService.class);
+        tossClient = mock(TossClient.class);
+        precheckoutRegistry = new InMemoryPrecheckoutRegistry(30, 1000);
+        paymentService = new PaymentService(
+                mock(PaymentRepository.class), mock(OrderRepository.class), tossClient, paymentStateService,
+                mock(PaymentLedgerService.class), precheckoutRegistry);
+    }
+
+    private Payment payment(PaymentStatus status) {
+        return Payment.builder().id(1L).amount(5000L).status(status).build();
+    }
+
+    @Test
+    void confirmToss_reservesBeforePgCall_andRecordsAfter() {
+        when(paymentStateService.reserveConfirm("pk", "10", 5000)).thenReturn(payment(PaymentStatus.INITIATED));
+        when(paymentStateService.recordConfirmSuccess(1L, "pk")).thenReturn(payment(PaymentStatus.SUCCEEDED));
+
+        Payment result = paymentService.confirmToss("pk", "10", 5000);
+
+        assertThat(result.getStatus()).isEqualTo(PaymentStatus.SUCCEEDED);
+        InOrder order = inOrder(paymentStateService, tossClient);
+        order.verify(paymentStateService).reserveConfirm("pk", "10", 5000);
+        order.verify(tossClient).confirm("pk", "10", 5000, "confirm-pk");
+        order.verify(paymentStateService).recordConfirmSuccess(1L, "pk");
+    }
+
+    @Test
+    void confirmToss_pgRejects_marksFailed() {
+        when(paymentStateService.reserveConfirm("pk", "10", 5000)).thenReturn(payment(PaymentStatus.INITIATED));
+        when(tossClient.confirm(anyString(), anyString(), anyLong(), anyString()))
+                .thenThrow(new TossApiException(400, "REJECT_CARD_PAYMENT", "한도초과"));
+
+        assertThatThrownBy(() -> paymentService.confirmToss("pk", "10", 5000))
+                .isInstanceOf(TossApiException.class);
+        verify(paymentStateService).recordConfirmFailure(eq(1L), eq("REJECT_CARD_PAYMENT"), anyString());
+        verify(paymentStateService, never()).recordConfirmSuccess(anyLong(), anyString());
+    }
+
+    @Test
+    void confirmToss_non_rejection4xx_leavesPaymentForRecovery() {
+        // 같은 paymentKey 의 먼저 온 승인이 아직 처리 중 → 그 승인이 성공할 수 있으므로 FAILED 로 만들지 않음
+        when(paymentStateService.reserveConfirm("pk", "10", 5000)).thenReturn(payment(PaymentStatus.INITIATED));
+        when(tossClient.confirm(anyString(), anyString(), anyLong(), anyString()))
+                .thenThrow(new TossApiException(400, "ALREADY_PROCESSED_PAYMENT", "이미 처리된 결제"));
+
+        assertThatThrownBy(() -> paymentService.confirmToss("pk", "10", 5000))
+                .isInstanceOf(TossApiException.class);
+        verify(paymentStateService, never()).recordConfirmFailure(anyLong(), anyString(), anyString());
+        verify(paymentStateService, never()).recordConfirmSuccess(anyLong(), anyString());
+    }
+
+    @Test
+    void confirmToss_pgTimeout_leavesPaymentInDoubt() {
+        when(paymentStateService.reserveConfirm("pk", "10", 5000)).thenReturn(payment(PaymentStatus.INITIATED));
+        when(tossClient.confirm(anyString(), anyString(), anyLong(), anyString()))
+                .thenThrow(new TossUnavailableException("timeout", true, null));
+
+        assertThatThrownBy(() -> paymentService.confirmToss("pk", "10", 5000))
+                .isInstanceOf(TossUnavailableException.class);
+        verify(paymentStateService, never()).recordConfirmFailure(anyLong(), anyString(), anyString());
+        verify(paymentStateService, never()).recordConfirmSuccess(anyLong(), anyString());
+    }
+
+    @Test
+    void confirmToss_alreadySucceeded_skipsPgCall() {
+        when(paymentStateService.reserveConfirm("pk", "10", 5000)).thenReturn(payment(PaymentStatus.SUCCEEDED));
+
+        paymentService.confirmToss("pk", "10", 5000);
+
+        verifyNoInteractions(tossClient);
+    }
+
+    @Test
+    void confirmToss_tamperedAmount_rejectedByPrecheckoutBeforeDbAndPg() {
+        precheckoutRegistry.register("10", 5000);
+
+        assertThatThrownBy(() -> paymentService.confirmToss("pk", "10", 100))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("금액 불일치");
+        verifyNoInteractions(paymentStateService, tossClient);
+    }
+
+    @Test
+    void confirmToss_success_removesPrecheckoutEntry() {
+        precheckoutRegistry.register("10", 5000);
+        when(paymentStateService.reserveConfirm("pk", "10", 5000)).thenReturn(payment(PaymentStatus.INITIATED));
+        when(paymentStateService.recordConfirmSuccess(1L, "pk")).thenReturn(payment(PaymentStatus.SUCCEEDED));
+
+        paymentService.confirmToss("pk", "10", 5000);
+
+        assertThat(precheckoutRegistry.expectedAmount("10")).isEmpty();
+    }
+}
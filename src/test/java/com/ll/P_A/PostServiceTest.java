@@ -4,13 +4,16 @@ import com.ll.P_A.global.exception.AuthorizationValidator;
 import com.ll.P_A.post.PostEntity;
 import com.ll.P_A.post.PostRepository;
 import com.ll.P_A.post.PostRequestDto;
+import com.ll.P_A.post.PostResponseDto;
 import com.ll.P_A.post.PostService;
+import com.ll.P_A.post.PostVersion;
 import com.ll.P_A.security.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -186,4 +189,33 @@ class PostServiceTest {
         assertThat(post.getTitle()).isEqualTo("new title");
         assertThat(post.getContent()).isEqualTo("new content");
     }
-}
\ No newline at end of file
+
+    @Test
+    void eTag_versionLookupMatchesServedDto_andChangesOnEdit() {
+        // given
+        User user = User.builder().id(1L).username("tester").build();
+        PostEntity post = PostEntity.builder()
+                .id(1L)
+                .title("title")
+                .content("content")
+                .author(user)
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+        post.like(user);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+
+        // when: 200 응답 (조회수 +1) 후 같은 상태의 버전 조회
+        PostResponseDto served = postService.getById(1L, user);
+        when(postRepository.findVersionById(1L)).thenReturn(Optional.of(
+                new PostVersion(1L, post.getUpdatedAt(), post.getViewCount(), post.getLikeCount())));
+        when(postRepository.findLikedPostIds(1L, List.of(1L))).thenReturn(List.of(1L));
+
+        // then
+        String eTag = PostService.eTagOf(served);
+        assertThat(postService.currentETag(1L, 1L)).isEqualTo(eTag);
+        assertThat(postService.currentETag(1L, null)).isNotEqualTo(eTag); // likedByMe 가 다름
+
+        post.update("new title", "new content");
+        assertThat(PostService.eTagOf(new PostResponseDto(post, user))).isNotEqualTo(eTag);
+    }
+}
@@ -0,0 +1,150 @@
+package com.ll.P_A;
+
+import com.ll.P_A.global.datasource.DataSourceRouteContext;
+import com.ll.P_A.global.datasource.PaymentPrimaryPinningAspect;
+import com.ll.P_A.global.datasource.ReplicaLagMonitor;
+import com.ll.P_A.global.datasource.ReplicaRoutingDataSource;
+import com.ll.P_A.payment.order.Order;
+import com.ll.P_A.payment.order.OrderRepository;
+import com.ll.P_A.payment.order.OrderService;
+import com.ll.P_A.payment.outbox.OutboxService;
+import com.ll.P_A.payment.precheckout.PrecheckoutRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private MeterRegistry meterRegistry;
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-0", replica), 3, meterRegistry);
+        routing = new ReplicaRoutingDataSource(List.of("replica-0"), lagMonitor, meterRegistry);
+        routing.setTargetDataSources(Map.of(ReplicaRoutingDataSource.PRIMARY, primary, "replica-0", replica));
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        DataSourceRouteContext.clear();
+    }
+
+    private double routed(String route, String reason) {
+        return meterRegistry.get("app.datasource.route").tag("route", route).tag("reason", reason).counter().count();
+    }
+
+    @Test
+    void writeTransaction_goesToPrimary() throws SQLException {
+        lagMonitor.recordLag("replica-0", 0L);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed("primary", "write")).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyTransaction_goesToHealthyReplica() throws SQLException {
+        lagMonitor.recordLag("replica-0", 1L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        assertThat(routed("replica-0", "read")).isEqualTo(1);
+    }
+
+    @Test
+    void laggingOrStoppedReplica_fallsBackToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        lagMonitor.recordLag("replica-0", 10L);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        lagMonitor.recordLag("replica-0", null);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed("primary", "fallback")).isEqualTo(2);
+    }
+
+    @Test
+    void stickyRequest_readsFromPrimary() throws SQLException {
+        lagMonitor.recordLag("replica-0", 0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        DataSourceRouteContext.forcePrimary();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed("primary", "sticky")).isEqualTo(1);
+    }
+
+    @Test
+    void paymentServiceRead_isPinnedToPrimary_evenInReadOnlyRepositoryTransaction() throws SQLException {
+        lagMonitor.recordLag("replica-0", 0L);
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        AtomicReference<Connection> used = new AtomicReference<>();
+        // SUPPORTS/트랜잭션 없는 조회 → 리포지토리가 readOnly 트랜잭션을 열고 커넥션을 얻는 상황 재현
+        when(orderRepository.findById(1L)).thenAnswer(inv -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try {
+                used.set(routing.getConnection());
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+            return Optional.of(mock(Order.class));
+        });
+        OrderService orderService = pinned(
+                new OrderService(orderRepository, mock(OutboxService.class), mock(PrecheckoutRegistry.class)));
+
+        orderService.get(1L);
+
+        assertThat(used.get()).isSameAs(primaryConnection);
+        assertThat(DataSourceRouteContext.isPrimaryForced()).isFalse();
+
+        // 결제 패키지 밖의 readOnly 읽기는 그대로 복제본
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void paymentPinning_keepsRequestLevelForce() {
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(mock(Order.class)));
+        OrderService orderService = pinned(
+                new OrderService(orderRepository, mock(OutboxService.class), mock(PrecheckoutRegistry.class)));
+        DataSourceRouteContext.forcePrimary();
+
+        orderService.get(1L);
+
+        assertThat(DataSourceRouteContext.isPrimaryForced()).isTrue();
+    }
+
+    private static <T> T pinned(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(PaymentPrimaryPinningAspect.class);
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.order.OrderStatus;
+import com.ll.P_A.payment.outbox.OutboxDeliveryException;
+import com.ll.P_A.payment.outbox.OutboxMessage;
+import com.ll.P_A.payment.report.DailyOrderStat;
+import com.ll.P_A.payment.report.DailyOrderStatRepository;
+import com.ll.P_A.payment.report.DailyPaymentStat;
+import com.ll.P_A.payment.report.DailyPaymentStatRepository;
+import com.ll.P_A.payment.report.SalesReportResponseDto;
+import com.ll.P_A.payment.report.SalesReportService;
+import com.ll.P_A.payment.report.SalesSummaryProjector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SalesSummaryProjectorTest {
+
+    // 2025-03-01 15:30Z = 2025-03-02 00:30 KST
+    private static final Instant AT = Instant.parse("2025-03-01T15:30:00Z");
+    private static final LocalDate KST_DAY = LocalDate.of(2025, 3, 2);
+
+    private final List<DailyOrderStat> orderRows = new ArrayList<>();
+    private final List<DailyPaymentStat> paymentRows = new ArrayList<>();
+
+    private boolean failNextOrderLookup;
+
+    private SalesSummaryProjector projector;
+    private SalesReportService reportService;
+
+    @BeforeEach
+    void setUp() {
+        DailyOrderStatRepository orderStatRepository = mock(DailyOrderStatRepository.class);
+        DailyPaymentStatRepository paymentStatRepository = mock(DailyPaymentStatRepository.class);
+
+        // 저장된 행을 메모리에 두고 조회 시 돌려주는 간단한 스텁
+        when(orderStatRepository.findByDayAndStatus(any(), any())).thenAnswer(inv -> {
+            if (failNextOrderLookup) {
+                failNextOrderLookup = false;
+                throw new IllegalStateException("boom");
+            }
+            return orderRows.stream()
+                    .filter(r -> r.getDay().equals(inv.getArgument(0)) && r.getStatus() == inv.getArgument(1))
+                    .findFirst();
+        });
+        when(orderStatRepository.save(any())).thenAnswer(inv -> {
+            orderRows.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        when(orderStatRepository.findByDayBetweenOrderByDayAsc(any(), any())).thenAnswer(inv -> orderRows);
+
+        when(paymentStatRepository.findByDayAndProviderAndMethod(any(), anyString(), anyString()))
+                .thenAnswer(inv -> paymentRows.stream()
+                        .filter(r -> r.getDay().equals(inv.getArgument(0))
+                                && r.getProvider().equals(inv.getArgument(1))
+                                && r.getMethod().equals(inv.getArgument(2)))
+                        .findFirst());
+        when(paymentStatRepository.save(any())).thenAnswer(inv -> {
+            paymentRows.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        when(paymentStatRepository.findByDayBetweenOrderByDayAsc(any(), any())).thenAnswer(inv -> paymentRows);
+
+        projector = new SalesSummaryProjector(orderStatRepository, paymentStatRepository, "Asia/Seoul");
+        reportService = new SalesReportService(orderStatRepository, paymentStatRepository);
+    }
+
+    private void publish(long id, String type, String eventType, String payload) {
+        projector.on(new OutboxMessage(id, type, id, eventType, payload, AT));
+    }
+
+    @Test
+    void orderTransitions_areCountedPerLocalDayAndStatus() {
+        publish(1, "ORDER", "ORDER_PAID", "{\"orderId\":1,\"status\":\"PAID\",\"amount\":5000}");
+        publish(2, "ORDER", "ORDER_PAID", "{\"orderId\":2,\"status\":\"PAID\",\"amount\":3000}");
+        publish(3, "ORDER", "ORDER_CANCELLED", "{\"orderId\":3,\"status\":\"CANCELLED\"}");
+
+        assertThat(orderRows).hasSize(2);
+        DailyOrderStat paid = orderRows.stream().filter(r -> r.getStatus() == OrderStatus.PAID).findFirst().orElseThrow();
+        assertThat(paid.getDay()).isEqualTo(KST_DAY);
+        assertThat(paid.getOrderCount()).isEqualTo(2);
+        assertThat(paid.getAmount()).isEqualTo(8000);
+    }
+
+    @Test
+    void report_computesRefundRateAndAverageFromPaymentStats() {
+        String card = "\"provider\":\"TOSS\",\"method\":\"CARD\"";
+        publish(1, "PAYMENT", "PAYMENT_CAPTURED", "{" + card + ",\"amount\":6000}");
+        publish(2, "PAYMENT", "PAYMENT_CAPTURED", "{" + card + ",\"amount\":4000}");
+        publish(3, "PAYMENT", "PAYMENT_REFUNDED", "{" + card + ",\"amount\":1000}");
+
+        SalesReportResponseDto report = reportService.report(KST_DAY, KST_DAY);
+
+        assertThat(report.capturedCount()).isEqualTo(2);
+        assertThat(report.capturedAmount()).isEqualTo(10_000);
+        assertThat(report.refundedAmount()).isEqualTo(1000);
+        assertThat(report.refundRate()).isEqualTo(0.1);
+        assertThat(report.averageAmount()).isEqualTo(5000);
+        assertThat(report.payments()).hasSize(1);
+    }
+
+    @Test
+    void malformedPayload_failsWithEventId_soRelayCountsAttempts() {
+        assertThatThrownBy(() -> publish(7, "ORDER", "ORDER_PAID", "not-json"))
+                .isInstanceOf(OutboxDeliveryException.class)
+                .extracting(e -> ((OutboxDeliveryException) e).getEventId()).isEqualTo(7L);
+
+        assertThat(orderRows).isEmpty();
+    }
+
+    @Test
+    void repositoryFailure_isRethrownWithEventId() {
+        failNextOrderLookup = true;
+
+        assertThatThrownBy(() -> publish(1, "ORDER", "ORDER_PAID", "{\"orderId\":1,\"status\":\"PAID\",\"amount\":5000}"))
+                .isInstanceOf(OutboxDeliveryException.class)
+                .hasRootCauseMessage("boom");
+    }
+
+    @Test
+    void providerAndMethod_areNormalisedToColumnLength() {
+        String longProvider = "P".repeat(255);
+        publish(1, "PAYMENT", "PAYMENT_CAPTURED",
+                "{\"provider\":\"" + longProvider + "\",\"method\":\"  \",\"amount\":1000}");
+
+        assertThat(paymentRows).hasSize(1);
+        assertThat(paymentRows.get(0).getProvider()).hasSize(30);
+        assertThat(paymentRows.get(0).getMethod()).isEqualTo(DailyPaymentStat.UNKNOWN);
+    }
+}
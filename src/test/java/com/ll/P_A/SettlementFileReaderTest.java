@@ -0,0 +1,75 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.reconcile.SettlementFileReader;
+import com.ll.P_A.payment.reconcile.SettlementFormat;
+import com.ll.P_A.payment.reconcile.SettlementRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SettlementFileReaderTest {
+
+    private List<SettlementRecord> readAll(SettlementFileReader reader) {
+        List<SettlementRecord> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+
+    private SettlementFileReader reader(String content, SettlementFormat format) {
+        return new SettlementFileReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    @Test
+    void csv_mapsColumnsByHeader_andSkipsMalformedLines() throws IOException {
+        String csv = """
+                status,amount,paymentKey,orderId
+                DONE,5000,pk_1,10
+                CANCELED,not-a-number,pk_2,11
+
+                "DONE","7000","pk_3","12"
+                """;
+
+        try (SettlementFileReader reader = reader(csv, SettlementFormat.CSV)) {
+            List<SettlementRecord> records = readAll(reader);
+
+            assertThat(records).containsExactly(
+                    new SettlementRecord("pk_1", "10", 5000, "DONE"),
+                    new SettlementRecord("pk_3", "12", 7000, "DONE")
+            );
+            assertThat(reader.getSkippedLines()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void csv_withoutRequiredColumn_fails() {
+        SettlementFileReader reader = reader("paymentKey,status\npk_1,DONE\n", SettlementFormat.CSV);
+
+        assertThatThrownBy(reader::hasNext)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("amount");
+    }
+
+    @Test
+    void jsonl_parsesEachLine_andSkipsBrokenJson() throws IOException {
+        String jsonl = """
+                {"paymentKey":"pk_1","orderId":"10","amount":5000,"status":"DONE"}
+                {"paymentKey":"pk_2","amount":
+                {"paymentKey":"pk_3","amount":3000,"status":"CANCELED"}
+                """;
+
+        try (SettlementFileReader reader = reader(jsonl, SettlementFormat.JSONL)) {
+            List<SettlementRecord> records = readAll(reader);
+
+            assertThat(records).extracting(SettlementRecord::paymentKey).containsExactly("pk_1", "pk_3");
+            assertThat(records.get(1).orderId()).isNull();
+            assertThat(reader.getSkippedLines()).isEqualTo(1);
+        }
+    }
+}
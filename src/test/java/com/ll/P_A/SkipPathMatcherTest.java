@@ -0,0 +1,47 @@
+package com.ll.P_A;
+
+import com.ll.P_A.security.SecurityPaths;
+import com.ll.P_A.security.jwt.SkipPathMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkipPathMatcherTest {
+
+    private final SkipPathMatcher matcher = new SkipPathMatcher(
+            List.of(SecurityPaths.PUBLIC, SecurityPaths.AUTH_PUBLIC, SecurityPaths.SWAGGER, SecurityPaths.H2),
+            SecurityPaths.STATIC_EXTENSIONS
+    );
+
+    @Test
+    void skipsPublicDocsAndStaticPaths() {
+        assertThat(matcher.matches("/")).isTrue();
+        assertThat(matcher.matches("/api/auth/login")).isTrue();
+        assertThat(matcher.matches("/swagger-ui")).isTrue();            // "/swagger-ui/**" 는 자신도 포함
+        assertThat(matcher.matches("/swagger-ui/index.html")).isTrue();
+        assertThat(matcher.matches("/v3/api-docs/swagger-config")).isTrue();
+        assertThat(matcher.matches("/assets/app.min.JS")).isTrue();     // 확장자
+        assertThat(matcher.matches("/h2-console")).isTrue();
+    }
+
+    @Test
+    void doesNotSkipProtectedOrOptionalAuthApis() {
+        assertThat(matcher.matches("/api/auth/me")).isFalse();
+        assertThat(matcher.matches("/api/auth/logout")).isFalse();
+        assertThat(matcher.matches("/api/posts")).isFalse();
+        assertThat(matcher.matches("/api/posts/1")).isFalse();
+        assertThat(matcher.matches("/api/pay/toss/confirm")).isFalse();
+        assertThat(matcher.matches("/cssx/a")).isFalse();                // 접두사는 세그먼트 단위
+        assertThat(matcher.matches("/api/posts.v2/list")).isFalse();     // 마지막 세그먼트 확장자만 확인
+    }
+
+    @Test
+    void fallsBackToPathPatternForOtherWildcards() {
+        SkipPathMatcher custom = new SkipPathMatcher(List.<String[]>of(new String[]{"/files/*/public"}), new String[0]);
+
+        assertThat(custom.matches("/files/42/public")).isTrue();
+        assertThat(custom.matches("/files/42/private")).isFalse();
+    }
+}
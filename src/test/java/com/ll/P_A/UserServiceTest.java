@@ -1,13 +1,21 @@
 package com.ll.P_A;
 
 import com.ll.P_A.global.exception.AuthorizationValidator;
+import com.ll.P_A.global.exception.ErrorCode;
+import com.ll.P_A.global.exception.InvalidStateException;
 import com.ll.P_A.security.*;
 import com.ll.P_A.security.jwt.JwtTokenProvider;
+import com.ll.P_A.security.login.LoginAttemptStore;
+import com.ll.P_A.security.login.LoginThrottledException;
+import com.ll.P_A.security.signup.TakenIdentifierFilter;
+import com.ll.P_A.security.signup.TakenIdentifierFilter.IdentifierType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Optional;
@@ -36,47 +44,83 @@ class UserServiceTest {
     @Mock
     private AuthorizationValidator authValidator;
 
+    @Mock
+    private LoginAttemptStore loginAttemptStore;
+
+    @Mock
+    private TakenIdentifierFilter takenIdentifierFilter;
+
     @InjectMocks
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        // 기본: Bloom filter 가 "있을 수 있음" → DB(existsBy) 확인 경로
+        when(takenIdentifierFilter.mightBeTaken(any(), anyString())).thenReturn(true);
     }
 
     @Test
     void signup_ThrowsException_WhenUsernameExists() {
         UserSignupRequest request = new UserSignupRequest("existingUser", "password", "nickname", "email@test.com");
-        when(userRepository.findByUsername("existingUser")).thenReturn(Optional.of(mock(User.class)));
+        when(userRepository.existsByUsername("existingUser")).thenReturn(true);
 
         assertThatThrownBy(() -> userService.signup(request))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(InvalidStateException.class)
                 .hasMessageContaining("이미 사용 중인 아이디입니다.");
     }
 
     @Test
     void signup_ThrowsException_WhenEmailExists() {
         UserSignupRequest request = new UserSignupRequest("user", "password", "nickname", "email@test.com");
-        when(userRepository.findByUsername("user")).thenReturn(Optional.empty());
-        when(userRepository.findByEmail("email@test.com")).thenReturn(Optional.of(mock(User.class)));
+        when(userRepository.existsByUsername("user")).thenReturn(false);
+        when(userRepository.existsByEmail("email@test.com")).thenReturn(true);
 
         assertThatThrownBy(() -> userService.signup(request))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(InvalidStateException.class)
                 .hasMessageContaining("이미 사용 중인 이메일입니다.");
     }
 
     @Test
     void signup_Success_WhenValidRequest() {
         UserSignupRequest request = new UserSignupRequest("newUser", "password", "nickname", "new@test.com");
-        when(userRepository.findByUsername("newUser")).thenReturn(Optional.empty());
-        when(userRepository.findByEmail("new@test.com")).thenReturn(Optional.empty());
+        when(userRepository.existsByUsername("newUser")).thenReturn(false);
+        when(userRepository.existsByEmail("new@test.com")).thenReturn(false);
         when(passwordEncoder.encode("password")).thenReturn("encodedPw");
 
         assertDoesNotThrow(() -> userService.signup(request));
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
         verify(mailService).sendVerificationEmail(any(User.class));
     }
 
+    @Test
+    void signup_DefiniteMissInBloomFilter_SkipsExistenceQueries() {
+        UserSignupRequest request = new UserSignupRequest("fresh", "password", "nickname", "fresh@test.com");
+        when(takenIdentifierFilter.mightBeTaken(any(), anyString())).thenReturn(false);
+        when(passwordEncoder.encode("password")).thenReturn("encodedPw");
+
+        userService.signup(request);
+
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(takenIdentifierFilter).add(IdentifierType.USERNAME, "fresh");
+        verify(takenIdentifierFilter).add(IdentifierType.EMAIL, "fresh@test.com");
+    }
+
+    @Test
+    void signup_FilterMissButTakenOnAnotherInstance_ReturnsDuplicateEmailInsteadOf500() {
+        UserSignupRequest request = new UserSignupRequest("fresh", "password", "nickname", "taken@test.com");
+        when(takenIdentifierFilter.mightBeTaken(any(), anyString())).thenReturn(false);
+        when(passwordEncoder.encode("password")).thenReturn("encodedPw");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new RuntimeException("Duplicate entry 'taken@test.com' for key 'users.UK_email'")));
+
+        assertThatThrownBy(() -> userService.signup(request))
+                .isSameAs(ErrorCode.DUPLICATE_EMAIL.exception());
+        verify(takenIdentifierFilter, never()).add(any(), anyString());
+    }
+
     @Test
     void updateUser_Successful_WhenPasswordMatches() {
         // given
@@ -132,4 +176,43 @@ class UserServiceTest {
         verify(authValidator).validateAuthor(user, userId);
         verify(userRepository).delete(user);
     }
-}
\ No newline at end of file
+
+    @Test
+    void login_WrongPassword_DoesNotWriteUserRow_UntilLockTransition() {
+        User user = User.builder().id(1L).username("tester").password("encodedPw").build();
+        when(userRepository.findByUsername("tester")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("wrong", "encodedPw")).thenReturn(false);
+        when(loginAttemptStore.recordFailure("tester")).thenReturn(0L, 1800L);
+
+        LoginRequest request = new LoginRequest("tester", "wrong");
+        assertThatThrownBy(() -> userService.login(request, "10.0.0.1"))
+                .isSameAs(ErrorCode.INVALID_CREDENTIALS.exception());
+        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).lockAccount(anyLong(), any());
+
+        // 잠금으로 전환되는 실패에서만 단건 UPDATE
+        assertThatThrownBy(() -> userService.login(request, "10.0.0.1"))
+                .isSameAs(ErrorCode.INVALID_CREDENTIALS.exception());
+        verify(userRepository).lockAccount(eq(1L), any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void login_LockedInStore_RejectedBeforeDbLookup() {
+        when(loginAttemptStore.lockRemainingSeconds("tester")).thenReturn(90L);
+
+        assertThatThrownBy(() -> userService.login(new LoginRequest("tester", "pw"), "10.0.0.1"))
+                .isInstanceOf(LockedException.class)
+                .hasMessageContaining("1분 30초");
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
+    @Test
+    void login_Throttled_RejectedBeforeBcrypt() {
+        when(loginAttemptStore.acquireAttempt("tester", "10.0.0.1")).thenReturn(12L);
+
+        assertThatThrownBy(() -> userService.login(new LoginRequest("tester", "pw"), "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.precheckout.InMemoryPrecheckoutRegistry;
+import com.ll.P_A.payment.toss.HttpTossClient;
+import com.ll.P_A.security.RefreshTokenService;
+import com.ll.P_A.security.jwt.JwtTokenProvider;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드에서 우리 코드 경로가 캐리어 스레드를 고정(pinning)하지 않는지 JFR 로 확인
+ * - synchronized 안에서 블로킹(I/O, sleep, lock 대기)하면 jdk.VirtualThreadPinned 이벤트 발생
+ */
+class VirtualThreadPinningTest {
+
+    private HttpServer stub;
+    private HttpTossClient tossClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/v1/payments", ex -> {
+            ex.getRequestBody().readAllBytes();
+            byte[] body = "{\"paymentKey\":\"pk\",\"orderId\":\"1\",\"status\":\"DONE\",\"totalAmount\":1000,\"balanceAmount\":1000}"
+                    .getBytes(StandardCharsets.UTF_8);
+            ex.sendResponseHeaders(200, body.length);
+            ex.getResponseBody().write(body);
+            ex.close();
+        });
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.start();
+        tossClient = new HttpTossClient("http://127.0.0.1:" + stub.getAddress().getPort(), "test_sk",
+                1000, 2000, 1000, 4, 30, 0, 1, 100, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        tossClient.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void hotPaths_doNotPinCarrierThreads() throws Exception {
+        JwtTokenProvider jwt = new JwtTokenProvider(
+                "ThisIsALongEnoughJwtSecretForTests_AtLeast32Chars!!", "", "", "", 900_000, 1_209_600_000,
+                new SimpleMeterRegistry());
+        RefreshTokenService refreshTokens = new RefreshTokenService(new DefaultListableBeanFactory().getBeanProvider(
+                ResolvableType.forClassWithGenerics(RedisTemplate.class, String.class, Object.class)));
+        InMemoryPrecheckoutRegistry precheckout = new InMemoryPrecheckoutRegistry(30, 10_000);
+
+        List<RecordedEvent> pinned;
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            // 커넥션 풀(4)보다 많은 동시 요청 → 풀 대기(블로킹)까지 포함
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 32; i++) {
+                    int n = i;
+                    executor.submit(() -> {
+                        String token = jwt.generateAccessToken("user" + n);
+                        jwt.validateToken(token);
+                        refreshTokens.storeActiveToken("refresh-" + n, (long) n, "jti-" + n, "d", "f-" + n,
+                                Instant.now().plusSeconds(60));
+                        refreshTokens.findByToken("refresh-" + n);
+                        refreshTokens.revokeByToken("refresh-" + n);
+                        precheckout.register(String.valueOf(n), 1000);
+                        precheckout.expectedAmount(String.valueOf(n));
+                        tossClient.confirm("pk", String.valueOf(n), 1000, "confirm-" + n);
+                        return null;
+                    });
+                }
+            }
+
+            recording.stop();
+            Path dump = Files.createTempFile("pinning", ".jfr");
+            try {
+                recording.dump(dump);
+                pinned = RecordingFile.readAllEvents(dump);
+            } finally {
+                Files.deleteIfExists(dump);
+            }
+        }
+
+        List<String> ours = pinned.stream()
+                .filter(e -> e.getStackTrace() != null)
+                .filter(e -> e.getStackTrace().getFrames().stream().anyMatch(VirtualThreadPinningTest::isOurs))
+                .map(e -> e.getStackTrace().getFrames().stream()
+                        .filter(VirtualThreadPinningTest::isOurs)
+                        .findFirst().map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName())
+                        .orElse("?"))
+                .toList();
+        assertThat(ours).as("가상 스레드 pinning 발생 위치").isEmpty();
+    }
+
+    private static boolean isOurs(RecordedFrame frame) {
+        return frame.getMethod() != null
+                && frame.getMethod().getType().getName().startsWith("com.ll.P_A.")
+                && !frame.getMethod().getType().getName().contains("Test");
+    }
+}
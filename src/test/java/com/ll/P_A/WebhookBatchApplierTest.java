@@ -0,0 +1,141 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.payment.Payment;
+import com.ll.P_A.payment.payment.PaymentRepository;
+import com.ll.P_A.payment.payment.PaymentStateService;
+import com.ll.P_A.payment.payment.PaymentStatus;
+import com.ll.P_A.payment.webhook.WebhookBatchApplier;
+import com.ll.P_A.payment.webhook.WebhookEvent;
+import com.ll.P_A.payment.webhook.WebhookEventRepository;
+import com.ll.P_A.payment.webhook.WebhookEventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WebhookBatchApplierTest {
+
+    private WebhookEventRepository eventRepository;
+    private PaymentRepository paymentRepository;
+    private PaymentStateService paymentStateService;
+    private WebhookBatchApplier applier;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(WebhookEventRepository.class);
+        paymentRepository = mock(PaymentRepository.class);
+        paymentStateService = mock(PaymentStateService.class);
+        applier = new WebhookBatchApplier(eventRepository, paymentRepository, paymentStateService);
+    }
+
+    private WebhookEvent event(String id, String paymentKey, String status) {
+        return WebhookEvent.received(id, "PAYMENT_STATUS_CHANGED", paymentKey, status, null, "{}");
+    }
+
+    private Payment payment(String paymentKey) {
+        return Payment.builder().id(1L).paymentKey(paymentKey).amount(5000L).status(PaymentStatus.INITIATED).build();
+    }
+
+    @Test
+    void appliesEventsPerPaymentKeyInReceiptOrder_withSingleLookup() {
+        WebhookEvent done = event("e1", "pk_1", "DONE");
+        WebhookEvent canceled = event("e2", "pk_1", "CANCELED");
+        when(eventRepository.findByStatusOrderByIdAsc(eq(WebhookEventStatus.RECEIVED), any()))
+                .thenReturn(List.of(done, canceled));
+        Payment payment = payment("pk_1");
+        when(paymentRepository.findWithOrderByPaymentKeyIn(anyCollection())).thenReturn(List.of(payment));
+
+        int completed = applier.applyNextBatch(200, 3);
+
+        assertThat(completed).isEqualTo(2);
+        assertThat(done.getStatus()).isEqualTo(WebhookEventStatus.PROCESSED);
+        assertThat(canceled.getStatus()).isEqualTo(WebhookEventStatus.PROCESSED);
+        InOrder order = inOrder(paymentStateService);
+        order.verify(paymentStateService).applyPgStatus(payment, "DONE", null);
+        order.verify(paymentStateService).applyPgStatus(payment, "CANCELED", null);
+        verify(paymentRepository, times(1)).findWithOrderByPaymentKeyIn(anyCollection());
+    }
+
+    @Test
+    void failedEvent_holdsBackLaterEventsOfSamePaymentKey() {
+        WebhookEvent first = event("e1", "pk_1", "DONE");
+        WebhookEvent second = event("e2", "pk_1", "CANCELED");
+        when(eventRepository.findByStatusOrderByIdAsc(eq(WebhookEventStatus.RECEIVED), any()))
+                .thenReturn(List.of(first, second));
+        Payment payment = payment("pk_1");
+        when(paymentRepository.findWithOrderByPaymentKeyIn(anyCollection())).thenReturn(List.of(payment));
+        when(paymentStateService.applyPgStatus(payment, "DONE", null)).thenThrow(new IllegalStateException("주문 상태 불가"));
+
+        int completed = applier.applyNextBatch(200, 3);
+
+        assertThat(completed).isZero();
+        assertThat(first.getStatus()).isEqualTo(WebhookEventStatus.RECEIVED);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(second.getAttempts()).isZero();
+        verify(paymentStateService, never()).applyPgStatus(payment, "CANCELED", null);
+    }
+
+    @Test
+    void unknownPayment_isIgnoredAfterMaxAttempts() {
+        WebhookEvent orphan = event("e1", "pk_x", "DONE");
+        when(eventRepository.findByStatusOrderByIdAsc(eq(WebhookEventStatus.RECEIVED), any()))
+                .thenReturn(List.of(orphan));
+        when(paymentRepository.findWithOrderByPaymentKeyIn(anyCollection())).thenReturn(List.of());
+
+        applier.applyNextBatch(200, 2);
+        applier.applyNextBatch(200, 2);
+
+        assertThat(orphan.getStatus()).isEqualTo(WebhookEventStatus.IGNORED);
+        verifyNoInteractions(paymentStateService);
+    }
+
+    @Test
+    void unexpectedException_isRetriedUntilMaxAttemptsThenIgnored() {
+        WebhookEvent poison = event("e1", "pk_1", "DONE");
+        when(eventRepository.findByStatusOrderByIdAsc(eq(WebhookEventStatus.RECEIVED), any()))
+                .thenReturn(List.of(poison));
+        Payment payment = payment("pk_1");
+        when(paymentRepository.findWithOrderByPaymentKeyIn(anyCollection())).thenReturn(List.of(payment));
+        when(paymentStateService.applyPgStatus(payment, "DONE", null)).thenThrow(new NullPointerException("bad payload"));
+
+        applier.applyNextBatch(200, 2);
+        assertThat(poison.getStatus()).isEqualTo(WebhookEventStatus.RECEIVED);
+        applier.applyNextBatch(200, 2);
+
+        assertThat(poison.getStatus()).isEqualTo(WebhookEventStatus.IGNORED);
+        assertThat(poison.getLastError()).contains("NullPointerException");
+    }
+
+    @Test
+    void optimisticConflict_propagatesForBatchRetry() {
+        WebhookEvent event = event("e1", "pk_1", "DONE");
+        when(eventRepository.findByStatusOrderByIdAsc(eq(WebhookEventStatus.RECEIVED), any()))
+                .thenReturn(List.of(event));
+        Payment payment = payment("pk_1");
+        when(paymentRepository.findWithOrderByPaymentKeyIn(anyCollection())).thenReturn(List.of(payment));
+        when(paymentStateService.applyPgStatus(payment, "DONE", null))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Payment.class, 1L));
+
+        assertThatThrownBy(() -> applier.applyNextBatch(200, 3))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(event.getAttempts()).isZero();
+    }
+
+    @Test
+    void recordHeadFailure_countsAttemptOnOldestReceivedEvent() {
+        WebhookEvent head = event("e1", "pk_1", "DONE");
+        when(eventRepository.findByStatusOrderByIdAsc(eq(WebhookEventStatus.RECEIVED), any()))
+                .thenReturn(List.of(head));
+
+        applier.recordHeadFailure("DataIntegrityViolationException", 1);
+
+        assertThat(head.getStatus()).isEqualTo(WebhookEventStatus.IGNORED);
+    }
+}
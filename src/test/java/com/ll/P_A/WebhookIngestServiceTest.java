@@ -0,0 +1,34 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.webhook.WebhookEvent;
+import com.ll.P_A.payment.webhook.WebhookEventRepository;
+import com.ll.P_A.payment.webhook.WebhookIngestService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class WebhookIngestServiceTest {
+
+    private static final byte[] BODY =
+            "{\"data\":{\"paymentKey\":\"pk\",\"status\":\"DONE\"}}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void eventId_isDerivedFromSignedBodyAndTime() {
+        WebhookEventRepository repository = mock(WebhookEventRepository.class);
+        WebhookIngestService ingestService = new WebhookIngestService(repository);
+
+        ingestService.ingest(BODY, "2025-03-01T10:00:00+09:00");
+        ingestService.ingest(BODY, "2025-03-01T10:00:00+09:00");
+        ingestService.ingest(BODY, "2025-03-01T10:00:05+09:00");
+
+        ArgumentCaptor<WebhookEvent> captor = ArgumentCaptor.forClass(WebhookEvent.class);
+        verify(repository, times(3)).saveAndFlush(captor.capture());
+        // 같은 서명 대상의 재전송은 같은 키 → 유니크 제약으로 한 번만 저장
+        assertThat(captor.getAllValues().get(0).getEventId()).isEqualTo(captor.getAllValues().get(1).getEventId());
+        assertThat(captor.getAllValues().get(2).getEventId()).isNotEqualTo(captor.getAllValues().get(0).getEventId());
+    }
+}
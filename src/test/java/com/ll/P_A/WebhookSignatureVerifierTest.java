@@ -0,0 +1,73 @@
+package com.ll.P_A;
+
+import com.ll.P_A.payment.webhook.WebhookSignatureVerifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebhookSignatureVerifierTest {
+
+    private static final byte[] BODY = "{\"status\":\"DONE\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void blankSecret_rejectsUnsignedByDefault() {
+        WebhookSignatureVerifier verifier = new WebhookSignatureVerifier("", false, 300, new MockEnvironment());
+
+        assertThat(verifier.verify(BODY, null, null)).isFalse();
+    }
+
+    @Test
+    void blankSecret_allowsUnsignedOnlyWhenOptedIn() {
+        WebhookSignatureVerifier verifier = new WebhookSignatureVerifier("", true, 300, new MockEnvironment());
+
+        assertThat(verifier.verify(BODY, null, null)).isTrue();
+    }
+
+    @Test
+    void allowUnsigned_failsStartupUnderProdProfile() {
+        MockEnvironment prod = new MockEnvironment();
+        prod.setActiveProfiles("prod");
+
+        assertThatThrownBy(() -> new WebhookSignatureVerifier("", true, 300, prod))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void configuredSecret_acceptsOnlyValidSignature() throws Exception {
+        WebhookSignatureVerifier verifier = new WebhookSignatureVerifier("s3cret", true, 300, new MockEnvironment());
+        String now = String.valueOf(Instant.now().getEpochSecond());
+        String signature = sign(now);
+
+        assertThat(verifier.verify(BODY, signature, now)).isTrue();
+        assertThat(verifier.verify(BODY, signature, String.valueOf(Long.parseLong(now) + 1))).isFalse();
+        assertThat(verifier.verify(BODY, null, null)).isFalse(); // 시크릿이 있으면 allow-unsigned 무시
+    }
+
+    @Test
+    void validSignature_outsideTimeWindow_isRejectedAsReplay() throws Exception {
+        WebhookSignatureVerifier verifier = new WebhookSignatureVerifier("s3cret", false, 300, new MockEnvironment());
+        String stale = String.valueOf(Instant.now().minusSeconds(3600).getEpochSecond());
+        String isoNow = OffsetDateTime.now().toString();
+
+        assertThat(verifier.verify(BODY, sign(stale), stale)).isFalse();
+        assertThat(verifier.verify(BODY, sign(isoNow), isoNow)).isTrue();
+        assertThat(verifier.verify(BODY, sign("garbage"), "garbage")).isFalse();
+    }
+
+    private static String sign(String transmissionTime) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec("s3cret".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        mac.update(BODY);
+        mac.update((":" + transmissionTime).getBytes(StandardCharsets.UTF_8));
+        return "v1:" + Base64.getEncoder().encodeToString(mac.doFinal());
+    }
+}